@@ -37,7 +37,9 @@ public interface CourseController {
       @Parameter(hidden = true) Authentication authentication,
       @Valid @RequestBody SaveCourseRequest request);
 
-  @Operation(summary = "내 여행 코스 목록 조회", description = "사용자가 저장한 코스 목록을 조회합니다.")
+  @Operation(
+      summary = "내 여행 코스 목록 조회",
+      description = "사용자가 저장한 코스 목록을 조회합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
   @GetMapping("/users")
   ResponseEntity<ApiResponse<CourseResponse.CourseListDTO>> getMyCourses(
       @Parameter(hidden = true) Authentication authentication,
@@ -48,7 +50,11 @@ public interface CourseController {
           @Parameter(
               description = "정렬 옵션 (LATEST: 코스 저장 최신순, OLDEST: 코스 저장 오래된순)",
               example = "LATEST")
-          CourseSortBy sortBy);
+          CourseSortBy sortBy,
+      @RequestParam(required = false) @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+          String cursor,
+      @RequestParam(defaultValue = "20") @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+          Integer size);
 
   @Operation(summary = "여행 코스 상세 조회", description = "코스 ID로 상세 정보를 조회합니다.")
   @GetMapping("/{courseId}")
@@ -56,6 +62,12 @@ public interface CourseController {
       @Parameter(hidden = true) Authentication authentication,
       @PathVariable @Parameter(description = "코스 ID", example = "1") Long courseId);
 
+  @Operation(summary = "여행 코스 날씨 조회", description = "코스의 일차별, 방문 장소별 날씨를 한 번에 조회합니다.")
+  @GetMapping("/{courseId}/weather")
+  ResponseEntity<ApiResponse<CourseResponse.CourseWeatherDTO>> getCourseWeather(
+      @Parameter(hidden = true) Authentication authentication,
+      @PathVariable @Parameter(description = "코스 ID", example = "1") Long courseId);
+
   @Operation(summary = "여행 코스 삭제", description = "코스 ID로 코스를 삭제합니다.")
   @DeleteMapping("/{courseId}")
   ResponseEntity<ApiResponse<Void>> deleteCourse(
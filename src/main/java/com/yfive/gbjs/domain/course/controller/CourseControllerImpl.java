@@ -15,6 +15,7 @@ import com.yfive.gbjs.domain.course.dto.response.CourseResponse;
 import com.yfive.gbjs.domain.course.entity.CourseSortBy;
 import com.yfive.gbjs.domain.course.service.CourseService;
 import com.yfive.gbjs.global.common.response.ApiResponse;
+import com.yfive.gbjs.global.security.CurrentUser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,7 +24,7 @@ import lombok.RequiredArgsConstructor;
 public class CourseControllerImpl implements CourseController {
 
   private final CourseService courseService;
-  private final com.yfive.gbjs.domain.user.service.UserService userService;
+  private final CurrentUser currentUser;
 
   @Override
   public ResponseEntity<ApiResponse<CourseResponse.CourseDetailDTO>> generateCourse(
@@ -35,7 +36,7 @@ public class CourseControllerImpl implements CourseController {
   @Override
   public ResponseEntity<ApiResponse<CourseResponse.CourseDetailDTO>> saveCourse(
       Authentication authentication, SaveCourseRequest request) {
-    Long userId = userService.getCurrentUser().getId();
+    Long userId = currentUser.getId();
     CourseResponse.CourseDetailDTO response = courseService.saveCourse(userId, request);
     return ResponseEntity.ok(ApiResponse.success(response));
   }
@@ -43,24 +44,36 @@ public class CourseControllerImpl implements CourseController {
   @Override
   public ResponseEntity<ApiResponse<CourseResponse.CourseDetailDTO>> getCourse(
       Authentication authentication, Long courseId) {
-    Long userId = userService.getCurrentUser().getId();
+    Long userId = currentUser.getId();
     CourseResponse.CourseDetailDTO response = courseService.getCourse(userId, courseId);
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
+  @Override
+  public ResponseEntity<ApiResponse<CourseResponse.CourseWeatherDTO>> getCourseWeather(
+      Authentication authentication, Long courseId) {
+    Long userId = currentUser.getId();
+    CourseResponse.CourseWeatherDTO response = courseService.getCourseWeather(userId, courseId);
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+
   @Override
   public ResponseEntity<ApiResponse<CourseResponse.CourseListDTO>> getMyCourses(
-      Authentication authentication, List<String> locationNames, CourseSortBy sortBy) {
-    Long userId = userService.getCurrentUser().getId();
+      Authentication authentication,
+      List<String> locationNames,
+      CourseSortBy sortBy,
+      String cursor,
+      Integer size) {
+    Long userId = currentUser.getId();
     CourseResponse.CourseListDTO response =
-        courseService.getUserCourses(userId, locationNames, sortBy);
+        courseService.getUserCourses(userId, locationNames, sortBy, cursor, size);
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
   @Override
   public ResponseEntity<ApiResponse<Void>> deleteCourse(
       Authentication authentication, Long courseId) {
-    Long userId = userService.getCurrentUser().getId();
+    Long userId = currentUser.getId();
     courseService.deleteCourse(userId, courseId);
     return ResponseEntity.ok(ApiResponse.success(null));
   }
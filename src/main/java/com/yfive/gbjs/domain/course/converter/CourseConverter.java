@@ -4,7 +4,10 @@
 package com.yfive.gbjs.domain.course.converter;
 
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
@@ -13,6 +16,8 @@ import com.yfive.gbjs.domain.course.dto.response.CourseResponse;
 import com.yfive.gbjs.domain.course.entity.*;
 import com.yfive.gbjs.domain.course.entity.mapper.DailyCourseSpot;
 import com.yfive.gbjs.domain.course.exception.CourseErrorStatus;
+import com.yfive.gbjs.domain.course.repository.CourseRepository.CourseDetailRow;
+import com.yfive.gbjs.domain.course.util.SpotDistanceMatrix;
 import com.yfive.gbjs.domain.seal.entity.Location;
 import com.yfive.gbjs.domain.seal.entity.SealSpot;
 import com.yfive.gbjs.domain.seal.entity.SealSpotCategory;
@@ -36,17 +41,90 @@ public class CourseConverter {
         .build();
   }
 
+  /**
+   * Course 엔티티와 평탄화된 일차-관광지 행을 상세 응답 DTO로 변환합니다. 연관 엔티티를 지연 로딩하지 않습니다.
+   *
+   * @param course 코스
+   * @param rows 일차, 방문 순서 순으로 정렬된 행
+   */
+  public CourseResponse.CourseDetailDTO toCourseDetailDTO(
+      Course course, List<CourseDetailRow> rows) {
+    Map<Integer, List<CourseDetailRow>> rowsByDay = new LinkedHashMap<>();
+    for (CourseDetailRow row : rows) {
+      rowsByDay.computeIfAbsent(row.getDayNumber(), dayNumber -> new ArrayList<>()).add(row);
+    }
+
+    List<CourseResponse.DailyCourseDTO> dailyCourses = new ArrayList<>(rowsByDay.size());
+    for (List<CourseDetailRow> dayRows : rowsByDay.values()) {
+      CourseDetailRow day = dayRows.get(0);
+      List<CourseResponse.SimpleSpotDTO> spots =
+          dayRows.stream()
+              .filter(row -> row.getSealSpotId() != null)
+              .map(this::toSimpleSpotDTO)
+              .collect(Collectors.toList());
+      dailyCourses.add(
+          CourseResponse.DailyCourseDTO.builder()
+              .dayNumber(day.getDayNumber())
+              .date(day.getVisitDate())
+              .location(getLocationKoreanName(day.getLocation()))
+              .spots(spots)
+              .totalDistanceKm(calculateTotalDistance(spots))
+              .build());
+    }
+
+    return CourseResponse.CourseDetailDTO.builder()
+        .id(course.getId())
+        .title(course.getTitle())
+        .startDate(course.getStartDate())
+        .endDate(course.getEndDate())
+        .dailyCourses(dailyCourses)
+        .build();
+  }
+
   /** DailyCourse 엔티티를 일차별 응답 DTO로 변환합니다. */
   public CourseResponse.DailyCourseDTO toDailyCourseDTO(DailyCourse dailyCourse) {
+    List<CourseResponse.SimpleSpotDTO> spots =
+        dailyCourse.getSpots().stream().map(this::toSimpleSpotDTO).collect(Collectors.toList());
     return CourseResponse.DailyCourseDTO.builder()
         .dayNumber(dailyCourse.getDayNumber())
         .date(dailyCourse.getDate())
         .location(getLocationKoreanName(dailyCourse.getLocation()))
-        .spots(
-            dailyCourse.getSpots().stream().map(this::toSimpleSpotDTO).collect(Collectors.toList()))
+        .spots(spots)
+        .totalDistanceKm(calculateTotalDistance(spots))
         .build();
   }
 
+  /**
+   * 방문 순서대로 장소 간 직선 거리를 합산합니다. 좌표가 없는 장소는 건너뜁니다.
+   *
+   * @param spots 방문 순서대로 정렬된 장소 목록
+   * @return 총 이동 거리 (km, 소수점 2자리)
+   */
+  public double calculateTotalDistance(List<CourseResponse.SimpleSpotDTO> spots) {
+    double distance = 0;
+    CourseResponse.SimpleSpotDTO previous = null;
+    for (CourseResponse.SimpleSpotDTO spot : spots) {
+      if (spot.getLatitude() == null || spot.getLongitude() == null) {
+        continue;
+      }
+      if (previous != null) {
+        distance +=
+            SpotDistanceMatrix.haversineKm(
+                previous.getLatitude(),
+                previous.getLongitude(),
+                spot.getLatitude(),
+                spot.getLongitude());
+      }
+      previous = spot;
+    }
+    return roundDistance(distance);
+  }
+
+  /** 거리를 소수점 2자리까지 반올림합니다. */
+  public double roundDistance(double distanceKm) {
+    return Math.round(distanceKm * 100.0) / 100.0;
+  }
+
   /** DailyCourseSpot 엔티티를 관광지 응답 DTO로 변환합니다. */
   public CourseResponse.SpotDTO toSpotDTO(DailyCourseSpot dailyCourseSpot) {
     SealSpot sealSpot = dailyCourseSpot.getSealSpot();
@@ -79,6 +157,21 @@ public class CourseConverter {
         .build();
   }
 
+  /** 코스 상세 조회 행을 간략한 관광지 응답 DTO로 변환합니다. */
+  private CourseResponse.SimpleSpotDTO toSimpleSpotDTO(CourseDetailRow row) {
+    return CourseResponse.SimpleSpotDTO.builder()
+        .spotId(row.getSpotId())
+        .visitOrder(row.getVisitOrder())
+        .name(row.getName())
+        .category(row.getCategory() != null ? getCategoryKoreanName(row.getCategory()) : null)
+        .addr1(row.getAddr1())
+        .latitude(row.getLatitude())
+        .longitude(row.getLongitude())
+        .isSealSpot(true)
+        .sealSpotId(row.getSealSpotId())
+        .build();
+  }
+
   /** Course 엔티티를 요약 응답 DTO로 변환합니다. 목록 조회 시 사용 (상세 정보 제외) */
   public CourseResponse.CourseSummaryDTO toCourseSummaryDTO(
       Course course, int totalCollectableSeals, int userCollectedSeals) {
@@ -32,6 +32,12 @@ public class CourseRequest {
     @Size(min = 1)
     @Schema(description = "방문할 지역 목록", example = "[\"경주시\", \"포항시\", \"안동시\"]")
     private List<String> locations;
+
+    @Schema(
+        description =
+            "관광지 선택 시드 (이전 생성 응답의 seed를 넘기면 씰 관광지 목록이 바뀌지 않은 한 같은 관광지와 동선 유지, 생략 시 무작위)",
+        example = "4242")
+    private Long seed;
   }
 
   @Getter
@@ -6,6 +6,8 @@ package com.yfive.gbjs.domain.course.dto.response;
 import java.time.LocalDate;
 import java.util.List;
 
+import com.yfive.gbjs.domain.weather.dto.response.WeatherResponse;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -31,6 +33,9 @@ public class CourseResponse {
 
     @Schema(description = "일차별 코스 목록")
     private List<DailyCourseDTO> dailyCourses;
+
+    @Schema(description = "코스 생성에 사용한 시드 (생성 API 응답에만 포함)", example = "4242")
+    private Long seed;
   }
 
   @Builder
@@ -50,6 +55,9 @@ public class CourseResponse {
 
     @Schema(description = "방문 장소 목록")
     private List<SimpleSpotDTO> spots;
+
+    @Schema(description = "총 이동 거리 (km, 방문 순서대로 장소 간 직선 거리 합)", example = "12.34")
+    private Double totalDistanceKm;
   }
 
   @Builder
@@ -123,8 +131,14 @@ public class CourseResponse {
     @Schema(description = "코스 목록")
     private List<CourseSummaryDTO> courses;
 
-    @Schema(description = "전체 코스 수", example = "10")
-    private int totalCount;
+    @Schema(description = "전체 코스 수 (첫 페이지에서만 반환, 다음 페이지는 null)", example = "10")
+    private Integer totalCount;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wOS0wMVQxMjowMHw0Mg")
+    private String nextCursor;
   }
 
   @Builder
@@ -157,4 +171,55 @@ public class CourseResponse {
     @Schema(description = "코스 내 수집한 띠부씰 수", example = "2")
     private int userCollectedSeals;
   }
+
+  @Builder
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(title = "CourseWeather : 여행 코스 날씨 정보")
+  public static class CourseWeatherDTO {
+    @Schema(description = "코스 ID", example = "1")
+    private Long courseId;
+
+    @Schema(description = "일차별 날씨 목록")
+    private List<DailyWeatherDTO> dailyWeathers;
+  }
+
+  @Builder
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(title = "DailyWeather : 일차별 날씨 정보")
+  public static class DailyWeatherDTO {
+    @Schema(description = "일차", example = "1")
+    private Integer dayNumber;
+
+    @Schema(description = "날짜", example = "2025-12-01")
+    private LocalDate date;
+
+    @Schema(description = "지역", example = "경주시")
+    private String location;
+
+    @Schema(description = "방문 장소별 날씨 목록")
+    private List<SpotWeatherDTO> spots;
+  }
+
+  @Builder
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(title = "SpotWeather : 방문 장소 날씨 정보")
+  public static class SpotWeatherDTO {
+    @Schema(description = "관광지 ID", example = "1")
+    private Long spotId;
+
+    @Schema(description = "씰 관광지 ID", example = "2")
+    private Long sealSpotId;
+
+    @Schema(description = "방문 순서", example = "1")
+    private Integer visitOrder;
+
+    @Schema(description = "해당 날짜의 날씨 (단기예보 범위를 벗어나면 null)")
+    private WeatherResponse weather;
+  }
 }
@@ -9,6 +9,8 @@ import java.util.List;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.BatchSize;
+
 import com.yfive.gbjs.domain.user.entity.User;
 import com.yfive.gbjs.global.common.entity.BaseTimeEntity;
 
@@ -19,7 +21,9 @@ import lombok.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "course")
+@Table(
+    name = "course",
+    indexes = @Index(name = "idx_course_user_created", columnList = "user_id, created_at, id"))
 public class Course extends BaseTimeEntity {
 
   @Id
@@ -41,6 +45,7 @@ public class Course extends BaseTimeEntity {
 
   @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
   @OrderBy("dayNumber ASC")
+  @BatchSize(size = 100)
   @Builder.Default
   private List<DailyCourse> dailyCourses = new ArrayList<>();
 
@@ -9,6 +9,8 @@ import java.util.List;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.BatchSize;
+
 import com.yfive.gbjs.domain.course.entity.mapper.DailyCourseSpot;
 import com.yfive.gbjs.domain.seal.entity.Location;
 import com.yfive.gbjs.global.common.entity.BaseTimeEntity;
@@ -44,6 +46,7 @@ public class DailyCourse extends BaseTimeEntity {
 
   @OneToMany(mappedBy = "dailyCourse", cascade = CascadeType.ALL, orphanRemoval = true)
   @OrderBy("visitOrder ASC")
+  @BatchSize(size = 100)
   @Builder.Default
   private List<DailyCourseSpot> spots = new ArrayList<>();
 
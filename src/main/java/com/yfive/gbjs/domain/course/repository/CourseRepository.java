@@ -3,14 +3,20 @@
  */
 package com.yfive.gbjs.domain.course.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.yfive.gbjs.domain.course.entity.Course;
+import com.yfive.gbjs.domain.seal.entity.Location;
+import com.yfive.gbjs.domain.seal.entity.SealSpotCategory;
 import com.yfive.gbjs.domain.user.entity.User;
 
 @Repository
@@ -23,4 +29,163 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
   List<Course> findByUser(@Param("user") User user);
 
   boolean existsByIdAndUserId(Long courseId, Long userId);
+
+  /**
+   * 사용자의 코스를 커서 이후부터 생성 시각 내림차순(최신순)으로 조회합니다. (created_at, id) 키셋 조건으로 페이지 위치와 무관하게 일정한 비용으로
+   * 조회합니다.
+   *
+   * @param userId 사용자 ID
+   * @param allLocations true이면 지역 필터를 적용하지 않음
+   * @param locations 방문 지역 필터 (하루라도 해당 지역을 방문하는 코스만 조회)
+   * @param createdAt 커서의 생성 시각
+   * @param id 커서의 코스 ID
+   * @param pageable 조회 개수 (offset은 항상 0)
+   * @return 코스 목록
+   */
+  @Query(
+      "SELECT c FROM Course c WHERE c.user.id = :userId"
+          + " AND (:allLocations = true OR EXISTS (SELECT 1 FROM DailyCourse dc"
+          + " WHERE dc.course = c AND dc.location IN :locations))"
+          + " AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))"
+          + " ORDER BY c.createdAt DESC, c.id DESC")
+  List<Course> findLatestPage(
+      @Param("userId") Long userId,
+      @Param("allLocations") boolean allLocations,
+      @Param("locations") Collection<Location> locations,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  /** 사용자의 코스를 커서 이후부터 생성 시각 오름차순(오래된순)으로 조회합니다. 파라미터는 {@link #findLatestPage}와 같습니다. */
+  @Query(
+      "SELECT c FROM Course c WHERE c.user.id = :userId"
+          + " AND (:allLocations = true OR EXISTS (SELECT 1 FROM DailyCourse dc"
+          + " WHERE dc.course = c AND dc.location IN :locations))"
+          + " AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))"
+          + " ORDER BY c.createdAt ASC, c.id ASC")
+  List<Course> findOldestPage(
+      @Param("userId") Long userId,
+      @Param("allLocations") boolean allLocations,
+      @Param("locations") Collection<Location> locations,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  /** 지역 필터를 만족하는 사용자의 전체 코스 수를 조회합니다. */
+  @Query(
+      "SELECT COUNT(c) FROM Course c WHERE c.user.id = :userId"
+          + " AND (:allLocations = true OR EXISTS (SELECT 1 FROM DailyCourse dc"
+          + " WHERE dc.course = c AND dc.location IN :locations))")
+  long countByUserIdAndLocations(
+      @Param("userId") Long userId,
+      @Param("allLocations") boolean allLocations,
+      @Param("locations") Collection<Location> locations);
+
+  /**
+   * 코스 상세 정보를 일차-관광지 단위의 평탄화된 행으로 한 번의 쿼리로 조회합니다.
+   *
+   * @param courseId 코스 ID
+   * @return 일차, 방문 순서 순으로 정렬된 행 (관광지가 없는 일차는 관광지 필드가 null인 한 행)
+   */
+  @Query(
+      "SELECT dc.dayNumber AS dayNumber, dc.date AS visitDate, dc.location AS location,"
+          + " dcs.visitOrder AS visitOrder, ss.id AS sealSpotId, ss.spotId AS spotId,"
+          + " ss.name AS name, ss.category AS category, ss.addr1 AS addr1,"
+          + " ss.latitude AS latitude, ss.longitude AS longitude"
+          + " FROM DailyCourse dc LEFT JOIN dc.spots dcs LEFT JOIN dcs.sealSpot ss"
+          + " WHERE dc.course.id = :courseId"
+          + " ORDER BY dc.dayNumber ASC, dcs.visitOrder ASC")
+  List<CourseDetailRow> findDetailRowsByCourseId(@Param("courseId") Long courseId);
+
+  /**
+   * 코스 날씨 조회에 필요한 일차-관광지 행을 한 번의 쿼리로 조회합니다. 방문 장소 좌표가 없으면 씰 관광지 좌표를 사용합니다.
+   *
+   * @param courseId 코스 ID
+   * @return 일차, 방문 순서 순으로 정렬된 행 (관광지가 없는 일차는 관광지 필드가 null인 한 행)
+   */
+  @Query(
+      "SELECT dc.dayNumber AS dayNumber, dc.date AS visitDate, dc.location AS location,"
+          + " dcs.visitOrder AS visitOrder, dcs.spotId AS spotId, ss.id AS sealSpotId,"
+          + " CASE WHEN dcs.latitude IS NULL OR dcs.longitude IS NULL"
+          + " THEN ss.latitude ELSE dcs.latitude END AS latitude,"
+          + " CASE WHEN dcs.latitude IS NULL OR dcs.longitude IS NULL"
+          + " THEN ss.longitude ELSE dcs.longitude END AS longitude"
+          + " FROM DailyCourse dc LEFT JOIN dc.spots dcs LEFT JOIN dcs.sealSpot ss"
+          + " WHERE dc.course.id = :courseId"
+          + " ORDER BY dc.dayNumber ASC, dcs.visitOrder ASC")
+  List<CourseWeatherRow> findWeatherRowsByCourseId(@Param("courseId") Long courseId);
+
+  /**
+   * 사용자의 코스별 띠부씰 수와 그중 사용자가 수집한 띠부씰 수를 한 번의 쿼리로 조회합니다.
+   *
+   * @param userId 사용자 ID
+   * @param courseIds 조회할 코스 ID 목록
+   * @return 코스별 띠부씰 수 (띠부씰이 없는 코스는 포함되지 않음)
+   */
+  @Query(
+      "SELECT c.id AS courseId, COUNT(DISTINCT s.id) AS totalSeals,"
+          + " COUNT(DISTINCT us.id) AS collectedSeals"
+          + " FROM Course c JOIN c.dailyCourses dc JOIN dc.spots dcs"
+          + " JOIN Seal s ON s.sealSpot = dcs.sealSpot"
+          + " LEFT JOIN UserSeal us ON us.seal = s AND us.user.id = :userId"
+          + " WHERE c.user.id = :userId AND c.id IN :courseIds"
+          + " GROUP BY c.id")
+  List<CourseSealCount> countSealsByCourseIds(
+      @Param("userId") Long userId, @Param("courseIds") Collection<Long> courseIds);
+
+  /** 코스 상세 조회용 일차-관광지 행 */
+  interface CourseDetailRow {
+
+    Integer getDayNumber();
+
+    LocalDate getVisitDate();
+
+    Location getLocation();
+
+    Integer getVisitOrder();
+
+    Long getSealSpotId();
+
+    Long getSpotId();
+
+    String getName();
+
+    SealSpotCategory getCategory();
+
+    String getAddr1();
+
+    Double getLatitude();
+
+    Double getLongitude();
+  }
+
+  /** 코스 날씨 조회용 일차-관광지 행 */
+  interface CourseWeatherRow {
+
+    Integer getDayNumber();
+
+    LocalDate getVisitDate();
+
+    Location getLocation();
+
+    Integer getVisitOrder();
+
+    Long getSpotId();
+
+    Long getSealSpotId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+  }
+
+  /** 코스별 띠부씰 수 */
+  interface CourseSealCount {
+
+    Long getCourseId();
+
+    Long getTotalSeals();
+
+    Long getCollectedSeals();
+  }
 }
@@ -42,15 +42,28 @@ public interface CourseService {
   CourseResponse.CourseDetailDTO getCourse(Long userId, Long courseId);
 
   /**
-   * 사용자가 저장한 모든 코스 목록을 조회합니다.
+   * 코스의 일차별, 방문 장소별 날씨를 조회합니다. 방문 장소를 기상청 격자로 변환한 뒤 같은 격자는 한 번만 조회합니다.
+   *
+   * @param userId 사용자 ID (권한 확인용)
+   * @param courseId 조회할 코스 ID
+   * @return 코스 날씨 정보
+   * @throws CustomException 코스를 찾을 수 없거나 권한이 없는 경우
+   */
+  CourseResponse.CourseWeatherDTO getCourseWeather(Long userId, Long courseId);
+
+  /**
+   * 사용자가 저장한 코스 목록을 커서 기반으로 페이지 단위 조회합니다.
    *
    * @param userId 사용자 ID
    * @param locationNames 지역명 리스트
    * @param sortBy 정렬 기준
+   * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
    * @return 코스 목록 (요약 정보)
+   * @throws CustomException 지역명 또는 커서가 올바르지 않은 경우
    */
   CourseResponse.CourseListDTO getUserCourses(
-      Long userId, List<String> locationNames, CourseSortBy sortBy);
+      Long userId, List<String> locationNames, CourseSortBy sortBy, String cursor, int size);
 
   /**
    * 코스를 삭제합니다.
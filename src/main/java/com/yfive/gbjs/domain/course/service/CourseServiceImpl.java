@@ -6,9 +6,15 @@ package com.yfive.gbjs.domain.course.service;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.yfive.gbjs.domain.course.converter.CourseConverter;
@@ -21,39 +27,54 @@ import com.yfive.gbjs.domain.course.entity.DailyCourse;
 import com.yfive.gbjs.domain.course.entity.mapper.DailyCourseSpot;
 import com.yfive.gbjs.domain.course.exception.CourseErrorStatus;
 import com.yfive.gbjs.domain.course.repository.CourseRepository;
-import com.yfive.gbjs.domain.course.repository.DailyCourseRepository;
-import com.yfive.gbjs.domain.course.repository.DailyCourseSpotRespository;
+import com.yfive.gbjs.domain.course.repository.CourseRepository.CourseSealCount;
+import com.yfive.gbjs.domain.course.repository.CourseRepository.CourseWeatherRow;
+import com.yfive.gbjs.domain.course.util.CourseCursor;
+import com.yfive.gbjs.domain.course.util.CourseRouteOptimizer;
+import com.yfive.gbjs.domain.course.util.CourseRouteOptimizer.DailyRoute;
+import com.yfive.gbjs.domain.seal.cache.SealSpotSummary;
 import com.yfive.gbjs.domain.seal.entity.Location;
-import com.yfive.gbjs.domain.seal.entity.Seal;
 import com.yfive.gbjs.domain.seal.entity.SealSpot;
-import com.yfive.gbjs.domain.seal.repository.SealRepository;
 import com.yfive.gbjs.domain.seal.repository.SealSpotRepository;
-import com.yfive.gbjs.domain.seal.repository.UserSealRepository;
 import com.yfive.gbjs.domain.user.entity.User;
 import com.yfive.gbjs.domain.user.exception.UserErrorStatus;
 import com.yfive.gbjs.domain.user.repository.UserRepository;
+import com.yfive.gbjs.domain.weather.dto.response.WeatherResponse;
+import com.yfive.gbjs.domain.weather.service.WeatherService;
+import com.yfive.gbjs.domain.weather.service.WeatherService.GridCoord;
+import com.yfive.gbjs.domain.weather.util.KmaGridProjection;
 import com.yfive.gbjs.global.error.exception.CustomException;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /** 여행 코스 서비스 구현체 코스 생성, 저장, 조회, 삭제 등의 비즈니스 로직을 처리합니다. */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CourseServiceImpl implements CourseService {
 
+  /** 코스 목록 페이지 최대 크기 */
+  private static final int MAX_COURSE_PAGE_SIZE = 100;
+
+  /** 하루에 방문하는 최대 관광지 수 */
+  private static final int MAX_SPOTS_PER_DAY = 5;
+
   private final CourseRepository courseRepository;
   private final SealSpotRepository sealSpotRepository;
   private final UserRepository userRepository;
   private final CourseConverter courseConverter;
-  private final UserSealRepository userSealRepository;
-  private final SealRepository sealRepository;
-  private final DailyCourseSpotRespository dailyCourseSpotRespository;
-  private final DailyCourseRepository dailyCourseRepository;
+  private final WeatherService weatherService;
+  private final KmaGridProjection kmaGridProjection;
+  private final CourseRouteOptimizer courseRouteOptimizer;
+
+  @Qualifier("externalApiExecutor")
+  private final ThreadPoolTaskExecutor externalApiExecutor;
 
   /**
    * 여행 코스를 생성합니다. (DB 저장하지 않음) - 날짜 유효성 검증 - 자동으로 제목 생성 (예: "경주, 포항 2일 여행") - 각 일차별로 지역 분배 - 지역별
-   * 관광지를 랜덤으로 최대 5개씩 선택
+   * 관광지를 (DB 조회 없이 씰 관광지 풀에서) 최대 5개씩 선택하고 이동 거리가 짧은 순서로 방문 순서 결정
    */
   @Override
   public CourseResponse.CourseDetailDTO generateCourse(CreateCourseRequest request) {
@@ -73,36 +94,41 @@ public class CourseServiceImpl implements CourseService {
 
     List<CourseResponse.DailyCourseDTO> dailyCourses = new ArrayList<>();
     List<Location> locations = distributeLocations(locationEnums, (int) totalDays);
+    // 같은 지역을 여러 날 방문할 때 관광지가 겹치지 않도록 지역별로 선택한 관광지를 기록
+    Map<Location, BitSet> usedSpots = new EnumMap<>(Location.class);
+    // 시드가 같으면 같은 관광지와 동선을 생성 (날짜만 바꿔 다시 생성할 때 코스 유지)
+    long seed = request.getSeed() != null ? request.getSeed() : new SplittableRandom().nextLong();
+    SplittableRandom random = new SplittableRandom(seed);
 
     for (int dayNum = 1; dayNum <= totalDays; dayNum++) {
       LocalDate date = request.getStartDate().plusDays(dayNum - 1);
       Location location = locations.get(dayNum - 1);
 
-      List<SealSpot> sealSpots = sealSpotRepository.findByLocation(location);
-      List<CourseResponse.SimpleSpotDTO> spotDTOs = new ArrayList<>();
+      DailyRoute route =
+          courseRouteOptimizer.planDailyRoute(
+              location,
+              MAX_SPOTS_PER_DAY,
+              usedSpots.computeIfAbsent(location, key -> new BitSet()),
+              random);
 
-      if (!sealSpots.isEmpty()) {
-        Collections.shuffle(sealSpots);
-        int spotsPerDay = Math.min(sealSpots.size(), 5);
-
-        for (int i = 0; i < spotsPerDay; i++) {
-          SealSpot sealSpot = sealSpots.get(i);
-          spotDTOs.add(
-              CourseResponse.SimpleSpotDTO.builder()
-                  .spotId(sealSpot.getSpotId())
-                  .visitOrder(i + 1)
-                  .name(sealSpot.getName())
-                  .category(
-                      sealSpot.getCategory() != null
-                          ? courseConverter.getCategoryKoreanName(sealSpot.getCategory())
-                          : null)
-                  .addr1(sealSpot.getAddr1())
-                  .latitude(sealSpot.getLatitude())
-                  .longitude(sealSpot.getLongitude())
-                  .isSealSpot(true)
-                  .sealSpotId(sealSpot.getId())
-                  .build());
-        }
+      List<CourseResponse.SimpleSpotDTO> spotDTOs = new ArrayList<>();
+      for (int i = 0; i < route.spots().size(); i++) {
+        SealSpotSummary sealSpot = route.spots().get(i);
+        spotDTOs.add(
+            CourseResponse.SimpleSpotDTO.builder()
+                .spotId(sealSpot.spotId())
+                .visitOrder(i + 1)
+                .name(sealSpot.name())
+                .category(
+                    sealSpot.category() != null
+                        ? courseConverter.getCategoryKoreanName(sealSpot.category())
+                        : null)
+                .addr1(sealSpot.addr1())
+                .latitude(sealSpot.latitude())
+                .longitude(sealSpot.longitude())
+                .isSealSpot(true)
+                .sealSpotId(sealSpot.id())
+                .build());
       }
 
       dailyCourses.add(
@@ -111,6 +137,7 @@ public class CourseServiceImpl implements CourseService {
               .date(date)
               .location(courseConverter.getLocationKoreanName(location))
               .spots(spotDTOs)
+              .totalDistanceKm(courseConverter.roundDistance(route.distanceKm()))
               .build());
     }
 
@@ -119,12 +146,13 @@ public class CourseServiceImpl implements CourseService {
         .startDate(request.getStartDate())
         .endDate(request.getEndDate())
         .dailyCourses(dailyCourses)
+        .seed(seed)
         .build();
   }
 
   /**
-   * 생성된 코스를 DB에 저장합니다. - 사용자 존재 여부 확인 - Course 엔티티 생성 및 저장 - DailyCourse와 DailyCourseSpot 관계 설정 -
-   * 영속성 전이(Cascade)로 연관 엔티티 자동 저장
+   * 생성된 코스를 DB에 저장합니다. - 사용자 존재 여부 확인 - 관광지 일괄 조회 - Course, DailyCourse, DailyCourseSpot 관계를
+   * 메모리에서 구성 - 영속성 전이(Cascade)로 연관 엔티티를 한 번의 save로 저장
    */
   @Override
   @Transactional
@@ -152,47 +180,50 @@ public class CourseServiceImpl implements CourseService {
       title = generateTitle(locations, totalDays);
     }
 
-    Course course =
-        courseRepository.save(
-            Course.builder()
-                .user(user)
-                .title(title)
-                .startDate(request.getStartDate())
-                .endDate(request.getEndDate())
-                .build());
+    // 요청에 포함된 관광지를 한 번에 조회
+    Set<Long> sealSpotIds =
+        request.getDailyCourses().stream()
+            .filter(dailyCourseRequest -> dailyCourseRequest.getSpots() != null)
+            .flatMap(dailyCourseRequest -> dailyCourseRequest.getSpots().stream())
+            .map(SaveCourseRequest.SpotRequest::getSealSpotId)
+            .collect(Collectors.toSet());
+    Map<Long, SealSpot> sealSpots =
+        sealSpotRepository.findAllById(sealSpotIds).stream()
+            .collect(Collectors.toMap(SealSpot::getId, sealSpot -> sealSpot));
+    if (sealSpots.size() != sealSpotIds.size()) {
+      throw new CustomException(CourseErrorStatus._SPOT_NOT_FOUND);
+    }
 
-    // 요청에 포함된 일차별 코스 및 관광지 정보로 저장
+    Course course =
+        Course.builder()
+            .user(user)
+            .title(title)
+            .startDate(request.getStartDate())
+            .endDate(request.getEndDate())
+            .build();
+
+    // 코스 -> 일차별 코스 -> 관광지 그래프를 메모리에서 구성한 뒤 영속성 전이(Cascade)로 한 번에 저장
     for (SaveCourseRequest.DailyCourseRequest dailyCourseRequest : request.getDailyCourses()) {
       Location location =
           courseConverter.getLocationFromKoreanName(dailyCourseRequest.getLocation());
 
       DailyCourse dailyCourse =
-          dailyCourseRepository.save(
-              DailyCourse.builder()
-                  .dayNumber(dailyCourseRequest.getDayNumber())
-                  .date(dailyCourseRequest.getDate())
-                  .location(location)
-                  .course(course)
-                  .build());
+          DailyCourse.builder()
+              .dayNumber(dailyCourseRequest.getDayNumber())
+              .date(dailyCourseRequest.getDate())
+              .location(location)
+              .build();
 
       if (dailyCourseRequest.getSpots() != null) {
         for (SaveCourseRequest.SpotRequest spotRequest : dailyCourseRequest.getSpots()) {
-          SealSpot sealSpot =
-              sealSpotRepository
-                  .findById(spotRequest.getSealSpotId())
-                  .orElseThrow(() -> new CustomException(CourseErrorStatus._SPOT_NOT_FOUND));
-
-          DailyCourseSpot dailyCourseSpot =
-              dailyCourseSpotRespository.save(
-                  DailyCourseSpot.builder()
-                      .sealSpot(sealSpot)
-                      .spotId(spotRequest.getSpotId())
-                      .visitOrder(spotRequest.getVisitOrder())
-                      .latitude(spotRequest.getLatitude())
-                      .longitude(spotRequest.getLongitude())
-                      .dailyCourse(dailyCourse)
-                      .build());
-          dailyCourse.addSpot(dailyCourseSpot);
+          dailyCourse.addSpot(
+              DailyCourseSpot.builder()
+                  .sealSpot(sealSpots.get(spotRequest.getSealSpotId()))
+                  .spotId(spotRequest.getSpotId())
+                  .visitOrder(spotRequest.getVisitOrder())
+                  .latitude(spotRequest.getLatitude())
+                  .longitude(spotRequest.getLongitude())
+                  .build());
         }
       }
 
@@ -203,7 +234,10 @@ public class CourseServiceImpl implements CourseService {
     return courseConverter.toCourseDetailDTO(savedCourse);
   }
 
-  /** 특정 코스의 상세 정보를 조회합니다. - 코스 존재 여부 확인 - 본인 코스인지 권한 검증 */
+  /**
+   * 특정 코스의 상세 정보를 조회합니다. - 코스 존재 여부 확인 - 본인 코스인지 권한 검증 - 일차별 관광지를 평탄화된 행으로 한 번에 조회 (코스 길이와
+   * 무관하게 쿼리 2회)
+   */
   @Override
   public CourseResponse.CourseDetailDTO getCourse(Long userId, Long courseId) {
     Course course =
@@ -216,79 +250,185 @@ public class CourseServiceImpl implements CourseService {
       throw new CustomException(UserErrorStatus.UNAUTHORIZED);
     }
 
-    return courseConverter.toCourseDetailDTO(course);
+    return courseConverter.toCourseDetailDTO(
+        course, courseRepository.findDetailRowsByCourseId(courseId));
   }
 
-  /** 사용자의 모든 코스 목록을 조회합니다. - 시작일 기준 내림차순 정렬 - 코스 요약 정보만 반환 (상세 정보 제외) */
+  /**
+   * 코스의 방문 장소를 격자 좌표로 변환하고, 중복을 제거한 격자별 일별 예보를 병렬로 조회합니다. 예보 조회를 기다리는 동안 DB 커넥션을 점유하지 않도록
+   * 트랜잭션 없이 실행하며, 코스와 방문 장소는 각각 짧은 조회로 미리 읽어 둡니다.
+   */
   @Override
-  public CourseResponse.CourseListDTO getUserCourses(
-      Long userId, List<String> locationNames, CourseSortBy sortBy) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new CustomException(UserErrorStatus.USER_NOT_FOUND));
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public CourseResponse.CourseWeatherDTO getCourseWeather(Long userId, Long courseId) {
+    Course course =
+        courseRepository
+            .findById(courseId)
+            .orElseThrow(() -> new CustomException(CourseErrorStatus._COURSE_NOT_FOUND));
+
+    // 본인의 코스인지 확인
+    if (!course.getUser().getId().equals(userId)) {
+      throw new CustomException(UserErrorStatus.UNAUTHORIZED);
+    }
 
-    List<Course> courses = courseRepository.findByUser(user);
+    List<CourseWeatherRow> rows = courseRepository.findWeatherRowsByCourseId(courseId);
+
+    int size = rows.size();
+    double[] longitudes = new double[size];
+    double[] latitudes = new double[size];
+    boolean[] located = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      CourseWeatherRow row = rows.get(i);
+      located[i] = row.getLongitude() != null && row.getLatitude() != null;
+      longitudes[i] = located[i] ? row.getLongitude() : 0;
+      latitudes[i] = located[i] ? row.getLatitude() : 0;
+    }
+
+    int[] nx = new int[size];
+    int[] ny = new int[size];
+    kmaGridProjection.convertToGrid(longitudes, latitudes, nx, ny);
+
+    // 같은 격자는 한 번만 조회
+    Map<GridCoord, CompletableFuture<Map<LocalDate, WeatherResponse>>> forecasts =
+        new HashMap<>();
+    GridCoord[] gridCoords = new GridCoord[size];
+    for (int i = 0; i < size; i++) {
+      if (!located[i]) {
+        continue;
+      }
+      gridCoords[i] = new GridCoord(nx[i], ny[i]);
+      forecasts.computeIfAbsent(gridCoords[i], this::fetchDailyForecastsAsync);
+    }
+
+    List<CourseResponse.DailyWeatherDTO> dailyWeathers = new ArrayList<>();
+    List<CourseResponse.SpotWeatherDTO> spotWeathers = null;
+    Integer dayNumber = null;
+    for (int i = 0; i < size; i++) {
+      CourseWeatherRow row = rows.get(i);
+      if (!row.getDayNumber().equals(dayNumber)) {
+        dayNumber = row.getDayNumber();
+        spotWeathers = new ArrayList<>();
+        dailyWeathers.add(
+            CourseResponse.DailyWeatherDTO.builder()
+                .dayNumber(row.getDayNumber())
+                .date(row.getVisitDate())
+                .location(courseConverter.getLocationKoreanName(row.getLocation()))
+                .spots(spotWeathers)
+                .build());
+      }
+
+      // 관광지가 없는 일차
+      if (row.getVisitOrder() == null) {
+        continue;
+      }
+
+      GridCoord gridCoord = gridCoords[i];
+      WeatherResponse weather =
+          gridCoord == null ? null : forecasts.get(gridCoord).join().get(row.getVisitDate());
+
+      spotWeathers.add(
+          CourseResponse.SpotWeatherDTO.builder()
+              .spotId(row.getSpotId())
+              .sealSpotId(row.getSealSpotId())
+              .visitOrder(row.getVisitOrder())
+              .weather(weather)
+              .build());
+    }
+
+    return CourseResponse.CourseWeatherDTO.builder()
+        .courseId(course.getId())
+        .dailyWeathers(dailyWeathers)
+        .build();
+  }
 
-    // 지역명 필터링 적용
-    if (locationNames != null && !locationNames.isEmpty()) {
+  private CompletableFuture<Map<LocalDate, WeatherResponse>> fetchDailyForecastsAsync(
+      GridCoord gridCoord) {
+    return CompletableFuture.supplyAsync(
+            () -> weatherService.getDailyForecasts(gridCoord), externalApiExecutor)
+        .exceptionally(
+            e -> {
+              log.warn(
+                  "코스 날씨 조회 실패 - nx={}, ny={}: {}",
+                  gridCoord.getNx(),
+                  gridCoord.getNy(),
+                  e.getMessage());
+              return Map.of();
+            });
+  }
+
+  /**
+   * 사용자의 코스 목록을 조회합니다. - 지역 필터와 정렬을 쿼리에서 처리 - (created_at, id) 키셋 커서로 페이지 조회 - 전체 코스 수는 첫 페이지에서만
+   * 조회 - 코스 요약 정보만 반환 (상세 정보 제외)
+   */
+  @Override
+  public CourseResponse.CourseListDTO getUserCourses(
+      Long userId, List<String> locationNames, CourseSortBy sortBy, String cursor, int size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_COURSE_PAGE_SIZE);
+
+    boolean allLocations = locationNames == null || locationNames.isEmpty();
+    Set<Location> locations =
+        allLocations
+            ? EnumSet.allOf(Location.class)
+            : locationNames.stream()
+                .map(courseConverter::getLocationFromKoreanName)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(Location.class)));
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    Pageable limit = PageRequest.of(0, pageSize + 1);
+    List<Course> courses;
+    if (sortBy == CourseSortBy.OLDEST) {
+      CourseCursor after = cursor == null ? CourseCursor.OLDEST_FIRST : CourseCursor.decode(cursor);
       courses =
-          courses.stream()
-              .filter(
-                  course ->
-                      course.getDailyCourses().stream()
-                          .anyMatch(
-                              dailyCourse ->
-                                  locationNames.contains(
-                                      courseConverter.getLocationKoreanName(
-                                          dailyCourse.getLocation()))))
-              .collect(Collectors.toList());
+          courseRepository.findOldestPage(
+              userId, allLocations, locations, after.createdAt(), after.id(), limit);
+    } else {
+      CourseCursor after = cursor == null ? CourseCursor.LATEST_FIRST : CourseCursor.decode(cursor);
+      courses =
+          courseRepository.findLatestPage(
+              userId, allLocations, locations, after.createdAt(), after.id(), limit);
     }
 
+    boolean hasNext = courses.size() > pageSize;
+    if (hasNext) {
+      courses = courses.subList(0, pageSize);
+    }
+
+    // 현재 페이지 코스의 띠부씰 수를 한 번에 조회
+    Map<Long, CourseSealCount> sealCounts =
+        courses.isEmpty()
+            ? Map.of()
+            : courseRepository
+                .countSealsByCourseIds(
+                    userId, courses.stream().map(Course::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(CourseSealCount::getCourseId, sealCount -> sealCount));
+
     List<CourseResponse.CourseSummaryDTO> summaries =
         courses.stream()
-            .sorted(getCourseComparator(sortBy))
             .map(
                 course -> {
-                  int totalCollectableSealsForCourse = 0;
-                  int userCollectedSealsForCourse = 0;
-
-                  List<Long> sealSpotIds =
-                      course.getDailyCourses().stream()
-                          .flatMap(dailyCourse -> dailyCourse.getSpots().stream())
-                          .filter(dailyCourseSpot -> dailyCourseSpot.getSealSpot() != null)
-                          .map(dailyCourseSpot -> dailyCourseSpot.getSealSpot().getId())
-                          .distinct()
-                          .collect(Collectors.toList());
-
-                  for (Long sealSpotId : sealSpotIds) {
-                    List<Seal> sealsFromSpot = sealRepository.findBySealSpot_Id(sealSpotId);
-                    totalCollectableSealsForCourse += sealsFromSpot.size();
-                    userCollectedSealsForCourse +=
-                        userSealRepository.countByUserAndSealIn(user, sealsFromSpot);
-                  }
-
+                  CourseSealCount sealCount = sealCounts.get(course.getId());
                   return courseConverter.toCourseSummaryDTO(
-                      course, totalCollectableSealsForCourse, userCollectedSealsForCourse);
+                      course,
+                      sealCount == null ? 0 : sealCount.getTotalSeals().intValue(),
+                      sealCount == null ? 0 : sealCount.getCollectedSeals().intValue());
                 })
             .collect(Collectors.toList());
 
+    // 전체 개수는 첫 페이지에서만 조회 (다음 페이지부터는 클라이언트가 첫 페이지 값을 사용)
+    Integer totalCount =
+        cursor == null
+            ? (int) courseRepository.countByUserIdAndLocations(userId, allLocations, locations)
+            : null;
+
     return CourseResponse.CourseListDTO.builder()
         .courses(summaries)
-        .totalCount(summaries.size())
+        .totalCount(totalCount)
+        .hasNext(hasNext)
+        .nextCursor(hasNext ? CourseCursor.of(courses.get(courses.size() - 1)).encode() : null)
         .build();
   }
 
-  private java.util.Comparator<Course> getCourseComparator(CourseSortBy sortBy) {
-    switch (sortBy) {
-      case OLDEST:
-        return java.util.Comparator.comparing(Course::getCreatedAt);
-      case LATEST:
-      default:
-        return java.util.Comparator.comparing(Course::getCreatedAt).reversed();
-    }
-  }
-
   /**
    * 코스를 삭제합니다. - 코스 존재 여부 확인 - 본인 코스인지 권한 검증 - 연관된 DailyCourse, DailyCourseSpot도 함께 삭제
    * (orphanRemoval)
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.course.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.yfive.gbjs.domain.course.entity.Course;
+import com.yfive.gbjs.domain.course.exception.CourseErrorStatus;
+import com.yfive.gbjs.global.error.exception.CustomException;
+
+/**
+ * 코스 목록 키셋 페이지네이션 커서
+ *
+ * <p>마지막으로 조회한 코스의 (생성 시각, ID)를 URL-safe Base64 문자열로 인코딩합니다.
+ *
+ * @param createdAt 마지막 코스의 생성 시각
+ * @param id 마지막 코스 ID (생성 시각이 같은 코스의 순서를 구분)
+ */
+public record CourseCursor(LocalDateTime createdAt, Long id) {
+
+  private static final String DELIMITER = "|";
+
+  /** 최신순 첫 페이지 조회 시 사용하는 커서 (MySQL DATETIME 최댓값) */
+  public static final CourseCursor LATEST_FIRST =
+      new CourseCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+  /** 오래된순 첫 페이지 조회 시 사용하는 커서 (MySQL DATETIME 최솟값) */
+  public static final CourseCursor OLDEST_FIRST =
+      new CourseCursor(LocalDateTime.of(1000, 1, 1, 0, 0), 0L);
+
+  public static CourseCursor of(Course course) {
+    return new CourseCursor(course.getCreatedAt(), course.getId());
+  }
+
+  public String encode() {
+    String raw = createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 문자열을 해석합니다.
+   *
+   * @param cursor 인코딩된 커서
+   * @return 커서
+   * @throws CustomException 형식이 올바르지 않은 경우
+   */
+  public static CourseCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int delimiterIndex = raw.lastIndexOf(DELIMITER);
+      if (delimiterIndex < 0) {
+        throw new CustomException(CourseErrorStatus._INVALID_CURSOR);
+      }
+      return new CourseCursor(
+          LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+          Long.parseLong(raw.substring(delimiterIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CustomException(CourseErrorStatus._INVALID_CURSOR);
+    }
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.course.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.domain.seal.cache.SealSpotPool;
+import com.yfive.gbjs.domain.seal.cache.SealSpotSummary;
+import com.yfive.gbjs.domain.seal.entity.Location;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여행 코스 동선 최적화
+ *
+ * <p>씰 관광지 풀을 기준으로 지역별 거리 행렬을 캐시해 두고 (풀이 갱신되면 다시 계산), 하루 일정의 관광지를 최근접 이웃(nearest
+ * neighbour)으로 고른 뒤 2-opt로 방문 순서를 개선합니다. 2-opt는 정해진 반복 횟수 안에서만 수행하므로 응답 시간에 상한이 있고, 실행 시점의
+ * 부하와 무관하게 같은 풀과 같은 시드에서는 항상 같은 동선이 나옵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseRouteOptimizer {
+
+  private final SealSpotPool sealSpotPool;
+
+  private final Map<Location, SpotDistanceMatrix> matrixCache = new ConcurrentHashMap<>();
+
+  /** 2-opt 최대 반복 횟수 (한 번 반복할 때 모든 구간 쌍을 검사) */
+  @Value("${course.route.two-opt-max-passes:20}")
+  private int twoOptMaxPasses;
+
+  /**
+   * 하루 동안 방문할 관광지와 방문 순서를 정합니다.
+   *
+   * @param location 방문 지역
+   * @param maxSpots 최대 방문 관광지 수
+   * @param used 같은 코스의 이전 일차에서 이미 선택한 관광지 (행렬 인덱스, 선택 결과가 추가됨)
+   * @param random 출발 관광지를 고르는 난수 생성기 (같은 시드면 같은 동선)
+   * @return 방문 순서대로 정렬된 관광지와 총 이동 거리
+   */
+  public DailyRoute planDailyRoute(
+      Location location, int maxSpots, BitSet used, SplittableRandom random) {
+    SpotDistanceMatrix matrix = getMatrix(location);
+    int n = matrix.size();
+    if (n == 0) {
+      return new DailyRoute(List.of(), 0);
+    }
+
+    // 지역의 관광지를 모두 방문했으면 처음부터 다시 선택
+    if (used.cardinality() >= n) {
+      used.clear();
+    }
+    int count = Math.min(maxSpots, n - used.cardinality());
+
+    int[] route = nearestNeighbourRoute(matrix, count, used, random);
+    improveWithTwoOpt(matrix, route, twoOptMaxPasses);
+
+    List<SealSpotSummary> spots = new ArrayList<>(count);
+    for (int index : route) {
+      used.set(index);
+      spots.add(matrix.spot(index));
+    }
+    return new DailyRoute(spots, routeDistance(matrix, route));
+  }
+
+  private SpotDistanceMatrix getMatrix(Location location) {
+    List<SealSpotSummary> candidates = sealSpotPool.get(location);
+    SpotDistanceMatrix matrix = matrixCache.get(location);
+    if (matrix == null || !matrix.isBuiltFrom(candidates)) {
+      matrix = new SpotDistanceMatrix(candidates);
+      matrixCache.put(location, matrix);
+    }
+    return matrix;
+  }
+
+  /** 무작위 출발지에서 시작해 아직 선택되지 않은 가장 가까운 관광지를 차례로 고릅니다. */
+  private int[] nearestNeighbourRoute(
+      SpotDistanceMatrix matrix, int count, BitSet used, SplittableRandom random) {
+    int n = matrix.size();
+    BitSet visited = (BitSet) used.clone();
+
+    int current = randomUnvisited(visited, n, random);
+    int[] route = new int[count];
+    for (int i = 0; i < count; i++) {
+      route[i] = current;
+      visited.set(current);
+      if (i == count - 1) {
+        break;
+      }
+
+      int nearest = -1;
+      double nearestDistance = Double.MAX_VALUE;
+      for (int next = visited.nextClearBit(0); next < n; next = visited.nextClearBit(next + 1)) {
+        double distance = matrix.distance(current, next);
+        if (distance < nearestDistance) {
+          nearestDistance = distance;
+          nearest = next;
+        }
+      }
+      current = nearest;
+    }
+    return route;
+  }
+
+  private int randomUnvisited(BitSet visited, int n, SplittableRandom random) {
+    int skip = random.nextInt(n - visited.cardinality());
+    int index = visited.nextClearBit(0);
+    for (int i = 0; i < skip; i++) {
+      index = visited.nextClearBit(index + 1);
+    }
+    return index;
+  }
+
+  /**
+   * 경로의 일부 구간을 뒤집어 총 거리가 줄어드는 동안 반복합니다. 출발지와 도착지가 고정되지 않은 열린 경로이므로 양 끝 구간도 뒤집을 수 있습니다.
+   *
+   * @param maxPasses 최대 반복 횟수
+   */
+  private void improveWithTwoOpt(SpotDistanceMatrix matrix, int[] route, int maxPasses) {
+    int last = route.length - 1;
+    boolean improved = true;
+    for (int pass = 0; improved && pass < maxPasses; pass++) {
+      improved = false;
+      for (int i = 0; i < last; i++) {
+        for (int j = i + 1; j <= last; j++) {
+          double before = 0;
+          double after = 0;
+          if (i > 0) {
+            before += matrix.distance(route[i - 1], route[i]);
+            after += matrix.distance(route[i - 1], route[j]);
+          }
+          if (j < last) {
+            before += matrix.distance(route[j], route[j + 1]);
+            after += matrix.distance(route[i], route[j + 1]);
+          }
+          if (after < before - 1e-9) {
+            reverse(route, i, j);
+            improved = true;
+          }
+        }
+      }
+    }
+  }
+
+  private void reverse(int[] route, int from, int to) {
+    while (from < to) {
+      int temp = route[from];
+      route[from++] = route[to];
+      route[to--] = temp;
+    }
+  }
+
+  private double routeDistance(SpotDistanceMatrix matrix, int[] route) {
+    double distance = 0;
+    for (int i = 1; i < route.length; i++) {
+      distance += matrix.distance(route[i - 1], route[i]);
+    }
+    return distance;
+  }
+
+  /**
+   * 하루 동선
+   *
+   * @param spots 방문 순서대로 정렬된 관광지
+   * @param distanceKm 총 이동 거리 (km)
+   */
+  public record DailyRoute(List<SealSpotSummary> spots, double distanceKm) {}
+}
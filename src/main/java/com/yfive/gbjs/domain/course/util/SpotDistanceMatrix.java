@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.course.util;
+
+import java.util.List;
+
+import com.yfive.gbjs.domain.seal.cache.SealSpotSummary;
+
+/**
+ * 한 지역 씰 관광지 간 직선 거리 행렬
+ *
+ * <p>좌표가 있는 n개 관광지의 거리(km)를 n * n 크기의 1차원 double 배열에 행 우선으로 저장합니다. 생성 후에는 변경되지 않으므로 여러
+ * 요청이 동시에 공유할 수 있습니다.
+ */
+public final class SpotDistanceMatrix {
+
+  private static final double EARTH_RADIUS_KM = 6371;
+
+  private final List<SealSpotSummary> source;
+  private final List<SealSpotSummary> spots;
+  private final double[] distances;
+
+  /**
+   * @param source 한 지역의 씰 관광지 목록 (좌표가 없는 관광지는 제외됨)
+   */
+  public SpotDistanceMatrix(List<SealSpotSummary> source) {
+    this.source = source;
+    this.spots = source.stream().filter(SealSpotSummary::hasCoordinates).toList();
+    int n = spots.size();
+
+    // 위도/경도를 라디안과 cos(위도)로 미리 변환해 쌍마다 반복 계산하지 않음
+    double[] lat = new double[n];
+    double[] lon = new double[n];
+    double[] cosLat = new double[n];
+    for (int i = 0; i < n; i++) {
+      lat[i] = Math.toRadians(spots.get(i).latitude());
+      lon[i] = Math.toRadians(spots.get(i).longitude());
+      cosLat[i] = Math.cos(lat[i]);
+    }
+
+    this.distances = new double[n * n];
+    for (int i = 0; i < n; i++) {
+      for (int j = i + 1; j < n; j++) {
+        double sinLat = Math.sin((lat[j] - lat[i]) / 2);
+        double sinLon = Math.sin((lon[j] - lon[i]) / 2);
+        double a = sinLat * sinLat + cosLat[i] * cosLat[j] * sinLon * sinLon;
+        double distance = 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        distances[i * n + j] = distance;
+        distances[j * n + i] = distance;
+      }
+    }
+  }
+
+  /** 주어진 관광지 목록 인스턴스로 만든 행렬인지 확인합니다. */
+  public boolean isBuiltFrom(List<SealSpotSummary> candidates) {
+    return source == candidates;
+  }
+
+  public int size() {
+    return spots.size();
+  }
+
+  public SealSpotSummary spot(int index) {
+    return spots.get(index);
+  }
+
+  /** 두 관광지 사이의 직선 거리(km)를 반환합니다. */
+  public double distance(int from, int to) {
+    return distances[from * spots.size() + to];
+  }
+
+  /**
+   * Haversine 공식을 사용한 두 지점 간 거리 계산
+   *
+   * @return 거리 (km)
+   */
+  public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+    double sinLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+    double sinLon = Math.sin(Math.toRadians(lon2 - lon1) / 2);
+    double a =
+        sinLat * sinLat
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+    return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+  }
+}
@@ -3,6 +3,10 @@
  */
 package com.yfive.gbjs.domain.festival.controller;
 
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -29,6 +33,23 @@ public interface FestivalController {
       @Parameter(description = "페이지 번호", example = "1") @RequestParam Integer pageNum,
       @Parameter(description = "페이지 크기", example = "3") @RequestParam Integer pageSize);
 
+  @GetMapping("/period")
+  @Operation(
+      summary = "기간 기반 축제 조회",
+      description = "선택한 기간 중 하루라도 열리는 축제 리스트를 시작일 순으로 반환 (오늘부터 6개월 이내)")
+  ResponseEntity<ApiResponse<List<FestivalResponse>>> getFestivalsByPeriod(
+      @Parameter(description = "조회 시작일", example = "2025-09-19")
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate startDate,
+      @Parameter(description = "조회 종료일", example = "2025-09-21")
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate endDate,
+      @Parameter(description = "지역 (생략 시 경북 전체)", example = "안동시")
+          @RequestParam(required = false)
+          String region);
+
   @GetMapping("/{id}")
   @Operation(summary = "축제 단일 조회", description = "식별자를 통해 선택한 축제의 정보  반환")
   ResponseEntity<ApiResponse<FestivalDetailResponse>> getFestivalById(
@@ -3,6 +3,9 @@
  */
 package com.yfive.gbjs.domain.festival.controller;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -44,6 +47,16 @@ public class FestivalControllerImpl implements FestivalController {
     return ResponseEntity.ok(ApiResponse.success(festivalListResponse));
   }
 
+  @Override
+  public ResponseEntity<ApiResponse<List<FestivalResponse>>> getFestivalsByPeriod(
+      LocalDate startDate, LocalDate endDate, String region) {
+
+    List<FestivalResponse> response =
+        festivalService.getFestivalsByPeriod(startDate, endDate, region);
+
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+
   @Override
   public ResponseEntity<ApiResponse<FestivalDetailResponse>> getFestivalById(
       @PathVariable String id) {
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.festival.entity;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.yfive.gbjs.domain.festival.exception.FestivalErrorStatus;
+import com.yfive.gbjs.global.error.exception.CustomException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 축제 조회 지역 (경상북도 시군구) */
+@Getter
+@AllArgsConstructor
+public enum FestivalRegion {
+  GYEONGSAN("경산시", 1),
+  GYEONGJU("경주시", 2),
+  GORYEONG("고령군", 3),
+  GUMI("구미시", 4),
+  GIMCHEON("김천시", 6),
+  MUNGYEONG("문경시", 7),
+  BONGHWA("봉화군", 8),
+  SANGJU("상주시", 9),
+  SEONGJU("성주군", 10),
+  ANDONG("안동시", 11),
+  YEONGDEOK("영덕군", 12),
+  YEONGYANG("영양군", 13),
+  YEONGJU("영주시", 14),
+  YEONGCHEON("영천시", 15),
+  YECHEON("예천군", 16),
+  ULLUNG("울릉군", 17),
+  ULJIN("울진군", 18),
+  UISEONG("의성군", 19),
+  CHEONGDO("청도군", 20),
+  CHEONGSONG("청송군", 21),
+  CHILGOK("칠곡군", 22),
+  POHANG("포항시", 23);
+
+  /** 한국관광공사 API 경상북도 지역 코드 */
+  public static final int AREA_CODE = 35;
+
+  private static final Map<String, FestivalRegion> BY_NAME =
+      Arrays.stream(values())
+          .collect(
+              Collectors.toUnmodifiableMap(FestivalRegion::getRegionName, Function.identity()));
+
+  private final String regionName;
+  private final int sigunguCode;
+
+  /**
+   * 지역명에 해당하는 지역을 반환한다.
+   *
+   * @param regionName 지역 이름
+   * @return 지역
+   * @throws CustomException 잘못된 지역명일 경우
+   */
+  public static FestivalRegion fromRegionName(String regionName) {
+    FestivalRegion region = BY_NAME.get(regionName);
+    if (region == null) {
+      throw new CustomException(FestivalErrorStatus.INVALID_REGION);
+    }
+    return region;
+  }
+}
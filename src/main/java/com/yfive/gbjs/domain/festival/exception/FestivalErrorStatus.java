@@ -14,7 +14,8 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum FestivalErrorStatus implements BaseErrorCode {
   INVALID_REGION("FESTIVAL001", "유효하지 않은 지역명입니다.", HttpStatus.BAD_REQUEST),
-  FESTIVAL_API_ERROR("FESTIVAL002", "축제 API 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+  FESTIVAL_API_ERROR("FESTIVAL002", "축제 API 처리 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+  INVALID_PERIOD("FESTIVAL003", "조회 종료일은 시작일 이후여야 합니다.", HttpStatus.BAD_REQUEST);
 
   private final String code;
   private final String message;
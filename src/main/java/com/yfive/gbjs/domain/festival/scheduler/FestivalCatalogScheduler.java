@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.festival.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.domain.festival.service.FestivalService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 축제 목록 스케줄러
+ *
+ * <p>서버 시작 직후와 이후 주기적으로 모든 지역의 축제 목록을 미리 불러와 메모리에 보관합니다. 목록 조회 요청은 외부 API를 기다리지 않고 보관된 목록을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FestivalCatalogScheduler {
+
+  private final FestivalService festivalService;
+
+  @Scheduled(
+      initialDelayString = "${festival.catalog.initial-delay-ms:0}",
+      fixedDelayString = "${festival.catalog.refresh-interval-ms:3600000}")
+  public void refreshFestivalCatalog() {
+    festivalService.refreshFestivalCatalog();
+  }
+}
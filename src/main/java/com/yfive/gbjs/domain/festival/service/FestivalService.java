@@ -3,6 +3,9 @@
  */
 package com.yfive.gbjs.domain.festival.service;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 
 import com.yfive.gbjs.domain.festival.dto.response.FestivalDetailResponse;
@@ -14,4 +17,18 @@ public interface FestivalService {
   PageResponse<FestivalResponse> getFestivalsByRegion(String region, Pageable pageable);
 
   FestivalDetailResponse getFestivalById(String id);
+
+  /**
+   * 기간 중 열리는 축제를 시작일 순으로 조회합니다. 보관 중인 축제 목록(오늘부터 6개월)에서 조회하며 외부 API를 호출하지 않습니다.
+   *
+   * @param startDate 조회 시작일
+   * @param endDate 조회 종료일
+   * @param region 지역 이름 (null이면 경북 전체)
+   * @return 축제 목록
+   */
+  List<FestivalResponse> getFestivalsByPeriod(
+      LocalDate startDate, LocalDate endDate, String region);
+
+  /** 모든 지역의 축제 목록을 외부 API에서 다시 불러옵니다. 실패한 지역은 기존 목록을 유지합니다. */
+  void refreshFestivalCatalog();
 }
@@ -6,25 +6,41 @@ package com.yfive.gbjs.domain.festival.service;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yfive.gbjs.domain.festival.dto.response.FestivalDetailResponse;
 import com.yfive.gbjs.domain.festival.dto.response.FestivalResponse;
+import com.yfive.gbjs.domain.festival.entity.FestivalRegion;
 import com.yfive.gbjs.domain.festival.exception.FestivalErrorStatus;
+import com.yfive.gbjs.domain.festival.util.FestivalIntervalIndex;
+import com.yfive.gbjs.global.cache.ExpiringLruCache;
 import com.yfive.gbjs.global.error.exception.CustomException;
+import com.yfive.gbjs.global.http.ExternalApi;
+import com.yfive.gbjs.global.http.SingleFlightRestExecutor;
+import com.yfive.gbjs.global.http.resilience.UpstreamGuardRegistry;
 import com.yfive.gbjs.global.page.dto.response.PageResponse;
 import com.yfive.gbjs.global.page.exception.PageErrorStatus;
 import com.yfive.gbjs.global.page.mapper.PageMapper;
@@ -43,21 +59,52 @@ public class FestivalServiceImpl implements FestivalService {
   @Value("${tourist.api.url}")
   private String festivalApiUrl;
 
+  @Value("${festival.detail.cache-ttl-minutes:60}")
+  private long detailCacheTtlMinutes;
+
   private final ObjectMapper objectMapper;
-  private final RestClient restClient;
+  private final SingleFlightRestExecutor singleFlightRestExecutor;
+
+  @Qualifier("ktoRestClient")
+  private final RestClient ktoRestClient;
+
   private final PageMapper pageMapper;
+  private final UpstreamGuardRegistry upstreamGuardRegistry;
+
+  @Qualifier("externalApiExecutor")
+  private final ThreadPoolTaskExecutor externalApiExecutor;
+
+  /** 지역별 축제 목록 (종료일 순으로 정렬된 불변 리스트) */
+  private final Map<FestivalRegion, List<FestivalResponse>> festivalCatalog =
+      new ConcurrentHashMap<>();
+
+  /** 지역별 축제 기간 인덱스 */
+  private volatile Map<FestivalRegion, FestivalIntervalIndex> regionFestivalIndexes = Map.of();
+
+  /** 경북 전체 축제 기간 인덱스 */
+  private volatile FestivalIntervalIndex festivalIndex = FestivalIntervalIndex.EMPTY;
+
+  /** 축제 식별자별 상세 정보 */
+  private final ExpiringLruCache<String, FestivalDetailResponse> festivalDetailCache =
+      new ExpiringLruCache<>(500);
 
   @Override
   public PageResponse<FestivalResponse> getFestivalsByRegion(String region, Pageable pageable) {
 
-    List<FestivalResponse> festivalResponses = fetchFestivalListByRegion(region);
+    FestivalRegion festivalRegion = FestivalRegion.fromRegionName(region);
+    List<FestivalResponse> festivalResponses = festivalCatalog.get(festivalRegion);
+    if (festivalResponses == null) {
+      // 최초 적재가 끝나기 전에 들어온 요청만 외부 API를 직접 호출
+      festivalResponses = refreshRegion(festivalRegion);
+      rebuildFestivalIndexes();
+    }
 
     long offset = pageable.getOffset();
     long totalElements = festivalResponses.size();
     int pageSize = pageable.getPageSize();
 
     if (totalElements == 0) {
-      Page<FestivalResponse> page = new PageImpl<>(java.util.Collections.emptyList(), pageable, 0);
+      Page<FestivalResponse> page = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
       return pageMapper.toFestivalPageResponse(page);
     }
@@ -78,11 +125,93 @@ public class FestivalServiceImpl implements FestivalService {
     return pageMapper.toFestivalPageResponse(page);
   }
 
+  @Override
+  public void refreshFestivalCatalog() {
+    if (!upstreamGuardRegistry.get(ExternalApi.KTO).isAvailable()) {
+      log.warn("관광정보 API 서킷이 열려 있어 축제 목록 갱신 생략 - 기존 목록 유지");
+      return;
+    }
+
+    int refreshed = 0;
+    for (FestivalRegion region : FestivalRegion.values()) {
+      try {
+        refreshRegion(region);
+        refreshed++;
+      } catch (CustomException e) {
+        log.warn("축제 목록 갱신 실패 - 지역: {}, 기존 목록 유지", region.getRegionName());
+      }
+    }
+    rebuildFestivalIndexes();
+    log.info("축제 목록 갱신 완료 - {}/{}개 지역", refreshed, FestivalRegion.values().length);
+  }
+
+  @Override
+  public List<FestivalResponse> getFestivalsByPeriod(
+      LocalDate startDate, LocalDate endDate, String region) {
+    if (endDate.isBefore(startDate)) {
+      throw new CustomException(FestivalErrorStatus.INVALID_PERIOD);
+    }
+
+    FestivalIntervalIndex index =
+        region == null
+            ? festivalIndex
+            : regionFestivalIndexes.getOrDefault(
+                FestivalRegion.fromRegionName(region), FestivalIntervalIndex.EMPTY);
+
+    return index.findOverlapping(startDate, endDate);
+  }
+
+  /** 보관 중인 지역별 축제 목록으로 기간 인덱스를 다시 만든다. */
+  private synchronized void rebuildFestivalIndexes() {
+    Map<FestivalRegion, FestivalIntervalIndex> indexes = new EnumMap<>(FestivalRegion.class);
+    List<FestivalResponse> allFestivals = new ArrayList<>();
+    festivalCatalog.forEach(
+        (region, festivals) -> {
+          indexes.put(region, new FestivalIntervalIndex(festivals));
+          allFestivals.addAll(festivals);
+        });
+
+    regionFestivalIndexes = Collections.unmodifiableMap(indexes);
+    festivalIndex = new FestivalIntervalIndex(allFestivals);
+  }
+
   @Override
   public FestivalDetailResponse getFestivalById(String id) {
+    FestivalDetailResponse cached = festivalDetailCache.get(id);
+    if (cached != null) {
+      return cached;
+    }
+
+    FestivalDetailResponse stale = festivalDetailCache.getStale(id);
+    if (stale != null && !upstreamGuardRegistry.get(ExternalApi.KTO).isAvailable()) {
+      return stale;
+    }
+
+    try {
+      FestivalDetailResponse detailResponse = assembleFestivalDetail(id);
+      festivalDetailCache.put(
+          id,
+          detailResponse,
+          System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(detailCacheTtlMinutes));
+      return detailResponse;
+    } catch (CustomException e) {
+      if (stale != null) {
+        log.warn("축제 상세 조회 실패 - 보관 중인 정보 반환: {}", id);
+        return stale;
+      }
+      throw e;
+    }
+  }
+
+  /** 공통 정보(detailCommon2)와 소개 정보(detailIntro2)를 동시에 조회해 하나의 상세 정보로 합친다. */
+  private FestivalDetailResponse assembleFestivalDetail(String id) {
+    CompletableFuture<JsonNode> introFuture =
+        CompletableFuture.supplyAsync(
+            () -> fetchFestivalDetail("detailIntro2", id, 15), externalApiExecutor);
+
     try {
       JsonNode itemNode1 = fetchFestivalDetail("detailCommon2", id, null);
-      JsonNode itemNode2 = fetchFestivalDetail("detailIntro2", id, 15);
+      JsonNode itemNode2 = introFuture.join();
 
       FestivalDetailResponse detailResponse1 =
           objectMapper.treeToValue(itemNode1, FestivalDetailResponse.class);
@@ -96,6 +225,15 @@ public class FestivalServiceImpl implements FestivalService {
       detailResponse1.setHomepageUrl(url);
 
       return detailResponse1;
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof CustomException customException) {
+        throw customException;
+      }
+      log.error("축제 상세 조회 실패", e.getCause());
+      throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
+    } catch (CustomException e) {
+      introFuture.cancel(true);
+      throw e;
     } catch (Exception e) {
       log.error("축제 목록 파싱 실패", e);
       throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
@@ -115,26 +253,17 @@ public class FestivalServiceImpl implements FestivalService {
       uriBuilder.queryParam("contentTypeId", contentTypeId);
     }
 
-    String response =
-        restClient.get().uri(uriBuilder.build(true).toUri()).retrieve().body(String.class);
-
-    if (response == null || response.isBlank()) {
-      log.error("빈 응답 수신");
-      throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
-    }
-
-    if (isXmlOrHtml(response)) {
-      throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
-    }
-
     try {
-      JsonNode root = objectMapper.readTree(response);
-      JsonNode itemNode = root.path("response").path("body").path("items").path("item");
+      JsonNode itemNode =
+          singleFlightRestExecutor.get(
+              ktoRestClient, uriBuilder.build(true).toUri(), this::readItems);
 
       if (itemNode.isEmpty()) {
         throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
       }
       return itemNode.get(0);
+    } catch (CustomException e) {
+      throw e;
     } catch (Exception e) {
       log.error("축제 상세 파싱 실패", e);
       throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
@@ -153,7 +282,13 @@ public class FestivalServiceImpl implements FestivalService {
     return html;
   }
 
-  private List<FestivalResponse> fetchFestivalListByRegion(String region) {
+  private List<FestivalResponse> refreshRegion(FestivalRegion region) {
+    List<FestivalResponse> festivals = List.copyOf(fetchFestivalListByRegion(region));
+    festivalCatalog.put(region, festivals);
+    return festivals;
+  }
+
+  private List<FestivalResponse> fetchFestivalListByRegion(FestivalRegion region) {
     LocalDate baseDate = LocalDate.now();
 
     UriComponentsBuilder uriBuilder =
@@ -166,24 +301,13 @@ public class FestivalServiceImpl implements FestivalService {
             .queryParam("eventStartDate", baseDate.format(DateTimeFormatter.BASIC_ISO_DATE))
             .queryParam(
                 "eventEndDate", baseDate.plusMonths(6).format(DateTimeFormatter.BASIC_ISO_DATE))
-            .queryParam("areaCode", 35)
-            .queryParam("sigunguCode", getSiGunGuCode(region));
-
-    String response =
-        restClient.get().uri(uriBuilder.build(true).toUri()).retrieve().body(String.class);
-
-    if (response == null || response.isBlank()) {
-      log.error("빈 응답 수신");
-      throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
-    }
-
-    if (isXmlOrHtml(response)) {
-      throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
-    }
+            .queryParam("areaCode", FestivalRegion.AREA_CODE)
+            .queryParam("sigunguCode", region.getSigunguCode());
 
     try {
-      JsonNode root = objectMapper.readTree(response);
-      JsonNode items = root.path("response").path("body").path("items").path("item");
+      JsonNode items =
+          singleFlightRestExecutor.get(
+              ktoRestClient, uriBuilder.build(true).toUri(), this::readItems);
 
       List<FestivalResponse> festivals = new ArrayList<>();
       for (JsonNode item : items) {
@@ -194,6 +318,8 @@ public class FestivalServiceImpl implements FestivalService {
       festivals.sort(Comparator.comparing(FestivalResponse::getEndDate));
 
       return festivals;
+    } catch (CustomException e) {
+      throw e;
     } catch (Exception e) {
       log.error("축제 목록 파싱 실패", e);
       throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
@@ -201,38 +327,23 @@ public class FestivalServiceImpl implements FestivalService {
   }
 
   /**
-   * 지역명에 해당하는 시군구 코드를 반환한다.
+   * 관광정보 API 응답을 검증하고 item 노드를 반환한다.
    *
-   * @param region 지역 이름
-   * @return 시군구 코드
-   * @throws CustomException 잘못된 지역명일 경우
+   * @param response 응답 본문
+   * @return item 노드
+   * @throws CustomException 비어 있거나 XML/HTML 응답인 경우
    */
-  private Integer getSiGunGuCode(String region) {
-    return switch (region) {
-      case "경산시" -> 1;
-      case "경주시" -> 2;
-      case "고령군" -> 3;
-      case "구미시" -> 4;
-      case "김천시" -> 6;
-      case "문경시" -> 7;
-      case "봉화군" -> 8;
-      case "상주시" -> 9;
-      case "성주군" -> 10;
-      case "안동시" -> 11;
-      case "영덕군" -> 12;
-      case "영양군" -> 13;
-      case "영주시" -> 14;
-      case "영천시" -> 15;
-      case "예천군" -> 16;
-      case "울릉군" -> 17;
-      case "울진군" -> 18;
-      case "의성군" -> 19;
-      case "청도군" -> 20;
-      case "청송군" -> 21;
-      case "칠곡군" -> 22;
-      case "포항시" -> 23;
-      default -> throw new CustomException(FestivalErrorStatus.INVALID_REGION);
-    };
+  private JsonNode readItems(String response) throws JsonProcessingException {
+    if (response == null || response.isBlank()) {
+      log.error("빈 응답 수신");
+      throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
+    }
+
+    if (isXmlOrHtml(response)) {
+      throw new CustomException(FestivalErrorStatus.FESTIVAL_API_ERROR);
+    }
+
+    return objectMapper.readTree(response).path("response").path("body").path("items").path("item");
   }
 
   private boolean isXmlOrHtml(String response) {
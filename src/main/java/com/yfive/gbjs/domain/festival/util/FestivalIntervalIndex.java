@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.festival.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import com.yfive.gbjs.domain.festival.dto.response.FestivalResponse;
+
+/**
+ * 축제 기간 인덱스
+ *
+ * <p>축제를 시작일 순으로 정렬한 배열 위에 각 구간의 최대 종료일을 함께 저장한 구간 트리입니다. 특정 기간과 겹치는 축제를 O(log n + k)에 조회합니다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public final class FestivalIntervalIndex {
+
+  public static final FestivalIntervalIndex EMPTY = new FestivalIntervalIndex(List.of());
+
+  private final FestivalResponse[] festivals;
+  private final long[] startDays;
+  private final long[] endDays;
+
+  /** 배열을 이진 트리로 볼 때, 중간 위치(mid)를 루트로 하는 구간의 최대 종료일 */
+  private final long[] maxEndDays;
+
+  /**
+   * 시작일과 종료일이 모두 있는 축제만 인덱스에 포함합니다.
+   *
+   * @param festivals 축제 목록
+   */
+  public FestivalIntervalIndex(Collection<FestivalResponse> festivals) {
+    this.festivals =
+        festivals.stream()
+            .filter(festival -> festival.getStartDate() != null && festival.getEndDate() != null)
+            .sorted(
+                Comparator.comparing(FestivalResponse::getStartDate)
+                    .thenComparing(FestivalResponse::getEndDate))
+            .toArray(FestivalResponse[]::new);
+
+    int size = this.festivals.length;
+    this.startDays = new long[size];
+    this.endDays = new long[size];
+    this.maxEndDays = new long[size];
+    for (int i = 0; i < size; i++) {
+      startDays[i] = this.festivals[i].getStartDate().toEpochDay();
+      endDays[i] = this.festivals[i].getEndDate().toEpochDay();
+    }
+    buildMaxEnd(0, size - 1);
+  }
+
+  /**
+   * 기간과 겹치는 축제를 시작일 순으로 반환합니다.
+   *
+   * @param from 조회 시작일 (포함)
+   * @param to 조회 종료일 (포함)
+   * @return 기간 중 하루라도 열리는 축제 목록
+   */
+  public List<FestivalResponse> findOverlapping(LocalDate from, LocalDate to) {
+    List<FestivalResponse> result = new ArrayList<>();
+    collect(0, festivals.length - 1, from.toEpochDay(), to.toEpochDay(), result);
+    return result;
+  }
+
+  public int size() {
+    return festivals.length;
+  }
+
+  private long buildMaxEnd(int lo, int hi) {
+    if (lo > hi) {
+      return Long.MIN_VALUE;
+    }
+    int mid = (lo + hi) >>> 1;
+    long childMaxEnd = Math.max(buildMaxEnd(lo, mid - 1), buildMaxEnd(mid + 1, hi));
+    long maxEnd = Math.max(endDays[mid], childMaxEnd);
+    maxEndDays[mid] = maxEnd;
+    return maxEnd;
+  }
+
+  private void collect(int lo, int hi, long from, long to, List<FestivalResponse> result) {
+    if (lo > hi) {
+      return;
+    }
+    int mid = (lo + hi) >>> 1;
+    // 이 구간의 모든 축제가 조회 시작일 전에 끝남
+    if (maxEndDays[mid] < from) {
+      return;
+    }
+    collect(lo, mid - 1, from, to, result);
+    // 시작일 순 정렬이므로 mid 이후의 축제는 모두 조회 종료일 이후에 시작함
+    if (startDays[mid] > to) {
+      return;
+    }
+    if (endDays[mid] >= from) {
+      result.add(festivals[mid]);
+    }
+    collect(mid + 1, hi, from, to, result);
+  }
+}
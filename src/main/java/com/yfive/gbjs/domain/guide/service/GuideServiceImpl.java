@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,7 +37,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class GuideServiceImpl implements GuideService {
 
-  private final RestClient restClient;
+  @Qualifier("ktoRestClient")
+  private final RestClient ktoRestClient;
+
   private final ObjectMapper objectMapper;
   private final AudioGuideRepository audioGuideRepository;
   private final TtsRepository ttsRepository;
@@ -115,7 +118,7 @@ public class GuideServiceImpl implements GuideService {
       log.info("API 호출 URL: {}", url);
 
       try {
-        String response = restClient.get().uri(url).retrieve().body(String.class);
+        String response = ktoRestClient.get().uri(url).retrieve().body(String.class);
         log.info("API 응답 받음 (길이: {})", response != null ? response.length() : 0);
         if (response == null || response.isBlank()) {
           break;
@@ -271,7 +274,7 @@ public class GuideServiceImpl implements GuideService {
       URI url = buildUri("/storyBasedSyncList", params);
 
       try {
-        String response = restClient.get().uri(url).retrieve().body(String.class);
+        String response = ktoRestClient.get().uri(url).retrieve().body(String.class);
         if (response == null || response.isBlank()) {
           break;
         }
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.domain.seal.entity.Location;
+import com.yfive.gbjs.domain.seal.entity.Rarity;
+import com.yfive.gbjs.domain.seal.entity.Seal;
+import com.yfive.gbjs.domain.seal.repository.SealRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 띠부씰 근접 인덱스
+ *
+ * <p>씰 관광지 좌표를 가진 띠부씰마다 가장 가까운 {@value #NEIGHBOUR_COUNT}개 띠부씰을 미리 계산해 둡니다. 추천 요청은 사용자 위치가 속한 격자
+ * 칸에서 출발해 이 이웃 그래프를 가까운 순으로 탐색하고, 미수집 후보를 {@value #MAX_CANDIDATES}개(또는 요청 수) 찾으면 멈춥니다. 이미 모은
+ * 띠부씰이 많은 사용자도 빈 추천을 받지 않도록 수집한 띠부씰은 후보 수에 세지 않으며, 대신 방문 노드 수에 {@value #MAX_VISITED}개의 상한을
+ * 둡니다. 가까운 이웃 묶음을 모두 탐색했는데 후보가 부족하면 아직 방문하지 않은 가장 가까운 띠부씰에서 탐색을 이어 갑니다.
+ *
+ * <p>씰 관광지 풀이 갱신되면 다음 요청에서 인덱스를 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SealProximityIndex {
+
+  /** 띠부씰별로 보관하는 이웃 수 */
+  static final int NEIGHBOUR_COUNT = 8;
+
+  /** 탐색을 멈추는 미수집 후보 수 (요청 수가 더 크면 요청 수) */
+  static final int MAX_CANDIDATES = 64;
+
+  /** 추천 요청 한 번에 탐색하는 최대 띠부씰 수 (수집 여부와 무관한 상한) */
+  static final int MAX_VISITED = 2048;
+
+  /** 진입 격자 칸 크기 (위도/경도, 약 5km) */
+  private static final double CELL_DEGREES = 0.05;
+
+  /** 진입 격자 탐색 최대 반경 (칸 수, 약 200km) */
+  private static final int MAX_ENTRY_RING = 40;
+
+  /** 이 거리(km) 안의 미수집 이웃을 같은 묶음으로 봄 */
+  private static final double CLUSTER_RADIUS_KM = 3.0;
+
+  /** 묶음에 포함된 미수집 이웃 한 개당 가산 비율 */
+  private static final double CLUSTER_BONUS = 0.25;
+
+  /** 거리 감쇠 기준 (km): 이 거리만큼 멀어지면 점수가 절반 */
+  private static final double DISTANCE_SCALE_KM = 5.0;
+
+  private static final double EARTH_RADIUS_KM = 6371;
+
+  private final SealSpotPool sealSpotPool;
+  private final SealRepository sealRepository;
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * 사용자 위치에서 다음에 모으기 좋은 미수집 띠부씰을 추천합니다.
+   *
+   * @param latitude 사용자 위도
+   * @param longitude 사용자 경도
+   * @param collectedSealIds 사용자가 이미 수집한 띠부씰 ID
+   * @param limit 최대 추천 수
+   * @return 점수 내림차순 추천 목록
+   */
+  public List<Recommendation> recommend(
+      double latitude, double longitude, Set<Long> collectedSealIds, int limit) {
+    Snapshot current = currentSnapshot();
+    if (current.size() == 0) {
+      return List.of();
+    }
+
+    double latRad = Math.toRadians(latitude);
+    double lonRad = Math.toRadians(longitude);
+    double cosLat = Math.cos(latRad);
+
+    // 사용자와 가까운 순으로 이웃 그래프를 제한된 수만큼 탐색
+    Map<Integer, Double> seen = new HashMap<>();
+    PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.comparingDouble(seen::get));
+    for (int entry : current.entryNodes(latitude, longitude)) {
+      seen.put(entry, current.distanceFrom(entry, latRad, lonRad, cosLat));
+      queue.add(entry);
+    }
+
+    int maxCandidates = Math.max(limit, MAX_CANDIDATES);
+    List<Recommendation> candidates = new ArrayList<>();
+    int visited = 0;
+    while (candidates.size() < maxCandidates && visited < MAX_VISITED) {
+      if (queue.isEmpty()) {
+        // 이웃 그래프가 끊긴 경우: 아직 보지 않은 가장 가까운 노드에서 다시 시작
+        int next = current.nearestUnseen(latRad, lonRad, cosLat, seen.keySet());
+        if (next < 0) {
+          break;
+        }
+        seen.put(next, current.distanceFrom(next, latRad, lonRad, cosLat));
+        queue.add(next);
+      }
+      int node = queue.poll();
+      visited++;
+
+      if (!collectedSealIds.contains(current.sealIds[node])) {
+        int clusterSize = current.uncollectedNeighbours(node, collectedSealIds);
+        double distanceKm = seen.get(node);
+        double score =
+            rarityWeight(current.rarities[node])
+                * (1 + CLUSTER_BONUS * clusterSize)
+                / (1 + distanceKm / DISTANCE_SCALE_KM);
+        candidates.add(
+            new Recommendation(current.sealIds[node], distanceKm, clusterSize, score));
+      }
+
+      for (int k = 0; k < NEIGHBOUR_COUNT; k++) {
+        int neighbour = current.neighbours[node * NEIGHBOUR_COUNT + k];
+        if (neighbour >= 0 && !seen.containsKey(neighbour)) {
+          seen.put(neighbour, current.distanceFrom(neighbour, latRad, lonRad, cosLat));
+          queue.add(neighbour);
+        }
+      }
+    }
+
+    candidates.sort(Comparator.comparingDouble(Recommendation::score).reversed());
+    return candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+  }
+
+  private double rarityWeight(Rarity rarity) {
+    if (rarity == Rarity.RED) {
+      return 1.5;
+    } else if (rarity == Rarity.GREEN) {
+      return 1.2;
+    } else {
+      return 1.0;
+    }
+  }
+
+  private Snapshot currentSnapshot() {
+    Map<Location, List<SealSpotSummary>> pools = sealSpotPool.getAll();
+    Snapshot current = snapshot;
+    if (current == null || current.source != pools) {
+      synchronized (this) {
+        current = snapshot;
+        if (current == null || current.source != pools) {
+          current = build(pools);
+          snapshot = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  private Snapshot build(Map<Location, List<SealSpotSummary>> pools) {
+    Map<Long, SealSpotSummary> spots =
+        pools.values().stream()
+            .flatMap(List::stream)
+            .filter(SealSpotSummary::hasCoordinates)
+            .collect(Collectors.toMap(SealSpotSummary::id, Function.identity()));
+
+    List<Seal> seals =
+        sealRepository.findAll().stream()
+            .filter(seal -> seal.getSealSpot() != null)
+            .filter(seal -> spots.containsKey(seal.getSealSpot().getId()))
+            .toList();
+
+    int n = seals.size();
+    long[] sealIds = new long[n];
+    Rarity[] rarities = new Rarity[n];
+    double[] lat = new double[n];
+    double[] lon = new double[n];
+    for (int i = 0; i < n; i++) {
+      Seal seal = seals.get(i);
+      SealSpotSummary spot = spots.get(seal.getSealSpot().getId());
+      sealIds[i] = seal.getId();
+      rarities[i] = seal.getRarity();
+      lat[i] = spot.latitude();
+      lon[i] = spot.longitude();
+    }
+
+    Snapshot built = new Snapshot(pools, sealIds, rarities, lat, lon);
+    log.info("띠부씰 근접 인덱스 생성 완료 - 띠부씰 수: {}", n);
+    return built;
+  }
+
+  /**
+   * 띠부씰 추천 결과
+   *
+   * @param sealId 띠부씰 ID
+   * @param distanceKm 사용자와의 거리 (km)
+   * @param clusterSize 주변 {@value #CLUSTER_RADIUS_KM}km 안의 미수집 띠부씰 수
+   * @param score 추천 점수
+   */
+  public record Recommendation(long sealId, double distanceKm, int clusterSize, double score) {}
+
+  /** 인덱스 한 세대 (불변) */
+  private static final class Snapshot {
+
+    private final Map<Location, List<SealSpotSummary>> source;
+    private final long[] sealIds;
+    private final Rarity[] rarities;
+    private final double[] latRad;
+    private final double[] lonRad;
+    private final double[] cosLat;
+
+    /** 노드별 이웃 인덱스 (n * NEIGHBOUR_COUNT, 이웃이 부족하면 -1) */
+    private final int[] neighbours;
+
+    /** 노드별 이웃까지의 거리 (km) */
+    private final double[] neighbourDistances;
+
+    /** 격자 칸 키 -> 칸에 속한 노드 */
+    private final Map<Long, int[]> grid;
+
+    private Snapshot(
+        Map<Location, List<SealSpotSummary>> source,
+        long[] sealIds,
+        Rarity[] rarities,
+        double[] lat,
+        double[] lon) {
+      this.source = source;
+      this.sealIds = sealIds;
+      this.rarities = rarities;
+
+      int n = sealIds.length;
+      this.latRad = new double[n];
+      this.lonRad = new double[n];
+      this.cosLat = new double[n];
+      for (int i = 0; i < n; i++) {
+        latRad[i] = Math.toRadians(lat[i]);
+        lonRad[i] = Math.toRadians(lon[i]);
+        cosLat[i] = Math.cos(latRad[i]);
+      }
+
+      this.neighbours = new int[n * NEIGHBOUR_COUNT];
+      this.neighbourDistances = new double[n * NEIGHBOUR_COUNT];
+      Arrays.fill(neighbours, -1);
+      Arrays.fill(neighbourDistances, Double.MAX_VALUE);
+      for (int i = 0; i < n; i++) {
+        for (int j = 0; j < n; j++) {
+          if (i != j) {
+            insertNeighbour(i, j, distanceFrom(j, latRad[i], lonRad[i], cosLat[i]));
+          }
+        }
+      }
+
+      Map<Long, List<Integer>> cells = new HashMap<>();
+      for (int i = 0; i < n; i++) {
+        cells.computeIfAbsent(cellKey(cell(lat[i]), cell(lon[i])), key -> new ArrayList<>()).add(i);
+      }
+      this.grid = new HashMap<>();
+      cells.forEach(
+          (key, nodes) -> grid.put(key, nodes.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    private int size() {
+      return sealIds.length;
+    }
+
+    /** 거리순으로 정렬된 이웃 목록에 삽입합니다. (삽입 정렬, 이웃 수가 작으므로 충분) */
+    private void insertNeighbour(int node, int candidate, double distance) {
+      int base = node * NEIGHBOUR_COUNT;
+      int position = NEIGHBOUR_COUNT - 1;
+      if (distance >= neighbourDistances[base + position]) {
+        return;
+      }
+      while (position > 0 && neighbourDistances[base + position - 1] > distance) {
+        neighbours[base + position] = neighbours[base + position - 1];
+        neighbourDistances[base + position] = neighbourDistances[base + position - 1];
+        position--;
+      }
+      neighbours[base + position] = candidate;
+      neighbourDistances[base + position] = distance;
+    }
+
+    private double distanceFrom(int node, double latRadFrom, double lonRadFrom, double cosFrom) {
+      double sinLat = Math.sin((latRad[node] - latRadFrom) / 2);
+      double sinLon = Math.sin((lonRad[node] - lonRadFrom) / 2);
+      double a = sinLat * sinLat + cosFrom * cosLat[node] * sinLon * sinLon;
+      return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private int uncollectedNeighbours(int node, Set<Long> collectedSealIds) {
+      int count = 0;
+      int base = node * NEIGHBOUR_COUNT;
+      for (int k = 0; k < NEIGHBOUR_COUNT; k++) {
+        int neighbour = neighbours[base + k];
+        if (neighbour < 0 || neighbourDistances[base + k] > CLUSTER_RADIUS_KM) {
+          break;
+        }
+        if (!collectedSealIds.contains(sealIds[neighbour])) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    /**
+     * 탐색을 시작할 노드를 찾습니다. 사용자 칸에서 바깥쪽으로 고리 단위로 넓혀 가며, 처음 노드가 발견된 고리와 그 바로 바깥 고리의 노드를 반환합니다.
+     * 최대 반경 안에 노드가 없으면 가장 가까운 노드 하나를 반환합니다.
+     */
+    private List<Integer> entryNodes(double latitude, double longitude) {
+      int centerLat = cell(latitude);
+      int centerLon = cell(longitude);
+      List<Integer> entries = new ArrayList<>();
+      int foundRing = -1;
+      for (int ring = 0; ring <= MAX_ENTRY_RING; ring++) {
+        if (foundRing >= 0 && ring > foundRing + 1) {
+          break;
+        }
+        for (int dLat = -ring; dLat <= ring; dLat++) {
+          for (int dLon = -ring; dLon <= ring; dLon++) {
+            if (Math.abs(dLat) != ring && Math.abs(dLon) != ring) {
+              continue;
+            }
+            int[] nodes = grid.get(cellKey(centerLat + dLat, centerLon + dLon));
+            if (nodes != null) {
+              for (int node : nodes) {
+                entries.add(node);
+              }
+            }
+          }
+        }
+        if (foundRing < 0 && !entries.isEmpty()) {
+          foundRing = ring;
+        }
+      }
+      if (entries.isEmpty()) {
+        entries.add(nearestNode(latitude, longitude));
+      }
+      return entries;
+    }
+
+    /** 제외 목록에 없는 노드 중 가장 가까운 노드를 찾습니다. 없으면 -1을 반환합니다. */
+    private int nearestUnseen(
+        double latRadFrom, double lonRadFrom, double cosFrom, Set<Integer> excluded) {
+      int nearest = -1;
+      double nearestDistance = Double.MAX_VALUE;
+      for (int i = 0; i < size(); i++) {
+        if (excluded.contains(i)) {
+          continue;
+        }
+        double distance = distanceFrom(i, latRadFrom, lonRadFrom, cosFrom);
+        if (distance < nearestDistance) {
+          nearestDistance = distance;
+          nearest = i;
+        }
+      }
+      return nearest;
+    }
+
+    private int nearestNode(double latitude, double longitude) {
+      double latRadFrom = Math.toRadians(latitude);
+      return nearestUnseen(latRadFrom, Math.toRadians(longitude), Math.cos(latRadFrom), Set.of());
+    }
+
+    private static int cell(double degrees) {
+      return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+      return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+  }
+}
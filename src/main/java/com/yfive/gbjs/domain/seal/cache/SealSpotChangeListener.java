@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.domain.seal.entity.SealSpot;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 씰 관광지가 추가, 수정, 삭제되면 씰 관광지 풀을 무효화하는 엔티티 리스너
+ *
+ * <p>EntityManagerFactory 초기화 중에 생성되므로, 리포지토리를 사용하는 풀은 순환 참조를 피하기 위해 이벤트 시점에 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SealSpotChangeListener {
+
+  private final ObjectProvider<SealSpotPool> sealSpotPool;
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void onChange(SealSpot sealSpot) {
+    sealSpotPool.getObject().invalidate();
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yfive.gbjs.domain.seal.entity.Location;
+import com.yfive.gbjs.domain.seal.repository.SealSpotRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역별 씰 관광지 후보 풀
+ *
+ * <p>모든 씰 관광지를 한 번의 쿼리로 읽어 지역별 불변 목록(ID 오름차순)으로 보관합니다. 코스 생성처럼 자주 반복되는 조회는 DB 대신 이 목록을 사용합니다.
+ * 씰 관광지가 변경되면 트랜잭션 커밋 후 풀을 비우고, 다음 조회 시 다시 읽습니다. DB를 직접 수정한 경우는 주기적 갱신으로 반영됩니다.
+ *
+ * <p>갱신 시 내용이 바뀌지 않은 지역은 기존 목록 인스턴스를 그대로 유지하므로, 목록을 기준으로 만든 파생 데이터(거리 행렬 등)를 참조 비교로 재사용할 수
+ * 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SealSpotPool {
+
+  private final SealSpotRepository sealSpotRepository;
+
+  /** 지역별 관광지 목록 (비어 있으면 다음 조회 시 로드) */
+  private volatile Map<Location, List<SealSpotSummary>> pools;
+
+  /** 무효화 횟수 (로드 중에 무효화되면 읽은 목록을 풀로 게시하지 않음) */
+  private final AtomicLong invalidations = new AtomicLong();
+
+  /** 마지막으로 로드한 목록 (무효화 후에도 변경되지 않은 지역의 인스턴스 재사용에 사용) */
+  private Map<Location, List<SealSpotSummary>> lastLoaded = Map.of();
+
+  /**
+   * 지역의 씰 관광지 목록을 반환합니다.
+   *
+   * @param location 지역
+   * @return ID 오름차순으로 정렬된 불변 목록
+   */
+  public List<SealSpotSummary> get(Location location) {
+    return loadedPools().getOrDefault(location, List.of());
+  }
+
+  /**
+   * 모든 지역의 씰 관광지 목록을 반환합니다. 풀이 갱신되면 다른 인스턴스가 반환되므로, 파생 데이터의 재계산 여부를 참조 비교로 판단할 수 있습니다.
+   *
+   * @return 지역별 불변 목록
+   */
+  public Map<Location, List<SealSpotSummary>> getAll() {
+    return loadedPools();
+  }
+
+  /**
+   * DB에서 모든 씰 관광지를 다시 읽어 풀을 교체합니다. 읽는 도중 무효화되면 읽은 목록이 변경 전 데이터일 수 있으므로 풀에 게시하지 않고, 다음 조회에서 다시
+   * 읽습니다.
+   *
+   * @return 이번에 읽은 지역별 목록
+   */
+  public synchronized Map<Location, List<SealSpotSummary>> refresh() {
+    long version = invalidations.get();
+    Map<Location, List<SealSpotSummary>> grouped = new EnumMap<>(Location.class);
+    sealSpotRepository.findAll().stream()
+        .map(SealSpotSummary::from)
+        .sorted(Comparator.comparing(SealSpotSummary::id))
+        .forEach(
+            summary ->
+                grouped.computeIfAbsent(summary.location(), key -> new ArrayList<>()).add(summary));
+
+    Map<Location, List<SealSpotSummary>> refreshed = new EnumMap<>(Location.class);
+    int changed = 0;
+    for (Map.Entry<Location, List<SealSpotSummary>> entry : grouped.entrySet()) {
+      List<SealSpotSummary> previous = lastLoaded.get(entry.getKey());
+      if (entry.getValue().equals(previous)) {
+        refreshed.put(entry.getKey(), previous);
+      } else {
+        refreshed.put(entry.getKey(), List.copyOf(entry.getValue()));
+        changed++;
+      }
+    }
+
+    lastLoaded = Collections.unmodifiableMap(refreshed);
+    pools = lastLoaded;
+    // 게시 후 다시 확인: 그사이 무효화되었다면 invalidate가 게시보다 먼저 비웠을 수 있으므로 여기서 다시 비움
+    if (invalidations.get() != version) {
+      pools = null;
+    }
+    log.info("씰 관광지 풀 갱신 완료 - 지역 수: {}, 변경된 지역 수: {}", refreshed.size(), changed);
+    return lastLoaded;
+  }
+
+  /** 풀을 비웁니다. 트랜잭션 안에서 호출되면 커밋된 뒤에 비웁니다. */
+  public void invalidate() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              clear();
+            }
+          });
+    } else {
+      clear();
+    }
+  }
+
+  /** 진행 중인 갱신이 이전 목록을 다시 게시하지 않도록 무효화 횟수를 먼저 올린 뒤 풀을 비웁니다. */
+  private void clear() {
+    invalidations.incrementAndGet();
+    pools = null;
+  }
+
+  private Map<Location, List<SealSpotSummary>> loadedPools() {
+    Map<Location, List<SealSpotSummary>> current = pools;
+    if (current == null) {
+      synchronized (this) {
+        current = pools;
+        if (current == null) {
+          // 갱신 중 무효화되어 게시되지 않았더라도 이번 조회는 읽은 목록을 사용
+          current = refresh();
+        }
+      }
+    }
+    return current;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.cache;
+
+import com.yfive.gbjs.domain.seal.entity.Location;
+import com.yfive.gbjs.domain.seal.entity.SealSpot;
+import com.yfive.gbjs.domain.seal.entity.SealSpotCategory;
+
+/**
+ * 메모리에 보관하는 씰 관광지 요약 정보 (불변)
+ *
+ * @param id 씰 관광지 ID
+ * @param spotId 관광공사 콘텐츠 ID
+ * @param name 장소명
+ * @param category 카테고리
+ * @param location 지역
+ * @param addr1 주소
+ * @param latitude 위도
+ * @param longitude 경도
+ */
+public record SealSpotSummary(
+    Long id,
+    Long spotId,
+    String name,
+    SealSpotCategory category,
+    Location location,
+    String addr1,
+    Double latitude,
+    Double longitude) {
+
+  public static SealSpotSummary from(SealSpot sealSpot) {
+    return new SealSpotSummary(
+        sealSpot.getId(),
+        sealSpot.getSpotId(),
+        sealSpot.getName(),
+        sealSpot.getCategory(),
+        sealSpot.getLocation(),
+        sealSpot.getAddr1(),
+        sealSpot.getLatitude(),
+        sealSpot.getLongitude());
+  }
+
+  public boolean hasCoordinates() {
+    return latitude != null && longitude != null;
+  }
+}
@@ -5,12 +5,16 @@ package com.yfive.gbjs.domain.seal.controller;
 
 import java.util.List;
 
+import jakarta.validation.Valid;
+
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.yfive.gbjs.domain.seal.dto.request.LocationUpdateRequest;
 import com.yfive.gbjs.domain.seal.dto.response.PopularSealSpotResponse;
 import com.yfive.gbjs.domain.seal.dto.response.SealProductResponse;
 import com.yfive.gbjs.domain.seal.dto.response.SealResponse;
@@ -91,6 +95,36 @@ public interface SealController {
       @RequestParam @Parameter(description = "현재 위치 경도", required = true, example = "129.33222")
           Double longitude);
 
+  @GetMapping("/recommendations")
+  @Operation(
+      summary = "다음 수집 띠부씰 추천",
+      description = "현재 위치에서 거리, 희귀도, 주변 미수집 띠부씰 밀집도를 고려해 아직 모으지 않은 띠부씰을 추천합니다.")
+  ResponseEntity<ApiResponse<UserSealResponse.RecommendedSealListDTO>> getRecommendedSeals(
+      @RequestParam @Parameter(description = "현재 위치 위도", required = true, example = "35.79000")
+          Double latitude,
+      @RequestParam @Parameter(description = "현재 위치 경도", required = true, example = "129.33222")
+          Double longitude,
+      @RequestParam(defaultValue = "5") @Parameter(description = "최대 추천 수 (최대 20)", example = "5")
+          Integer limit);
+
+  @GetMapping(value = "/geofence/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "띠부씰 지오펜스 구독",
+      description =
+          "SSE 스트림을 엽니다. 구독 직후 session 이벤트로 세션 ID를 보내고, 위치 갱신으로 띠부씰 획득 반경(일반 500m, 울릉군 2km)에"
+              + " 들어가거나 나올 때마다 geofence 이벤트를 보냅니다. 사용자별 동시 구독은 기본 최대 3개이며, 넘으면 가장 오래된 스트림에 closed"
+              + " 이벤트를 보내고 닫습니다. (closed를 받으면 다시 연결하지 마세요)")
+  SseEmitter subscribeGeofence(@Parameter(hidden = true) Authentication authentication);
+
+  @PostMapping("/geofence/{sessionId}/location")
+  @Operation(
+      summary = "지오펜스 위치 갱신",
+      description = "구독 세션의 현재 위치를 갱신합니다. 반경 진입/이탈 결과는 구독 스트림으로 전송됩니다.")
+  ResponseEntity<ApiResponse<Void>> updateGeofenceLocation(
+      @Parameter(hidden = true) Authentication authentication,
+      @PathVariable @Parameter(description = "구독 세션 ID", required = true) String sessionId,
+      @Valid @RequestBody LocationUpdateRequest request);
+
   @PostMapping("/collect")
   @Operation(
       summary = "띠부씰 획득",
@@ -10,12 +10,15 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.yfive.gbjs.domain.seal.dto.request.LocationUpdateRequest;
 import com.yfive.gbjs.domain.seal.dto.response.PopularSealSpotResponse;
 import com.yfive.gbjs.domain.seal.dto.response.SealProductResponse;
 import com.yfive.gbjs.domain.seal.dto.response.SealResponse;
 import com.yfive.gbjs.domain.seal.dto.response.UserSealResponse;
 import com.yfive.gbjs.domain.seal.entity.SortBy;
+import com.yfive.gbjs.domain.seal.service.GeofenceService;
 import com.yfive.gbjs.domain.seal.service.SealService;
 import com.yfive.gbjs.global.common.response.ApiResponse;
 
@@ -29,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SealControllerImpl implements SealController {
 
   private final SealService sealService;
+  private final GeofenceService geofenceService;
 
   @Override
   public ResponseEntity<ApiResponse<SealResponse.SealDTO>> getSealById(Long sealId) {
@@ -96,6 +100,26 @@ public class SealControllerImpl implements SealController {
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
+  @Override
+  public ResponseEntity<ApiResponse<UserSealResponse.RecommendedSealListDTO>> getRecommendedSeals(
+      Double latitude, Double longitude, Integer limit) {
+    UserSealResponse.RecommendedSealListDTO response =
+        sealService.getRecommendedSeals(latitude, longitude, limit);
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+
+  @Override
+  public SseEmitter subscribeGeofence(Authentication authentication) {
+    return geofenceService.subscribe();
+  }
+
+  @Override
+  public ResponseEntity<ApiResponse<Void>> updateGeofenceLocation(
+      Authentication authentication, String sessionId, LocationUpdateRequest request) {
+    geofenceService.updateLocation(sessionId, request.getLatitude(), request.getLongitude());
+    return ResponseEntity.ok(ApiResponse.success(null));
+  }
+
   @Override
   public ResponseEntity<ApiResponse<SealResponse.CollectSealResultDTO>> collectSeal(
       Authentication authentication, Long sealId, Double latitude, Double longitude) {
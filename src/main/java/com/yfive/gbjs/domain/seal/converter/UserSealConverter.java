@@ -69,4 +69,20 @@ public class UserSealConverter {
     }
     return builder.build();
   }
+
+  public UserSealResponse.RecommendedSealDTO toRecommendedDTO(
+      Seal seal, Integer distance, Integer nearbyUncollectedCount, Double score) {
+    return UserSealResponse.RecommendedSealDTO.builder()
+        .id(seal.getId())
+        .number(seal.getNumber())
+        .spotName(seal.getSpotName())
+        .locationName(seal.getLocationName())
+        .location(seal.getLocation())
+        .rarity(seal.getRarity())
+        .uncollectedImageUrl(seal.getUncollectedImageUrl())
+        .distance(distance)
+        .nearbyUncollectedCount(nearbyUncollectedCount)
+        .score(score)
+        .build();
+  }
 }
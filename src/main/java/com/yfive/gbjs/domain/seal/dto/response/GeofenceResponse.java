@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.dto.response;
+
+import com.yfive.gbjs.domain.seal.geofence.GeofenceEventType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 띠부씰 지오펜스 응답 DTO */
+public class GeofenceResponse {
+
+  @Builder
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(title = "GeofenceSession : 지오펜스 세션 DTO (구독 직후 session 이벤트로 전송)")
+  public static class GeofenceSessionDTO {
+    @Schema(description = "위치 갱신 시 사용할 세션 ID", example = "5f1c2b9e-7a3d-4a51-9a0e-2d6f1c3b8e47")
+    private String sessionId;
+  }
+
+  @Builder
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(title = "GeofenceEvent : 지오펜스 진입/이탈 DTO (geofence 이벤트로 전송)")
+  public static class GeofenceEventDTO {
+    @Schema(description = "이벤트 종류", example = "ENTER")
+    private GeofenceEventType type;
+
+    @Schema(description = "띠부씰 ID", example = "1")
+    private Long sealId;
+
+    @Schema(description = "획득 위치까지의 거리 (m)", example = "420")
+    private Integer distance;
+  }
+}
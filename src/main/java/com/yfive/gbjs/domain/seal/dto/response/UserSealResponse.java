@@ -147,4 +147,51 @@ public class UserSealResponse {
     @Schema(description = "주변 띠부씰 목록")
     private List<NearbySealDTO> nearbySeals;
   }
+
+  @Builder
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(title = "RecommendedSeal : 추천 띠부씰 DTO")
+  public static class RecommendedSealDTO {
+    @Schema(description = "띠부씰 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "띠부씰 번호", example = "1")
+    private Integer number;
+
+    @Schema(description = "명소 이름", example = "하회마을")
+    private String spotName;
+
+    @Schema(description = "지역 이름", example = "안동")
+    private String locationName;
+
+    @Schema(description = "지역 코드", example = "ANDONG")
+    private Location location;
+
+    @Schema(description = "희귀도", example = "RED")
+    private Rarity rarity;
+
+    @Schema(description = "수집하지 않은 띠부씰 이미지 URL", example = "https://example.com/uncollected.jpg")
+    private String uncollectedImageUrl;
+
+    @Schema(description = "현재 위치로부터의 거리 (m)", example = "1500")
+    private Integer distance;
+
+    @Schema(description = "주변 3km 안의 다른 미수집 띠부씰 수", example = "2")
+    private Integer nearbyUncollectedCount;
+
+    @Schema(description = "추천 점수 (높을수록 우선)", example = "1.25")
+    private Double score;
+  }
+
+  @Builder
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(title = "RecommendedSealList : 추천 띠부씰 목록 DTO")
+  public static class RecommendedSealListDTO {
+    @Schema(description = "추천 띠부씰 목록 (추천 순)")
+    private List<RecommendedSealDTO> recommendedSeals;
+  }
 }
@@ -6,6 +6,7 @@ package com.yfive.gbjs.domain.seal.entity;
 import jakarta.persistence.*;
 
 import com.yfive.gbjs.domain.guide.entity.AudioGuide;
+import com.yfive.gbjs.domain.seal.cache.SealSpotChangeListener;
 import com.yfive.gbjs.global.common.entity.BaseTimeEntity;
 
 import lombok.*;
@@ -16,6 +17,7 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Table(name = "seal_spot")
+@EntityListeners(SealSpotChangeListener.class)
 public class SealSpot extends BaseTimeEntity {
 
   @Id
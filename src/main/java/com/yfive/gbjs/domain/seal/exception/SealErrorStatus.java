@@ -18,7 +18,8 @@ public enum SealErrorStatus implements BaseErrorCode {
   SEAL_TOO_FAR_GENERAL("SEAL003", "띠부씰 획득에 실패했습니다. 500m 이내로 가까이 가주세요.", HttpStatus.BAD_REQUEST),
   SEAL_TOO_FAR_ULLUNG("SEAL004", "띠부씰 획득에 실패했습니다. 2km 이내로 가까이 가주세요.", HttpStatus.BAD_REQUEST),
   SEAL_ALREADY_COLLECTED("SEAL005", "이미 획득한 띠부씰입니다.", HttpStatus.BAD_REQUEST),
-  SEAL_LOCATION_INFO_MISSING("SEAL006", "띠부씰의 위치 정보가 없습니다.", HttpStatus.BAD_REQUEST);
+  SEAL_LOCATION_INFO_MISSING("SEAL006", "띠부씰의 위치 정보가 없습니다.", HttpStatus.BAD_REQUEST),
+  GEOFENCE_SESSION_NOT_FOUND("SEAL007", "지오펜스 구독 세션을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
 
   private final String code;
   private final String message;
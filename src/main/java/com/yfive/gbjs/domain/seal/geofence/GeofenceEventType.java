@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.geofence;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "지오펜스 이벤트 종류")
+public enum GeofenceEventType {
+  @Schema(description = "띠부씰 획득 반경 진입")
+  ENTER,
+
+  @Schema(description = "띠부씰 획득 반경 이탈")
+  EXIT
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.geofence;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.yfive.gbjs.domain.seal.dto.response.GeofenceResponse;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 한 명의 지오펜스 구독 세션
+ *
+ * <p>마지막 위치의 격자 칸과 그 칸에 걸친 지오펜스, 현재 안에 있는 지오펜스를 기억합니다. 위치가 갱신되면 이 지오펜스들만 확인하므로 전체 띠부씰 수와 무관하게
+ * 처리됩니다.
+ */
+@RequiredArgsConstructor
+public class GeofenceSession {
+
+  @Getter private final String sessionId;
+  @Getter private final Long userId;
+  @Getter private final SseEmitter emitter;
+
+  private SealGeofenceIndex.Snapshot snapshot;
+  private long cellKey;
+  private int[] cellFences;
+
+  /** 현재 반경 안에 있는 띠부씰 ID */
+  private final Set<Long> insideSealIds = new HashSet<>();
+
+  /**
+   * 새 위치로 진입/이탈 여부를 판정합니다.
+   *
+   * @param index 현재 지오펜스 인덱스
+   * @param latitude 위도
+   * @param longitude 경도
+   * @return 반경 경계를 넘은 경우에만 발생하는 이벤트 목록
+   */
+  public synchronized List<GeofenceResponse.GeofenceEventDTO> update(
+      SealGeofenceIndex.Snapshot index, double latitude, double longitude) {
+    long currentCell = index.cellKeyOf(latitude, longitude);
+    if (index != snapshot || currentCell != cellKey) {
+      snapshot = index;
+      cellKey = currentCell;
+      cellFences = index.fencesInCell(currentCell);
+    }
+
+    List<GeofenceResponse.GeofenceEventDTO> events = new ArrayList<>();
+
+    // 이탈: 안에 있던 지오펜스 중 반경을 벗어난 것
+    Iterator<Long> inside = insideSealIds.iterator();
+    while (inside.hasNext()) {
+      long sealId = inside.next();
+      Integer fence = index.indexOf(sealId);
+      double distance =
+          fence == null ? Double.MAX_VALUE : index.distanceMeters(fence, latitude, longitude);
+      if (fence == null || distance > index.radiusMeters(fence)) {
+        inside.remove();
+        events.add(
+            toEvent(
+                GeofenceEventType.EXIT,
+                sealId,
+                fence == null ? null : (int) Math.round(distance)));
+      }
+    }
+
+    // 진입: 현재 칸에 걸친 지오펜스 중 새로 반경 안에 들어온 것
+    for (int fence : cellFences) {
+      long sealId = index.sealId(fence);
+      if (insideSealIds.contains(sealId)) {
+        continue;
+      }
+      double distance = index.distanceMeters(fence, latitude, longitude);
+      if (distance <= index.radiusMeters(fence)) {
+        insideSealIds.add(sealId);
+        events.add(toEvent(GeofenceEventType.ENTER, sealId, (int) Math.round(distance)));
+      }
+    }
+    return events;
+  }
+
+  private GeofenceResponse.GeofenceEventDTO toEvent(
+      GeofenceEventType type, long sealId, Integer distance) {
+    return GeofenceResponse.GeofenceEventDTO.builder()
+        .type(type)
+        .sealId(sealId)
+        .distance(distance)
+        .build();
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.geofence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.domain.seal.cache.SealSpotPool;
+import com.yfive.gbjs.domain.seal.cache.SealSpotSummary;
+import com.yfive.gbjs.domain.seal.entity.Location;
+import com.yfive.gbjs.domain.seal.repository.SealRepository;
+import com.yfive.gbjs.domain.seal.repository.SealRepository.SealFenceRow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 띠부씰 지오펜스 인덱스
+ *
+ * <p>띠부씰마다 획득 위치(오디오 가이드 좌표)를 중심으로 획득 반경의 원을 만들고, 원이 걸치는 공간 해시 격자 칸마다 등록해 둡니다. 위치 갱신 시에는 사용자가
+ * 속한 칸의 원만 확인하면 됩니다.
+ *
+ * <p>씰 관광지 풀이 갱신되면 다음 조회에서 인덱스를 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SealGeofenceIndex {
+
+  /** 일반 지역 띠부씰 획득 반경 (m) */
+  public static final int GENERAL_RADIUS_METERS = 500;
+
+  /** 울릉군(울릉도, 독도) 띠부씰 획득 반경 (m) */
+  public static final int ULLUNG_RADIUS_METERS = 2000;
+
+  /** 격자 칸 크기 (위도/경도, 약 2km) */
+  private static final double CELL_DEGREES = 0.02;
+
+  private static final double METERS_PER_DEGREE = 111_320;
+
+  private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+  private final SealSpotPool sealSpotPool;
+  private final SealRepository sealRepository;
+
+  private volatile Snapshot snapshot;
+
+  /** 지역별 띠부씰 획득 반경 (m) */
+  public static int collectRadiusMeters(Location location) {
+    return location == Location.ULLUNG ? ULLUNG_RADIUS_METERS : GENERAL_RADIUS_METERS;
+  }
+
+  /** 현재 인덱스를 반환합니다. 씰 관광지 풀이 갱신되었으면 다시 만듭니다. */
+  public Snapshot current() {
+    Map<Location, List<SealSpotSummary>> pools = sealSpotPool.getAll();
+    Snapshot current = snapshot;
+    if (current == null || current.source != pools) {
+      synchronized (this) {
+        current = snapshot;
+        if (current == null || current.source != pools) {
+          current = build(pools);
+          snapshot = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  private Snapshot build(Map<Location, List<SealSpotSummary>> pools) {
+    List<Fence> fences = new ArrayList<>();
+    for (SealFenceRow row : sealRepository.findAllFenceRows()) {
+      if (row.getLatitude() == null || row.getLongitude() == null) {
+        continue;
+      }
+      try {
+        fences.add(
+            new Fence(
+                row.getSealId(),
+                Double.parseDouble(row.getLatitude()),
+                Double.parseDouble(row.getLongitude()),
+                collectRadiusMeters(row.getLocation())));
+      } catch (NumberFormatException e) {
+        log.warn("띠부씰 획득 위치 좌표 형식 오류 - sealId: {}", row.getSealId());
+      }
+    }
+
+    Snapshot built = new Snapshot(pools, fences);
+    log.info("띠부씰 지오펜스 인덱스 생성 완료 - 지오펜스 수: {}", fences.size());
+    return built;
+  }
+
+  private record Fence(long sealId, double latitude, double longitude, int radiusMeters) {}
+
+  /** 지오펜스 인덱스 한 세대 (불변) */
+  public static final class Snapshot {
+
+    private static final int[] NO_FENCES = new int[0];
+
+    private final Map<Location, List<SealSpotSummary>> source;
+    private final long[] sealIds;
+    private final double[] latRad;
+    private final double[] lonRad;
+    private final double[] cosLat;
+    private final int[] radiusMeters;
+    private final Map<Long, Integer> indexBySealId;
+
+    /** 격자 칸 키 -> 칸에 걸친 지오펜스 */
+    private final Map<Long, int[]> grid;
+
+    private Snapshot(Map<Location, List<SealSpotSummary>> source, List<Fence> fences) {
+      this.source = source;
+      int n = fences.size();
+      this.sealIds = new long[n];
+      this.latRad = new double[n];
+      this.lonRad = new double[n];
+      this.cosLat = new double[n];
+      this.radiusMeters = new int[n];
+      this.indexBySealId = new HashMap<>(n * 2);
+
+      Map<Long, List<Integer>> cells = new HashMap<>();
+      for (int i = 0; i < n; i++) {
+        Fence fence = fences.get(i);
+        sealIds[i] = fence.sealId();
+        latRad[i] = Math.toRadians(fence.latitude());
+        lonRad[i] = Math.toRadians(fence.longitude());
+        cosLat[i] = Math.cos(latRad[i]);
+        radiusMeters[i] = fence.radiusMeters();
+        indexBySealId.put(fence.sealId(), i);
+
+        // 원을 감싸는 사각형이 걸치는 모든 칸에 등록
+        double latSpan = fence.radiusMeters() / METERS_PER_DEGREE;
+        double lonSpan = fence.radiusMeters() / (METERS_PER_DEGREE * cosLat[i]);
+        for (int latCell = cell(fence.latitude() - latSpan);
+            latCell <= cell(fence.latitude() + latSpan);
+            latCell++) {
+          for (int lonCell = cell(fence.longitude() - lonSpan);
+              lonCell <= cell(fence.longitude() + lonSpan);
+              lonCell++) {
+            cells.computeIfAbsent(cellKey(latCell, lonCell), key -> new ArrayList<>()).add(i);
+          }
+        }
+      }
+
+      this.grid = new HashMap<>(cells.size() * 2);
+      cells.forEach(
+          (key, indexes) -> grid.put(key, indexes.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /** 좌표가 속한 격자 칸 키 */
+    public long cellKeyOf(double latitude, double longitude) {
+      return cellKey(cell(latitude), cell(longitude));
+    }
+
+    /** 격자 칸에 걸친 지오펜스 인덱스 */
+    public int[] fencesInCell(long cellKey) {
+      return grid.getOrDefault(cellKey, NO_FENCES);
+    }
+
+    /** 띠부씰 ID의 지오펜스 인덱스 (없으면 null) */
+    public Integer indexOf(long sealId) {
+      return indexBySealId.get(sealId);
+    }
+
+    public long sealId(int fence) {
+      return sealIds[fence];
+    }
+
+    public int radiusMeters(int fence) {
+      return radiusMeters[fence];
+    }
+
+    /** 지오펜스 중심까지의 거리 (m, Haversine) */
+    public double distanceMeters(int fence, double latitude, double longitude) {
+      double lat = Math.toRadians(latitude);
+      double sinLat = Math.sin((latRad[fence] - lat) / 2);
+      double sinLon = Math.sin((lonRad[fence] - Math.toRadians(longitude)) / 2);
+      double a = sinLat * sinLat + Math.cos(lat) * cosLat[fence] * sinLon * sinLon;
+      return 2 * EARTH_RADIUS_METERS * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private static int cell(double degrees) {
+      return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+      return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+  }
+}
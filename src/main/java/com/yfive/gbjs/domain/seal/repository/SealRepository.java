@@ -7,8 +7,10 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.yfive.gbjs.domain.seal.entity.Location;
 import com.yfive.gbjs.domain.seal.entity.Seal;
 
 /** 띠부씰 리포지토리 띠부씰 엔티티에 대한 데이터베이스 접근을 담당 */
@@ -19,4 +21,27 @@ public interface SealRepository extends JpaRepository<Seal, Long> {
   List<Seal> findAllByLocationNameIn(List<String> locationNames);
 
   List<Seal> findBySealSpot_Id(Long sealSpotId);
+
+  /**
+   * 지오펜스 생성에 필요한 띠부씰별 획득 위치(오디오 가이드 좌표)를 조회합니다.
+   *
+   * @return 오디오 가이드가 연결된 띠부씰의 위치 목록
+   */
+  @Query(
+      "SELECT s.id AS sealId, ss.location AS location,"
+          + " ag.latitude AS latitude, ag.longitude AS longitude"
+          + " FROM Seal s JOIN s.sealSpot ss JOIN ss.audioGuide ag")
+  List<SealFenceRow> findAllFenceRows();
+
+  /** 띠부씰 획득 위치 */
+  interface SealFenceRow {
+
+    Long getSealId();
+
+    Location getLocation();
+
+    String getLatitude();
+
+    String getLongitude();
+  }
 }
@@ -29,6 +29,15 @@ public interface UserSealRepository extends JpaRepository<UserSeal, Long> {
   @Query("SELECT us FROM UserSeal us WHERE us.user.id = :userId")
   List<UserSeal> findByUserId(@Param("userId") Long userId);
 
+  /**
+   * 특정 사용자가 수집한 띠부씰 ID 조회
+   *
+   * @param userId 사용자 ID
+   * @return 수집 완료한 띠부씰 ID 목록
+   */
+  @Query("SELECT us.seal.id FROM UserSeal us WHERE us.user.id = :userId AND us.collected = true")
+  List<Long> findCollectedSealIdsByUserId(@Param("userId") Long userId);
+
   /**
    * 특정 사용자가 수집한 띠부씰 개수 조회
    *
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.domain.seal.cache.SealSpotPool;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 씰 관광지 풀 스케줄러
+ *
+ * <p>서버 시작 직후와 이후 주기적으로 씰 관광지 풀을 다시 읽어, 애플리케이션을 거치지 않은 DB 변경도 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SealSpotPoolScheduler {
+
+  private final SealSpotPool sealSpotPool;
+
+  @Scheduled(
+      initialDelayString = "${seal.spot-pool.initial-delay-ms:0}",
+      fixedDelayString = "${seal.spot-pool.refresh-interval-ms:600000}")
+  public void refreshSealSpotPool() {
+    sealSpotPool.refresh();
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.yfive.gbjs.global.error.exception.CustomException;
+
+/** 띠부씰 지오펜스 서비스 인터페이스 위치 갱신에 따른 띠부씰 획득 반경 진입/이탈 알림을 정의 */
+public interface GeofenceService {
+
+  /**
+   * 현재 사용자의 지오펜스 이벤트 스트림(SSE)을 엽니다. 구독 직후 세션 ID를 담은 session 이벤트가 전송됩니다. 사용자별 최대 세션 수를 넘으면 가장
+   * 오래된 세션에 closed 이벤트를 보내고 닫습니다.
+   *
+   * @return SSE 스트림
+   */
+  SseEmitter subscribe();
+
+  /**
+   * 세션의 현재 위치를 갱신합니다. 띠부씰 획득 반경 경계를 넘은 경우에만 geofence 이벤트가 스트림으로 전송됩니다. 세션이 다른 서버에 연결되어 있으면 그
+   * 서버로 전달합니다.
+   *
+   * @param sessionId 구독 시 받은 세션 ID
+   * @param latitude 현재 위치 위도
+   * @param longitude 현재 위치 경도
+   * @throws CustomException 세션이 없거나 다른 사용자의 세션인 경우
+   */
+  void updateLocation(String sessionId, Double latitude, Double longitude);
+}
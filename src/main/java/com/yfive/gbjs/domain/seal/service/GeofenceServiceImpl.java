@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.yfive.gbjs.domain.seal.dto.response.GeofenceResponse;
+import com.yfive.gbjs.domain.seal.exception.SealErrorStatus;
+import com.yfive.gbjs.domain.seal.geofence.GeofenceSession;
+import com.yfive.gbjs.domain.seal.geofence.SealGeofenceIndex;
+import com.yfive.gbjs.global.error.exception.CustomException;
+import com.yfive.gbjs.global.security.CurrentUser;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 띠부씰 지오펜스 서비스 구현체
+ *
+ * <p>SSE 연결은 구독한 서버에만 있으므로 세션은 그 서버의 메모리에 보관하고, 세션 소유자는 Redis에 등록합니다. 다른 서버로 들어온 위치 갱신은 Redis
+ * Pub/Sub으로 전달되어 세션을 가진 서버가 진입/이탈을 판정합니다. 사용자별 동시 세션 수를 제한하며, 넘으면 가장 오래된 세션을 닫습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeofenceServiceImpl implements GeofenceService, MessageListener {
+
+  /** 위치 갱신 전달 및 세션 종료 알림 채널 */
+  static final String CHANNEL = "geofence:events";
+
+  /** 세션 ID -> 사용자 ID */
+  static final String SESSION_KEY_PREFIX = "geofence:session:";
+
+  /** 사용자 ID -> 세션 ID (점수: 구독 시각) */
+  static final String USER_SESSIONS_KEY_PREFIX = "geofence:user:";
+
+  private static final String SESSION_EVENT = "session";
+  private static final String GEOFENCE_EVENT = "geofence";
+  private static final String CLOSED_EVENT = "closed";
+
+  private static final String LOCATION_MESSAGE = "location";
+  private static final String CLOSE_MESSAGE = "close";
+  private static final String DELIMITER = "|";
+
+  private final SealGeofenceIndex sealGeofenceIndex;
+  private final CurrentUser currentUser;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  /** 이 서버에 연결된 세션 */
+  private final Map<String, GeofenceSession> sessions = new ConcurrentHashMap<>();
+
+  @Value("${seal.geofence.session-timeout-ms:1800000}")
+  private long sessionTimeoutMs;
+
+  @Value("${seal.geofence.max-sessions-per-user:3}")
+  private int maxSessionsPerUser;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  @Override
+  public SseEmitter subscribe() {
+    Long userId = currentUser.getId();
+    String sessionId = UUID.randomUUID().toString();
+    SseEmitter emitter = new SseEmitter(sessionTimeoutMs);
+    GeofenceSession session = new GeofenceSession(sessionId, userId, emitter);
+
+    sessions.put(sessionId, session);
+    emitter.onCompletion(() -> remove(session));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(e -> remove(session));
+
+    register(session);
+    send(
+        session,
+        SESSION_EVENT,
+        GeofenceResponse.GeofenceSessionDTO.builder().sessionId(sessionId).build());
+    log.info("지오펜스 구독 시작 - userId: {}, sessionId: {}", userId, sessionId);
+    return emitter;
+  }
+
+  @Override
+  public void updateLocation(String sessionId, Double latitude, Double longitude) {
+    Long userId = currentUser.getId();
+    GeofenceSession session = sessions.get(sessionId);
+    if (session != null) {
+      if (!session.getUserId().equals(userId)) {
+        throw new CustomException(SealErrorStatus.GEOFENCE_SESSION_NOT_FOUND);
+      }
+      update(session, latitude, longitude);
+      return;
+    }
+
+    // 다른 서버에 연결된 세션이면 그 서버로 전달
+    Object owner = redisTemplate.opsForValue().get(SESSION_KEY_PREFIX + sessionId);
+    if (owner == null || !owner.toString().equals(userId.toString())) {
+      throw new CustomException(SealErrorStatus.GEOFENCE_SESSION_NOT_FOUND);
+    }
+    redisTemplate.convertAndSend(
+        CHANNEL,
+        String.join(
+            DELIMITER, LOCATION_MESSAGE, sessionId, latitude.toString(), longitude.toString()));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    String[] parts = body.split("\\" + DELIMITER);
+    GeofenceSession session = parts.length > 1 ? sessions.get(parts[1]) : null;
+    if (session == null) {
+      // 다른 서버의 세션
+      return;
+    }
+    try {
+      if (parts[0].equals(LOCATION_MESSAGE) && parts.length == 4) {
+        update(session, Double.parseDouble(parts[2]), Double.parseDouble(parts[3]));
+      } else if (parts[0].equals(CLOSE_MESSAGE)) {
+        close(session);
+      } else {
+        log.warn("지오펜스 알림 형식 오류: {}", body);
+      }
+    } catch (NumberFormatException e) {
+      log.warn("지오펜스 알림 형식 오류: {}", body);
+    }
+  }
+
+  private void update(GeofenceSession session, double latitude, double longitude) {
+    List<GeofenceResponse.GeofenceEventDTO> events =
+        session.update(sealGeofenceIndex.current(), latitude, longitude);
+    for (GeofenceResponse.GeofenceEventDTO event : events) {
+      send(session, GEOFENCE_EVENT, event);
+    }
+  }
+
+  /**
+   * 세션 소유자를 Redis에 등록하고, 사용자의 세션이 최대 수를 넘으면 가장 오래된 세션부터 닫습니다. 닫을 세션이 다른 서버에 있을 수 있으므로 종료는
+   * Pub/Sub으로 알립니다.
+   */
+  private void register(GeofenceSession session) {
+    String userSessionsKey = USER_SESSIONS_KEY_PREFIX + session.getUserId();
+    long now = System.currentTimeMillis();
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(
+              SESSION_KEY_PREFIX + session.getSessionId(),
+              session.getUserId().toString(),
+              sessionTimeoutMs,
+              TimeUnit.MILLISECONDS);
+
+      // 서버 종료 등으로 정리되지 않은 만료 세션 제거 후 등록
+      redisTemplate.opsForZSet().removeRangeByScore(userSessionsKey, 0, now - sessionTimeoutMs);
+      redisTemplate.opsForZSet().add(userSessionsKey, session.getSessionId(), now);
+      redisTemplate.expire(userSessionsKey, sessionTimeoutMs, TimeUnit.MILLISECONDS);
+
+      Long count = redisTemplate.opsForZSet().zCard(userSessionsKey);
+      if (count == null || count <= maxSessionsPerUser) {
+        return;
+      }
+      Set<Object> oldest =
+          redisTemplate.opsForZSet().range(userSessionsKey, 0, count - maxSessionsPerUser - 1);
+      if (oldest == null) {
+        return;
+      }
+      for (Object sessionId : oldest) {
+        redisTemplate.opsForZSet().remove(userSessionsKey, sessionId);
+        redisTemplate.delete(SESSION_KEY_PREFIX + sessionId);
+        redisTemplate.convertAndSend(CHANNEL, CLOSE_MESSAGE + DELIMITER + sessionId);
+      }
+    } catch (Exception e) {
+      // 이 서버로 들어온 위치 갱신은 계속 처리됨
+      log.warn("지오펜스 세션 등록 실패 - sessionId: {}: {}", session.getSessionId(), e.getMessage());
+    }
+  }
+
+  /** 최대 세션 수를 넘어 닫히는 세션에 closed 이벤트를 보내 클라이언트가 다시 연결하지 않도록 합니다. */
+  private void close(GeofenceSession session) {
+    GeofenceResponse.GeofenceSessionDTO closed =
+        GeofenceResponse.GeofenceSessionDTO.builder().sessionId(session.getSessionId()).build();
+    if (send(session, CLOSED_EVENT, closed)) {
+      session.getEmitter().complete();
+    }
+    log.info(
+        "지오펜스 세션 종료 (최대 세션 수 초과) - userId: {}, sessionId: {}",
+        session.getUserId(),
+        session.getSessionId());
+  }
+
+  private void remove(GeofenceSession session) {
+    if (sessions.remove(session.getSessionId()) == null) {
+      return;
+    }
+    try {
+      redisTemplate.delete(SESSION_KEY_PREFIX + session.getSessionId());
+      redisTemplate
+          .opsForZSet()
+          .remove(USER_SESSIONS_KEY_PREFIX + session.getUserId(), session.getSessionId());
+    } catch (Exception e) {
+      // 세션 키는 만료 시간 후 삭제됨
+      log.warn("지오펜스 세션 정리 실패 - sessionId: {}: {}", session.getSessionId(), e.getMessage());
+    }
+  }
+
+  /**
+   * 스트림으로 이벤트를 전송합니다. 연결이 끊겼으면 세션을 정리합니다.
+   *
+   * @return 전송 성공 여부
+   */
+  private boolean send(GeofenceSession session, String name, Object data) {
+    try {
+      synchronized (session) {
+        session.getEmitter().send(SseEmitter.event().name(name).data(data));
+      }
+      return true;
+    } catch (IOException | IllegalStateException e) {
+      log.debug("지오펜스 이벤트 전송 실패 - sessionId: {}", session.getSessionId(), e);
+      remove(session);
+      session.getEmitter().completeWithError(e);
+      return false;
+    }
+  }
+}
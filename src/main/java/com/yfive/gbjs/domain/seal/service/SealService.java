@@ -87,6 +87,19 @@ public interface SealService {
    */
   UserSealResponse.NearbySealListDTO getNearbySeals(Double latitude, Double longitude);
 
+  /**
+   * 현재 위치 기반으로 다음에 모으기 좋은 미수집 띠부씰 추천
+   *
+   * <p>거리, 희귀도, 주변 미수집 띠부씰 밀집도를 함께 고려합니다.
+   *
+   * @param latitude 현재 위치 위도
+   * @param longitude 현재 위치 경도
+   * @param limit 최대 추천 수
+   * @return 추천 순으로 정렬된 미수집 띠부씰 목록
+   */
+  UserSealResponse.RecommendedSealListDTO getRecommendedSeals(
+      Double latitude, Double longitude, Integer limit);
+
   /**
    * 위치 인증을 통한 띠부씰 획득
    *
@@ -5,14 +5,18 @@ package com.yfive.gbjs.domain.seal.service;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.yfive.gbjs.domain.seal.cache.SealProximityIndex;
+import com.yfive.gbjs.domain.seal.cache.SealProximityIndex.Recommendation;
 import com.yfive.gbjs.domain.seal.converter.SealConverter;
 import com.yfive.gbjs.domain.seal.converter.SealProductConverter;
 import com.yfive.gbjs.domain.seal.converter.UserSealConverter;
@@ -23,6 +27,7 @@ import com.yfive.gbjs.domain.seal.dto.response.UserSealResponse;
 import com.yfive.gbjs.domain.seal.entity.*;
 import com.yfive.gbjs.domain.seal.entity.mapper.UserSeal;
 import com.yfive.gbjs.domain.seal.exception.SealErrorStatus;
+import com.yfive.gbjs.domain.seal.geofence.SealGeofenceIndex;
 import com.yfive.gbjs.domain.seal.repository.SealProductRepository;
 import com.yfive.gbjs.domain.seal.repository.SealRepository;
 import com.yfive.gbjs.domain.seal.repository.SealSpotRepository;
@@ -32,6 +37,7 @@ import com.yfive.gbjs.domain.user.service.UserService;
 import com.yfive.gbjs.global.error.exception.CustomException;
 import com.yfive.gbjs.global.s3.entity.PathName;
 import com.yfive.gbjs.global.s3.service.S3Service;
+import com.yfive.gbjs.global.security.CurrentUser;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +49,9 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class SealServiceImpl implements SealService {
 
+  /** 다음 수집 띠부씰 최대 추천 수 */
+  private static final int MAX_RECOMMENDATIONS = 20;
+
   private final SealRepository sealRepository;
   private final UserSealRepository userSealRepository;
   private final SealProductRepository sealProductRepository;
@@ -50,9 +59,11 @@ public class SealServiceImpl implements SealService {
   private final SealConverter sealConverter;
   private final UserSealConverter userSealConverter;
   private final UserService userService;
+  private final CurrentUser currentUser;
   private final S3Service s3Service;
 
   private final SealSpotRepository sealSpotRepository;
+  private final SealProximityIndex sealProximityIndex;
 
   /** ID로 특정 띠부씰을 조회하여 반환 */
   @Override
@@ -72,7 +83,7 @@ public class SealServiceImpl implements SealService {
             .findBySealSpotId(sealSpotId)
             .orElseThrow(() -> new CustomException(SealErrorStatus.SEAL_NOT_FOUND));
 
-    Long userId = userService.getCurrentUser().getId();
+    Long userId = currentUser.getId();
     UserSeal userSeal =
         userSealRepository.findByUser_IdAndSeal_Id(userId, seal.getId()).orElse(null);
     boolean collected = userSeal != null && userSeal.getCollected();
@@ -84,7 +95,7 @@ public class SealServiceImpl implements SealService {
   /** 행정구역 띠부씰을 조회하여 반환 */
   @Override
   public UserSealResponse.UserSealListDTO getAllSeals(SortBy sortBy, List<String> locationNames) {
-    Long userId = userService.getCurrentUser().getId();
+    Long userId = currentUser.getId();
     List<UserSeal> userSeals = userSealRepository.findByUserId(userId);
     Map<Long, UserSeal> userSealMap =
         userSeals.stream().collect(Collectors.toMap(us -> us.getSeal().getId(), us -> us));
@@ -115,7 +126,7 @@ public class SealServiceImpl implements SealService {
   /** 특정 사용자의 띠부씰 수집 현황을 조회 모든 띠부씰에 대해 사용자의 수집 여부와 수집 시간을 포함하여 반환 */
   @Override
   public UserSealResponse.UserSealListDTO getUserSeals(SortBy sortBy) {
-    Long userId = userService.getCurrentUser().getId();
+    Long userId = currentUser.getId();
     List<Seal> allSeals = sealRepository.findAll();
     List<UserSeal> userSeals = userSealRepository.findByUserId(userId);
 
@@ -142,7 +153,7 @@ public class SealServiceImpl implements SealService {
   /** 특정 사용자의 띠부씰 수집 개수를 조회 */
   @Override
   public UserSealResponse.SealCountResponseDTO getSealCounts() {
-    Long userId = userService.getCurrentUser().getId();
+    Long userId = currentUser.getId();
     long totalCount = sealRepository.count();
     long collectedCount = userSealRepository.countByUserId(userId);
 
@@ -265,7 +276,7 @@ public class SealServiceImpl implements SealService {
   /** 현재 위치 기반 가까운 띠부씰 조회 */
   @Override
   public UserSealResponse.NearbySealListDTO getNearbySeals(Double latitude, Double longitude) {
-    Long userId = userService.getCurrentUser().getId();
+    Long userId = currentUser.getId();
     List<UserSeal> userSeals = userSealRepository.findByUserId(userId);
     Map<Long, UserSeal> userSealMap =
         userSeals.stream().collect(Collectors.toMap(us -> us.getSeal().getId(), us -> us));
@@ -315,6 +326,40 @@ public class SealServiceImpl implements SealService {
     return UserSealResponse.NearbySealListDTO.builder().nearbySeals(nearbySealDTOs).build();
   }
 
+  /** 현재 위치 기반 다음 수집 띠부씰 추천 (근접 인덱스의 이웃 그래프를 제한된 범위만 탐색) */
+  @Override
+  public UserSealResponse.RecommendedSealListDTO getRecommendedSeals(
+      Double latitude, Double longitude, Integer limit) {
+    Long userId = currentUser.getId();
+    Set<Long> collectedSealIds =
+        new HashSet<>(userSealRepository.findCollectedSealIdsByUserId(userId));
+    int size = Math.min(Math.max(limit, 1), MAX_RECOMMENDATIONS);
+
+    List<Recommendation> recommendations =
+        sealProximityIndex.recommend(latitude, longitude, collectedSealIds, size);
+    Map<Long, Seal> seals =
+        sealRepository
+            .findAllById(recommendations.stream().map(Recommendation::sealId).toList())
+            .stream()
+            .collect(Collectors.toMap(Seal::getId, seal -> seal));
+
+    List<UserSealResponse.RecommendedSealDTO> recommendedSeals =
+        recommendations.stream()
+            .filter(recommendation -> seals.containsKey(recommendation.sealId()))
+            .map(
+                recommendation ->
+                    userSealConverter.toRecommendedDTO(
+                        seals.get(recommendation.sealId()),
+                        (int) Math.round(recommendation.distanceKm() * 1000),
+                        recommendation.clusterSize(),
+                        Math.round(recommendation.score() * 100.0) / 100.0))
+            .collect(Collectors.toList());
+
+    return UserSealResponse.RecommendedSealListDTO.builder()
+        .recommendedSeals(recommendedSeals)
+        .build();
+  }
+
   /**
    * Haversine 공식을 사용한 두 지점 간 거리 계산
    *
@@ -379,7 +424,7 @@ public class SealServiceImpl implements SealService {
       // 5. 지역별 허용 반경 내인지 확인 (울릉도, 독도는 2km, 나머지는 500m)
       // ULLUNG location에는 울릉도와 독도가 모두 포함됨
       boolean isUllung = seal.getSealSpot().getLocation() == Location.ULLUNG;
-      int allowedRadius = isUllung ? 2000 : 500;
+      int allowedRadius = SealGeofenceIndex.collectRadiusMeters(seal.getSealSpot().getLocation());
 
       if (distanceM > allowedRadius) {
         // 울릉도/독도는 2km, 나머지는 500m 메시지 구분
@@ -441,7 +486,7 @@ public class SealServiceImpl implements SealService {
   @Override
   @Transactional
   public void deleteCollectedSeal(Long sealId) {
-    Long userId = userService.getCurrentUser().getId();
+    Long userId = currentUser.getId();
 
     // UserSeal 조회
     UserSeal userSeal =
@@ -53,6 +53,10 @@ public class SpotDetailResponse {
   @Schema(description = "음성 가이드 총 개수", example = "16")
   private Integer totalTts;
 
+  @Setter
+  @Schema(description = "생성 대기 중인 음성 가이드 개수", example = "3")
+  private Integer pendingTts;
+
   @Setter
   @Schema(description = "음성 가이드 리스트")
   private List<SpotTtsResponse> ttsResponseList;
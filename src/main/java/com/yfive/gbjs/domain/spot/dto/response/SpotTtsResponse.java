@@ -3,6 +3,8 @@
  */
 package com.yfive.gbjs.domain.spot.dto.response;
 
+import com.yfive.gbjs.domain.tts.entity.TtsTaskStatus;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,4 +27,7 @@ public class SpotTtsResponse {
       description = "생성된 오디오 URL",
       example = "https://gbjs-bucket.s3.ap-northeast-2.amazonaws.com/audio%3Fid%3D126143")
   private String audioURL;
+
+  @Schema(description = "음성 파일 생성 상태 (DONE이 아니면 audioURL은 null)", example = "DONE")
+  private TtsTaskStatus ttsStatus;
 }
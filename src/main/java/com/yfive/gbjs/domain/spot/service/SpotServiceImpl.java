@@ -8,16 +8,20 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yfive.gbjs.domain.guide.entity.AudioGuide;
@@ -28,16 +32,18 @@ import com.yfive.gbjs.domain.spot.dto.response.SpotTtsResponse;
 import com.yfive.gbjs.domain.spot.entity.SearchBy;
 import com.yfive.gbjs.domain.spot.entity.SortBy;
 import com.yfive.gbjs.domain.spot.exception.SpotErrorStatus;
-import com.yfive.gbjs.domain.tts.dto.request.TtsRequest;
 import com.yfive.gbjs.domain.tts.entity.AudioFile;
+import com.yfive.gbjs.domain.tts.entity.TtsSetting;
+import com.yfive.gbjs.domain.tts.entity.TtsTaskStatus;
 import com.yfive.gbjs.domain.tts.repository.TtsRepository;
-import com.yfive.gbjs.domain.tts.service.TtsService;
-import com.yfive.gbjs.domain.user.entity.User;
-import com.yfive.gbjs.domain.user.service.UserService;
+import com.yfive.gbjs.domain.tts.service.TtsTaskService;
 import com.yfive.gbjs.global.error.exception.CustomException;
+import com.yfive.gbjs.global.http.SingleFlightRestExecutor;
 import com.yfive.gbjs.global.page.dto.response.PageResponse;
 import com.yfive.gbjs.global.page.exception.PageErrorStatus;
 import com.yfive.gbjs.global.page.mapper.PageMapper;
+import com.yfive.gbjs.global.security.AuthenticatedUser;
+import com.yfive.gbjs.global.security.CurrentUser;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,8 +53,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SpotServiceImpl implements SpotService {
 
-  private final TtsService ttsService;
-  private final UserService userService;
+  private final TtsTaskService ttsTaskService;
+  private final CurrentUser currentUser;
 
   @Value("${openapi.secret.key}")
   private String serviceKey;
@@ -57,7 +63,11 @@ public class SpotServiceImpl implements SpotService {
   private String spotApiUrl;
 
   private final ObjectMapper objectMapper;
-  private final RestClient restClient;
+  private final SingleFlightRestExecutor singleFlightRestExecutor;
+
+  @Qualifier("ktoRestClient")
+  private final RestClient ktoRestClient;
+
   private final PageMapper pageMapper;
   private final AudioGuideRepository audioGuideRepository;
   private final TtsRepository ttsRepository;
@@ -114,14 +124,10 @@ public class SpotServiceImpl implements SpotService {
             .queryParam("cat2", cat2)
             .queryParam("cat3", cat3);
 
-    String response =
-        restClient.get().uri(uriBuilder.build(true).toUri()).retrieve().body(String.class);
-
-    validateApiResponse(response);
-
     try {
-      JsonNode root = objectMapper.readTree(response);
-      JsonNode items = root.path("response").path("body").path("items").path("item");
+      JsonNode items =
+          singleFlightRestExecutor.get(
+              ktoRestClient, uriBuilder.build(true).toUri(), this::readItems);
 
       List<SpotResponse> spotResponses = new ArrayList<>();
       for (JsonNode item : items) {
@@ -146,6 +152,8 @@ public class SpotServiceImpl implements SpotService {
       }
 
       return spotResponses;
+    } catch (CustomException e) {
+      throw e;
     } catch (Exception e) {
       log.error("관광지 목록 파싱 실패", e);
       throw new CustomException(SpotErrorStatus.SPOT_API_ERROR);
@@ -153,7 +161,6 @@ public class SpotServiceImpl implements SpotService {
   }
 
   @Override
-  @Transactional
   public SpotDetailResponse getSpotByContentId(
       Long contentId, Double latitude, Double longitude, Boolean isDetail) {
 
@@ -165,14 +172,10 @@ public class SpotServiceImpl implements SpotService {
             .queryParam("_type", "JSON")
             .queryParam("contentId", contentId);
 
-    String response =
-        restClient.get().uri(uriBuilder.build(true).toUri()).retrieve().body(String.class);
-
-    validateApiResponse(response);
-
     try {
-      JsonNode root = objectMapper.readTree(response);
-      JsonNode itemNode = root.path("response").path("body").path("items").path("item");
+      JsonNode itemNode =
+          singleFlightRestExecutor.get(
+              ktoRestClient, uriBuilder.build(true).toUri(), this::readItems);
       if (itemNode.isArray()) {
         if (itemNode.isEmpty()) {
           throw new CustomException(SpotErrorStatus.SPOT_API_ERROR);
@@ -204,58 +207,94 @@ public class SpotServiceImpl implements SpotService {
               itemNode.get("cat2").asText(),
               itemNode.get("cat3").asText()));
 
-      List<AudioGuide> audioGuides = audioGuideRepository.findByContentId(contentId);
-
       if (isDetail) {
-        User user = userService.getCurrentUser();
-        String type;
-        switch (user.getTtsSetting()) {
-          case FEMALE_B -> type = "B";
-          case MALE_C -> type = "C";
-          case MALE_D -> type = "D";
-          default -> type = "A";
-        }
-
-        List<SpotTtsResponse> spotTtsResponses =
-            audioGuides.stream()
-                .map(
-                    guide -> {
-                      AudioFile audioFile =
-                          ttsRepository.findByTypeAndAudioGuideId(type, guide.getId());
-
-                      if (audioFile == null) {
-                        ttsService.convertTextToSpeech(
-                            guide.getId(), user.getTtsSetting(), new TtsRequest(guide.getScript()));
-                        audioFile = ttsRepository.findByTypeAndAudioGuideId(type, guide.getId());
-                      }
-
-                      String audioUrl = (audioFile != null) ? audioFile.getFileUrl() : null;
-                      return SpotTtsResponse.builder()
-                          .guideId(guide.getId())
-                          .title(guide.getTitle())
-                          .script(guide.getScript())
-                          .audioURL(audioUrl)
-                          .build();
-                    })
-                .toList();
+        AuthenticatedUser user = currentUser.get();
+        List<SpotTtsResponse> spotTtsResponses = fetchSpotTtsResponses(contentId, user);
 
         spotDetailResponse.setTtsResponseList(spotTtsResponses);
         spotDetailResponse.setTotalTts(spotTtsResponses.size());
+        spotDetailResponse.setPendingTts(
+            (int)
+                spotTtsResponses.stream()
+                    .filter(tts -> tts.getTtsStatus() != TtsTaskStatus.DONE)
+                    .count());
 
         log.info(
             "관광지 단일 조회 성공 - userId: {}, contentId: {}, category: {}",
-            user.getId(),
+            user.userId(),
             contentId,
             spotDetailResponse.getType());
       }
 
       return spotDetailResponse;
+    } catch (CustomException e) {
+      throw e;
     } catch (Exception e) {
       log.error("관광지 정보 파싱 실패", e);
       throw new CustomException(SpotErrorStatus.SPOT_API_ERROR);
     }
   }
 
+  /**
+   * 관광지의 음성 가이드 목록을 조회한다. 음성 파일이 없는 가이드는 생성 큐에 등록하고 대기 상태로 반환한다.
+   *
+   * @param contentId 관광지 식별자
+   * @param user 현재 사용자
+   * @return 음성 가이드 응답 리스트
+   */
+  private List<SpotTtsResponse> fetchSpotTtsResponses(Long contentId, AuthenticatedUser user) {
+
+    List<AudioGuide> audioGuides = audioGuideRepository.findByContentId(contentId);
+    if (audioGuides.isEmpty()) {
+      return List.of();
+    }
+
+    TtsSetting ttsSetting = user.ttsSetting();
+    Map<Long, AudioFile> audioFiles =
+        ttsRepository.findByTypeAndContentId(ttsSetting.getVoiceType(), contentId).stream()
+            .collect(
+                Collectors.toMap(
+                    audioFile -> audioFile.getAudioGuide().getId(),
+                    audioFile -> audioFile,
+                    (a, b) -> a));
+
+    List<Long> missingGuideIds =
+        audioGuides.stream()
+            .map(AudioGuide::getId)
+            .filter(guideId -> !audioFiles.containsKey(guideId))
+            .toList();
+
+    Map<Long, TtsTaskStatus> taskStatuses = Map.of();
+    if (!missingGuideIds.isEmpty()) {
+      try {
+        taskStatuses = ttsTaskService.enqueue(missingGuideIds, ttsSetting);
+      } catch (DataIntegrityViolationException e) {
+        // 다른 요청이 동시에 같은 작업을 등록한 경우
+        log.debug("TTS 생성 작업 중복 등록 - contentId: {}", contentId);
+      }
+    }
+
+    Map<Long, TtsTaskStatus> statuses = taskStatuses;
+    return audioGuides.stream()
+        .map(
+            guide -> {
+              AudioFile audioFile = audioFiles.get(guide.getId());
+              TtsTaskStatus status =
+                  audioFile != null
+                      ? TtsTaskStatus.DONE
+                      : statuses.getOrDefault(guide.getId(), TtsTaskStatus.PENDING);
+
+              return SpotTtsResponse.builder()
+                  .guideId(guide.getId())
+                  .title(guide.getTitle())
+                  .script(guide.getScript())
+                  .audioURL(audioFile != null ? audioFile.getFileUrl() : null)
+                  .ttsStatus(status)
+                  .build();
+            })
+        .toList();
+  }
+
   private String fetchSpotType(String typeId, String cat1, String cat2, String cat3) {
 
     UriComponentsBuilder uriBuilder =
@@ -269,14 +308,10 @@ public class SpotServiceImpl implements SpotService {
             .queryParam("cat3", cat3)
             .queryParam("_type", "JSON");
 
-    String response =
-        restClient.get().uri(uriBuilder.build(true).toUri()).retrieve().body(String.class);
-
-    validateApiResponse(response);
-
     try {
-      JsonNode root = objectMapper.readTree(response);
-      JsonNode itemNode = root.path("response").path("body").path("items").path("item");
+      JsonNode itemNode =
+          singleFlightRestExecutor.get(
+              ktoRestClient, uriBuilder.build(true).toUri(), this::readItems);
       if (itemNode.isArray()) {
         if (itemNode.isEmpty()) {
           throw new CustomException(SpotErrorStatus.SPOT_API_ERROR);
@@ -284,6 +319,8 @@ public class SpotServiceImpl implements SpotService {
         itemNode = itemNode.get(0);
       }
       return itemNode.get("name").asText();
+    } catch (CustomException e) {
+      throw e;
     } catch (Exception e) {
       log.error("관광지 분류코드 파싱 실패", e);
       throw new CustomException(SpotErrorStatus.SPOT_API_ERROR);
@@ -304,6 +341,11 @@ public class SpotServiceImpl implements SpotService {
     return R * c;
   }
 
+  private JsonNode readItems(String response) throws JsonProcessingException {
+    validateApiResponse(response);
+    return objectMapper.readTree(response).path("response").path("body").path("items").path("item");
+  }
+
   private void validateApiResponse(String response) {
     if (response == null || response.isBlank()) {
       log.error("빈 응답 수신");
@@ -13,5 +13,15 @@ public enum TtsSetting {
   @Schema(description = "남자C")
   MALE_C,
   @Schema(description = "남자D")
-  MALE_D
+  MALE_D;
+
+  /** 음성 파일 타입 코드를 반환합니다. (AudioFile.type) */
+  public String getVoiceType() {
+    return switch (this) {
+      case FEMALE_A -> "A";
+      case FEMALE_B -> "B";
+      case MALE_C -> "C";
+      case MALE_D -> "D";
+    };
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.tts.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.yfive.gbjs.global.common.entity.BaseTimeEntity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 음성 가이드 사전 생성 작업 엔티티 (가이드, 음성 타입) 단위로 하나만 존재합니다. */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+    name = "tts_task",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"audio_guide_id", "tts_setting"}))
+public class TtsTask extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "audio_guide_id", nullable = false)
+  private Long audioGuideId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "tts_setting", nullable = false)
+  private TtsSetting ttsSetting;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  @Builder.Default
+  private TtsTaskStatus status = TtsTaskStatus.PENDING;
+
+  @Column(name = "attempts", nullable = false)
+  @Builder.Default
+  private Integer attempts = 0;
+
+  // 재시도 대기 중이면 이 시각 이후에 다시 처리 (실패 상태에서는 다시 등록 가능한 시각)
+  @Column(name = "next_attempt_at")
+  private LocalDateTime nextAttemptAt;
+
+  public void markProcessing() {
+    this.status = TtsTaskStatus.PROCESSING;
+    this.attempts = this.attempts + 1;
+  }
+
+  public void markDone() {
+    this.status = TtsTaskStatus.DONE;
+    this.nextAttemptAt = null;
+  }
+
+  /**
+   * 실패를 기록합니다. 최대 시도 횟수 전이면 지수 백오프 후 재시도하고, 넘으면 실패 상태로 두었다가 일정 시간 뒤 다시 등록할 수 있게 합니다.
+   *
+   * @param maxAttempts 최대 시도 횟수
+   * @param backoff 첫 재시도 대기 시간 (이후 두 배씩 증가)
+   * @param failedCooldown 실패 상태에서 다시 등록할 수 있을 때까지의 시간
+   */
+  public void markFailed(int maxAttempts, Duration backoff, Duration failedCooldown) {
+    LocalDateTime now = LocalDateTime.now();
+    if (this.attempts >= maxAttempts) {
+      this.status = TtsTaskStatus.FAILED;
+      this.nextAttemptAt = now.plus(failedCooldown);
+    } else {
+      this.status = TtsTaskStatus.PENDING;
+      this.nextAttemptAt = now.plus(backoff.multipliedBy(1L << Math.min(this.attempts - 1, 10)));
+    }
+  }
+
+  /** 워커에 제출하지 못한 작업을 시도 횟수를 되돌려 대기 상태로 돌립니다. */
+  public void release() {
+    this.status = TtsTaskStatus.PENDING;
+    this.attempts = Math.max(0, this.attempts - 1);
+  }
+
+  /** 실패했거나 완료 후 음성 파일이 사라진 작업을 처음부터 다시 등록합니다. */
+  public void requeue() {
+    this.status = TtsTaskStatus.PENDING;
+    this.attempts = 0;
+    this.nextAttemptAt = null;
+  }
+
+  /**
+   * 다시 등록해야 하는 작업인지 확인합니다. 음성 파일이 없는 가이드에 대해서만 호출됩니다.
+   *
+   * @param now 현재 시각
+   * @return 완료됐지만 파일이 없거나, 실패 후 대기 시간이 지난 경우 true
+   */
+  public boolean needsRequeue(LocalDateTime now) {
+    return this.status == TtsTaskStatus.DONE
+        || (this.status == TtsTaskStatus.FAILED
+            && (this.nextAttemptAt == null || !this.nextAttemptAt.isAfter(now)));
+  }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.tts.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "음성 가이드 생성 상태")
+public enum TtsTaskStatus {
+  @Schema(description = "생성 대기")
+  PENDING,
+  @Schema(description = "생성 중")
+  PROCESSING,
+  @Schema(description = "생성 완료")
+  DONE,
+  @Schema(description = "생성 실패")
+  FAILED
+}
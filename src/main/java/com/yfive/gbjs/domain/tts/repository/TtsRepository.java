@@ -3,7 +3,11 @@
  */
 package com.yfive.gbjs.domain.tts.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.yfive.gbjs.domain.tts.entity.AudioFile;
@@ -12,4 +16,10 @@ import com.yfive.gbjs.domain.tts.entity.AudioFile;
 public interface TtsRepository extends JpaRepository<AudioFile, Long> {
 
   AudioFile findByTypeAndAudioGuideId(String type, Long id);
+
+  // 관광지에 속한 모든 가이드의 음성 파일을 한 번에 조회
+  @Query(
+      "SELECT a FROM AudioFile a WHERE a.type = :type AND a.audioGuide.contentId = :contentId")
+  List<AudioFile> findByTypeAndContentId(
+      @Param("type") String type, @Param("contentId") Long contentId);
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.tts.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.yfive.gbjs.domain.tts.entity.TtsSetting;
+import com.yfive.gbjs.domain.tts.entity.TtsTask;
+import com.yfive.gbjs.domain.tts.entity.TtsTaskStatus;
+
+@Repository
+public interface TtsTaskRepository extends JpaRepository<TtsTask, Long> {
+
+  List<TtsTask> findByTtsSettingAndAudioGuideIdIn(
+      TtsSetting ttsSetting, Collection<Long> audioGuideIds);
+
+  // 여러 노드가 동시에 같은 작업을 가져가지 않도록 잠긴 행은 건너뜀 (SKIP LOCKED)
+  // 재시도 대기 시간이 지나지 않은 작업은 제외
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query(
+      "SELECT t FROM TtsTask t WHERE t.status = :status "
+          + "AND (t.nextAttemptAt IS NULL OR t.nextAttemptAt <= :now) ORDER BY t.id ASC")
+  List<TtsTask> findForUpdateByStatus(
+      @Param("status") TtsTaskStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+  // 처리 중 서버가 종료되어 멈춘 작업을 대기 상태로 되돌림
+  @Modifying
+  @Query(
+      "UPDATE TtsTask t SET t.status = com.yfive.gbjs.domain.tts.entity.TtsTaskStatus.PENDING "
+          + "WHERE t.status = com.yfive.gbjs.domain.tts.entity.TtsTaskStatus.PROCESSING "
+          + "AND t.modifiedAt < :threshold")
+  int resetStaleTasks(@Param("threshold") LocalDateTime threshold);
+}
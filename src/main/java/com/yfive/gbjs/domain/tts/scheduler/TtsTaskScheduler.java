@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.tts.scheduler;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.domain.tts.entity.TtsTask;
+import com.yfive.gbjs.domain.tts.service.TtsTaskService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 음성 가이드 사전 생성 스케줄러
+ *
+ * <p>DB에 저장된 대기 작업을 주기적으로 가져와 제한된 수의 워커 스레드에서 처리합니다. 작업이 DB에 남아 있으므로 서버가 재시작되어도 유실되지 않습니다.
+ */
+@Slf4j
+@Component
+public class TtsTaskScheduler {
+
+  private final TtsTaskService ttsTaskService;
+  private final ThreadPoolTaskExecutor ttsTaskExecutor;
+
+  public TtsTaskScheduler(
+      TtsTaskService ttsTaskService,
+      @Qualifier("ttsTaskExecutor") ThreadPoolTaskExecutor ttsTaskExecutor) {
+    this.ttsTaskService = ttsTaskService;
+    this.ttsTaskExecutor = ttsTaskExecutor;
+  }
+
+  /** 워커에 여유가 있을 때만 대기 작업을 가져와 실행합니다. */
+  @Scheduled(fixedDelayString = "${tts.queue.poll-interval-ms:3000}")
+  public void dispatchPendingTasks() {
+
+    int capacity =
+        ttsTaskExecutor.getMaxPoolSize()
+            - ttsTaskExecutor.getActiveCount()
+            - ttsTaskExecutor.getThreadPoolExecutor().getQueue().size();
+    if (capacity <= 0) {
+      return;
+    }
+
+    List<TtsTask> tasks = ttsTaskService.claimPendingTasks(capacity);
+    for (TtsTask task : tasks) {
+      try {
+        ttsTaskExecutor.execute(() -> ttsTaskService.executeTask(task));
+      } catch (TaskRejectedException e) {
+        // 처리 중 상태로 남지 않도록 바로 대기 상태로 되돌림
+        log.warn("TTS 생성 작업 제출 실패, 대기 상태로 되돌림 - taskId: {}", task.getId());
+        ttsTaskService.releaseTask(task.getId());
+      }
+    }
+  }
+
+  /** 처리 중 상태로 멈춘 작업을 대기 상태로 되돌립니다. */
+  @Scheduled(fixedDelayString = "${tts.queue.recover-interval-ms:300000}")
+  public void recoverStaleTasks() {
+
+    int recovered = ttsTaskService.recoverStaleTasks();
+    if (recovered > 0) {
+      log.warn("멈춘 TTS 생성 작업 복구 - {}건", recovered);
+    }
+  }
+}
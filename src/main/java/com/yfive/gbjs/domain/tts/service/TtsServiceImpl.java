@@ -7,6 +7,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.Base64;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,7 +43,9 @@ public class TtsServiceImpl implements TtsService {
   @Value("${google.tts.api-url}")
   private String apiUrl;
 
-  private final RestClient restClient;
+  @Qualifier("googleTtsRestClient")
+  private final RestClient googleTtsRestClient;
+
   private final S3Service s3Service;
   private final TtsRepository ttsRepository;
   private final AudioGuideRepository audioGuideRepository;
@@ -88,7 +91,7 @@ public class TtsServiceImpl implements TtsService {
       String requestBody = mapper.writeValueAsString(root);
 
       GoogleTtsResponse response =
-          restClient
+          googleTtsRestClient
               .post()
               .uri(apiUrl + apiKey)
               .header("Content-Type", "application/json")
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.tts.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.yfive.gbjs.domain.tts.entity.TtsSetting;
+import com.yfive.gbjs.domain.tts.entity.TtsTask;
+import com.yfive.gbjs.domain.tts.entity.TtsTaskStatus;
+
+/** 음성 가이드 사전 생성 큐 서비스 인터페이스 */
+public interface TtsTaskService {
+
+  /**
+   * 음성 파일이 없는 가이드들을 생성 큐에 등록합니다. 이미 등록된 작업은 다시 등록하지 않지만, 실패 후 일정 시간이 지났거나 완료 후 음성 파일이 사라진
+   * 작업은 처음부터 다시 등록합니다.
+   *
+   * @param audioGuideIds 오디오 가이드 ID 목록
+   * @param ttsSetting 음성 타입
+   * @return 가이드 ID별 작업 상태
+   */
+  Map<Long, TtsTaskStatus> enqueue(List<Long> audioGuideIds, TtsSetting ttsSetting);
+
+  /**
+   * 대기 중인 작업을 처리 중 상태로 변경하여 가져옵니다.
+   *
+   * @param limit 최대 작업 수
+   * @return 처리할 작업 목록
+   */
+  List<TtsTask> claimPendingTasks(int limit);
+
+  /**
+   * 작업을 실행하여 음성 파일을 생성합니다. (Google TTS 호출 및 S3 업로드)
+   *
+   * @param task 처리할 작업
+   */
+  void executeTask(TtsTask task);
+
+  /**
+   * 워커에 제출하지 못한 작업을 대기 상태로 되돌립니다.
+   *
+   * @param taskId 작업 ID
+   */
+  void releaseTask(Long taskId);
+
+  /**
+   * 일정 시간 이상 처리 중 상태로 남아 있는 작업을 대기 상태로 되돌립니다.
+   *
+   * @return 복구된 작업 수
+   */
+  int recoverStaleTasks();
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.tts.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.yfive.gbjs.domain.guide.entity.AudioGuide;
+import com.yfive.gbjs.domain.guide.repository.AudioGuideRepository;
+import com.yfive.gbjs.domain.tts.dto.request.TtsRequest;
+import com.yfive.gbjs.domain.tts.entity.TtsSetting;
+import com.yfive.gbjs.domain.tts.entity.TtsTask;
+import com.yfive.gbjs.domain.tts.entity.TtsTaskStatus;
+import com.yfive.gbjs.domain.tts.repository.TtsRepository;
+import com.yfive.gbjs.domain.tts.repository.TtsTaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TtsTaskServiceImpl implements TtsTaskService {
+
+  private final TtsTaskRepository ttsTaskRepository;
+  private final TtsRepository ttsRepository;
+  private final AudioGuideRepository audioGuideRepository;
+  private final TtsService ttsService;
+
+  @Value("${tts.queue.max-attempts:3}")
+  private int maxAttempts;
+
+  @Value("${tts.queue.stale-minutes:10}")
+  private long staleMinutes;
+
+  @Value("${tts.queue.retry-backoff-seconds:30}")
+  private long retryBackoffSeconds;
+
+  @Value("${tts.queue.failed-retry-minutes:60}")
+  private long failedRetryMinutes;
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public Map<Long, TtsTaskStatus> enqueue(List<Long> audioGuideIds, TtsSetting ttsSetting) {
+
+    List<TtsTask> existingTasks =
+        ttsTaskRepository.findByTtsSettingAndAudioGuideIdIn(ttsSetting, audioGuideIds);
+
+    // 실패 후 대기 시간이 지났거나, 완료됐지만 음성 파일이 사라진 작업은 다시 등록
+    LocalDateTime now = LocalDateTime.now();
+    List<TtsTask> requeued = existingTasks.stream().filter(task -> task.needsRequeue(now)).toList();
+    if (!requeued.isEmpty()) {
+      requeued.forEach(TtsTask::requeue);
+      log.info("TTS 생성 작업 재등록 - ttsSetting: {}, 재등록 수: {}", ttsSetting, requeued.size());
+    }
+
+    Map<Long, TtsTaskStatus> statuses =
+        existingTasks.stream()
+            .collect(
+                Collectors.toMap(
+                    TtsTask::getAudioGuideId, TtsTask::getStatus, (a, b) -> a, HashMap::new));
+
+    List<TtsTask> newTasks =
+        audioGuideIds.stream()
+            .filter(id -> !statuses.containsKey(id))
+            .map(id -> TtsTask.builder().audioGuideId(id).ttsSetting(ttsSetting).build())
+            .toList();
+
+    if (!newTasks.isEmpty()) {
+      ttsTaskRepository.saveAll(newTasks);
+      newTasks.forEach(task -> statuses.put(task.getAudioGuideId(), task.getStatus()));
+      log.info("TTS 생성 작업 등록 - ttsSetting: {}, 등록 수: {}", ttsSetting, newTasks.size());
+    }
+
+    return statuses;
+  }
+
+  @Override
+  @Transactional
+  public List<TtsTask> claimPendingTasks(int limit) {
+
+    List<TtsTask> tasks =
+        ttsTaskRepository.findForUpdateByStatus(
+            TtsTaskStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, limit));
+    tasks.forEach(TtsTask::markProcessing);
+    return tasks;
+  }
+
+  @Override
+  public void executeTask(TtsTask task) {
+
+    try {
+      String type = task.getTtsSetting().getVoiceType();
+
+      // 다른 경로로 이미 생성된 경우 외부 API를 호출하지 않음
+      if (ttsRepository.findByTypeAndAudioGuideId(type, task.getAudioGuideId()) == null) {
+        AudioGuide audioGuide = audioGuideRepository.findById(task.getAudioGuideId()).orElse(null);
+
+        if (audioGuide == null) {
+          log.warn("TTS 생성 대상 가이드 없음 - guideId: {}", task.getAudioGuideId());
+          updateTask(task.getId(), false);
+          return;
+        }
+
+        ttsService.convertTextToSpeech(
+            audioGuide.getId(), task.getTtsSetting(), new TtsRequest(audioGuide.getScript()));
+      }
+
+      updateTask(task.getId(), true);
+    } catch (Exception e) {
+      log.error(
+          "TTS 생성 작업 실패 - taskId: {}, guideId: {}, 시도: {}",
+          task.getId(),
+          task.getAudioGuideId(),
+          task.getAttempts(),
+          e);
+      updateTask(task.getId(), false);
+    }
+  }
+
+  @Override
+  @Transactional
+  public void releaseTask(Long taskId) {
+    ttsTaskRepository.findById(taskId).ifPresent(TtsTask::release);
+  }
+
+  @Override
+  @Transactional
+  public int recoverStaleTasks() {
+    return ttsTaskRepository.resetStaleTasks(LocalDateTime.now().minusMinutes(staleMinutes));
+  }
+
+  private void updateTask(Long taskId, boolean success) {
+    ttsTaskRepository
+        .findById(taskId)
+        .ifPresent(
+            task -> {
+              if (success) {
+                task.markDone();
+              } else {
+                task.markFailed(
+                    maxAttempts,
+                    Duration.ofSeconds(retryBackoffSeconds),
+                    Duration.ofMinutes(failedRetryMinutes));
+              }
+              ttsTaskRepository.save(task);
+            });
+  }
+}
@@ -6,10 +6,6 @@ package com.yfive.gbjs.domain.user.service;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,6 +22,8 @@ import com.yfive.gbjs.global.error.exception.CustomException;
 import com.yfive.gbjs.global.s3.entity.PathName;
 import com.yfive.gbjs.global.s3.exception.S3ErrorStatus;
 import com.yfive.gbjs.global.s3.service.S3Service;
+import com.yfive.gbjs.global.security.CurrentUser;
+import com.yfive.gbjs.global.security.PrincipalCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +38,8 @@ public class UserServiceImpl implements UserService {
   private final JwtProvider jwtProvider;
   private final S3Service s3Service;
   private final UserMapper userMapper;
+  private final PrincipalCache principalCache;
+  private final CurrentUser currentUser;
 
   @Override
   public Boolean checkNicknameAvailability(String nickname) {
@@ -97,6 +97,7 @@ public class UserServiceImpl implements UserService {
     }
 
     user.updateNickname(newNickname);
+    principalCache.evict(user.getUsername());
     log.info("사용자 닉네임 변경 - userId: {}, newNickname: {}", user.getId(), newNickname);
 
     return newNickname;
@@ -122,6 +123,7 @@ public class UserServiceImpl implements UserService {
     }
 
     user.updateProfileImageUrl(newImageUrl);
+    principalCache.evict(user.getUsername());
     log.info("사용자 프로필 이미지 변경 - userId: {}, newImageUrl: {}", user.getId(), newImageUrl);
 
     return newImageUrl;
@@ -133,6 +135,7 @@ public class UserServiceImpl implements UserService {
     User user = getCurrentUser();
 
     user.updateTtsSetting(ttsSetting);
+    principalCache.evict(user.getUsername());
     log.info("사용자 음성 타입 변경 - userId: {}, ttsSetting: {}", user.getId(), ttsSetting);
 
     return ttsSetting.toString();
@@ -144,6 +147,7 @@ public class UserServiceImpl implements UserService {
     User user = getCurrentUser();
     user.toggleEmailMarketingConsent();
     userRepository.save(user);
+    principalCache.evict(user.getUsername());
     log.info(
         "사용자 이메일 마케팅 수신 동의 상태 변경 - userId: {}, status: {}",
         user.getId(),
@@ -157,6 +161,7 @@ public class UserServiceImpl implements UserService {
     User user = getCurrentUser();
     user.togglePushNotificationConsent();
     userRepository.save(user);
+    principalCache.evict(user.getUsername());
     log.info(
         "사용자 푸시 알림 수신 동의 상태 변경 - userId: {}, status: {}",
         user.getId(),
@@ -170,6 +175,7 @@ public class UserServiceImpl implements UserService {
     User user = getCurrentUser();
     user.toggleLocationConsent();
     userRepository.save(user);
+    principalCache.evict(user.getUsername());
     log.info(
         "사용자 위치 정보 제공 동의 상태 변경 - userId: {}, status: {}", user.getId(), user.getLocationConsent());
     return user.getLocationConsent();
@@ -184,75 +190,25 @@ public class UserServiceImpl implements UserService {
     jwtProvider.deleteRefreshToken(user.getUsername());
 
     userRepository.delete(user);
+    principalCache.evict(user.getUsername());
 
     log.info("사용자 계정 삭제 - userId: {}", user.getId());
   }
 
+  /**
+   * 현재 사용자 엔티티를 조회합니다.
+   *
+   * <p>사용자 정보를 수정하거나 엔티티 연관관계가 필요할 때만 사용합니다. 식별자나 음성 타입만 필요하면 {@link CurrentUser}를 사용합니다.
+   */
+  @Override
   public User getCurrentUser() {
-    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-    if (authentication == null || !authentication.isAuthenticated()) {
-      log.error("인증 실패 - 인증 정보 없음");
-      throw new CustomException(UserErrorStatus.UNAUTHORIZED);
-    }
-
-    Object principal = authentication.getPrincipal();
-    String username = "";
-
-    try {
-      if (principal instanceof OAuth2User oauthUser) {
-        Object email = oauthUser.getAttribute("email");
-        if (email != null) {
-          username = (String) email;
-        } else {
-          Map<String, Object> kakaoAccount = oauthUser.getAttribute("kakao_account");
-          if (kakaoAccount != null && kakaoAccount.containsKey("email")) {
-            username = (String) kakaoAccount.get("email");
-          }
-        }
-      } else if (principal instanceof String str) {
-        username = str;
-      } else if (principal instanceof UserDetails userDetails) {
-        username = userDetails.getUsername();
-      } else {
-        log.error("인증 실패 - Principal 타입 알 수 없음: {}", principal.getClass());
-        throw new CustomException(UserErrorStatus.UNAUTHORIZED);
-      }
-    } catch (Exception e) {
-      log.error("인증 정보 추출 중 오류", e);
-      throw new CustomException(UserErrorStatus.UNAUTHORIZED);
-    }
-
-    if (username == null || username.isBlank()) {
-      log.error("인증 실패 - 추출된 username이 null 또는 빈 문자열");
-      throw new CustomException(UserErrorStatus.UNAUTHORIZED);
-    }
-
-    log.debug("JWT에서 추출한 email: {}", maskEmail(username));
-
-    final String finalUsername = username;
+    Long userId = currentUser.getId();
     return userRepository
-        .findByUsername(finalUsername)
+        .findById(userId)
         .orElseThrow(
             () -> {
-              log.error("사용자 찾기 실패 - username: {}", maskEmail(finalUsername));
+              log.error("사용자 찾기 실패 - userId: {}", userId);
               return new CustomException(UserErrorStatus.USER_NOT_FOUND);
             });
   }
-
-  private String maskEmail(String email) {
-    if (email == null || !email.contains("@")) {
-      return "***";
-    }
-
-    String[] parts = email.split("@");
-    String localPart = parts[0];
-    String domain = parts[1];
-
-    if (localPart.length() <= 2) {
-      return "***@" + domain;
-    }
-
-    return localPart.substring(0, 2) + "***@" + domain;
-  }
 }
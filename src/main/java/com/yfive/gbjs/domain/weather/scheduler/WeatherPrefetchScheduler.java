@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.weather.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.domain.weather.service.WeatherService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 날씨 예보 사전 조회 스케줄러
+ *
+ * <p>기상청 단기예보가 제공되는 시각(발표 시각 + 10분) 직후에 경북 시군 대표 격자와 최근 조회된 격자의 예보를 미리
+ * 불러옵니다. 홈 화면의 날씨 조회는 대부분 캐시에서 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WeatherPrefetchScheduler {
+
+  private final WeatherService weatherService;
+
+  @Scheduled(cron = "0 11 2,5,8,11,14,17,20,23 * * *", zone = "Asia/Seoul")
+  public void prefetchForecasts() {
+    weatherService.prefetchForecasts();
+  }
+}
@@ -3,10 +3,14 @@
  */
 package com.yfive.gbjs.domain.weather.service;
 
+import java.time.LocalDate;
+import java.util.Map;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.yfive.gbjs.domain.weather.dto.response.WeatherResponse;
 
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 public interface WeatherService {
@@ -20,6 +24,17 @@ public interface WeatherService {
    */
   WeatherResponse getWeather(Double longitude, Double latitude);
 
+  /**
+   * 격자의 최신 발표 예보를 예보일별로 요약해 반환합니다. 단기예보 범위(발표일부터 최대 4일)를 벗어난 날짜는 포함되지 않습니다.
+   *
+   * @param gridCoord 기상청 격자 좌표
+   * @return 예보일별 날씨 정보 (현재 기온 제외, 예보일 순)
+   */
+  Map<LocalDate, WeatherResponse> getDailyForecasts(GridCoord gridCoord);
+
+  /** 경북 시군 대표 격자와 최근 조회된 격자의 최신 발표 예보를 미리 조회해 캐시에 저장합니다. */
+  void prefetchForecasts();
+
   /**
    * 위도, 경도를 기상청 격자 좌표로 변환합니다.
    *
@@ -63,6 +78,7 @@ public interface WeatherService {
   /** 기상청 격자 좌표를 표현하는 클래스입니다. */
   @Getter
   @AllArgsConstructor
+  @EqualsAndHashCode
   class GridCoord {
 
     private final int nx;
@@ -4,23 +4,40 @@
 package com.yfive.gbjs.domain.weather.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yfive.gbjs.domain.weather.dto.response.WeatherResponse;
 import com.yfive.gbjs.domain.weather.exception.WeatherErrorStatus;
+import com.yfive.gbjs.domain.weather.util.HourlyForecast;
+import com.yfive.gbjs.domain.weather.util.KmaForecastParser;
+import com.yfive.gbjs.domain.weather.util.KmaGridProjection;
+import com.yfive.gbjs.global.cache.ExpiringLruCache;
 import com.yfive.gbjs.global.error.exception.CustomException;
+import com.yfive.gbjs.global.http.ExternalApi;
+import com.yfive.gbjs.global.http.SingleFlightRestExecutor;
+import com.yfive.gbjs.global.http.resilience.UpstreamGuardRegistry;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,17 +50,41 @@ public class WeatherServiceImpl implements WeatherService {
   /** 서울 지역 기준의 표준 시간대를 나타냅니다. */
   private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
 
+  private static final DateTimeFormatter BASE_TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+
   @Value("${openapi.secret.key}")
   private String serviceKey;
 
   @Value("${weather.api.url}")
   private String weatherApiUrl;
 
-  private final ObjectMapper objectMapper;
-  private final RestClient restClient;
+  @Value("${weather.prefetch.recent-hours:6}")
+  private long prefetchRecentHours;
+
+  private final SingleFlightRestExecutor singleFlightRestExecutor;
+
+  @Qualifier("kmaRestClient")
+  private final RestClient kmaRestClient;
+
+  private final UpstreamGuardRegistry upstreamGuardRegistry;
+  private final KmaGridProjection kmaGridProjection;
+  private final KmaForecastParser kmaForecastParser;
+
+  /** 격자 + 발표 기준 시각별 시간별 예보 (다음 발표 시각 + 10분에 만료) */
+  private final ExpiringLruCache<ForecastKey, HourlyForecast> forecastCache =
+      new ExpiringLruCache<>(2000);
+
+  /** 격자 + 발표 기준 시각별 일별 예보 (다음 발표 시각 + 10분에 만료) */
+  private final ExpiringLruCache<ForecastKey, Map<LocalDate, WeatherResponse>>
+      dailyForecastCache = new ExpiringLruCache<>(500);
+
+  /** 최근 조회된 격자와 마지막 조회 시각 (사전 조회 대상) */
+  private final Map<GridCoord, Long> recentGridCoords = new ConcurrentHashMap<>();
 
   /**
-   * 위도와 경도를 기반으로 기상청 API를 호출하여 날씨 정보를 조회합니다.
+   * 위도와 경도를 기반으로 날씨 정보를 조회합니다.
+   *
+   * <p>같은 격자, 같은 발표 시각의 예보는 다음 발표 시각까지 캐시된 값을 사용하며, 조회할 때마다 현재 시각에 맞는 예보 시각의 값을 반환합니다.
    *
    * @param longitude 경도
    * @param latitude 위도
@@ -53,43 +94,119 @@ public class WeatherServiceImpl implements WeatherService {
   public WeatherResponse getWeather(Double longitude, Double latitude) {
     // 경도/위도를 기상청 격자 좌표로 변환
     GridCoord gridCoord = convertToGrid(longitude, latitude);
+    recentGridCoords.put(gridCoord, System.currentTimeMillis());
+
+    ForecastKey key = currentForecastKey(gridCoord);
+    HourlyForecast forecast = forecastCache.get(key);
+    if (forecast == null) {
+      try {
+        forecast = fetchAndCache(key);
+      } catch (CustomException e) {
+        forecast = forecastCache.getStale(key.previous());
+        if (forecast == null) {
+          throw e;
+        }
+        log.warn("날씨 정보 조회 실패 - 이전 발표 예보 반환: nx={}, ny={}", key.nx(), key.ny());
+      }
+    }
+    return toWeatherResponse(forecast.valuesAt(LocalDateTime.now(ZONE_ID)));
+  }
 
-    // 기준 날짜 및 시간 설정
+  @Override
+  public Map<LocalDate, WeatherResponse> getDailyForecasts(GridCoord gridCoord) {
+    ForecastKey key = currentForecastKey(gridCoord);
+    Map<LocalDate, WeatherResponse> cached = dailyForecastCache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    try {
+      Map<LocalDate, WeatherResponse> forecasts = fetchDailyForecasts(key);
+      dailyForecastCache.put(key, forecasts, key.expiresAt());
+      return forecasts;
+    } catch (CustomException e) {
+      Map<LocalDate, WeatherResponse> stale = dailyForecastCache.getStale(key.previous());
+      if (stale != null) {
+        log.warn("일별 날씨 조회 실패 - 이전 발표 예보 반환: nx={}, ny={}", key.nx(), key.ny());
+        return stale;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void prefetchForecasts() {
+    long threshold = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(prefetchRecentHours);
+    recentGridCoords.values().removeIf(requestedAt -> requestedAt < threshold);
+
+    if (!upstreamGuardRegistry.get(ExternalApi.KMA).isAvailable()) {
+      log.warn("기상청 API 서킷이 열려 있어 날씨 예보 사전 조회 생략");
+      return;
+    }
+
+    Set<GridCoord> gridCoords = new LinkedHashSet<>(kmaGridProjection.getGyeongbukCells().keySet());
+    gridCoords.addAll(recentGridCoords.keySet());
+
+    int prefetched = 0;
+    for (GridCoord gridCoord : gridCoords) {
+      ForecastKey key = currentForecastKey(gridCoord);
+      if (forecastCache.get(key) != null) {
+        continue;
+      }
+      try {
+        fetchAndCache(key);
+        prefetched++;
+      } catch (CustomException e) {
+        log.warn("날씨 예보 사전 조회 실패: nx={}, ny={}", key.nx(), key.ny());
+      }
+    }
+    log.info("날씨 예보 사전 조회 완료 - {}/{}개 격자", prefetched, gridCoords.size());
+  }
+
+  /** 격자의 현재 발표 기준 예보 키를 반환합니다. */
+  private ForecastKey currentForecastKey(GridCoord gridCoord) {
     String baseTime = getBaseTime();
     LocalDate baseDate = LocalDate.now(ZONE_ID);
 
-    if (baseTime.equals("2300")) {
-      LocalTime now = LocalTime.now(ZONE_ID);
-      if (now.isBefore(LocalTime.of(2, 0))) {
-        baseDate = baseDate.minusDays(1);
-      }
+    // 자정 이후 02시 발표 전까지는 전날 23시 발표를 사용
+    if (baseTime.equals("2300") && LocalTime.now(ZONE_ID).isBefore(LocalTime.of(23, 0))) {
+      baseDate = baseDate.minusDays(1);
     }
 
+    return new ForecastKey(gridCoord.getNx(), gridCoord.getNy(), baseDate, baseTime);
+  }
+
+  private HourlyForecast fetchAndCache(ForecastKey key) {
+    HourlyForecast forecast = fetchWeather(key);
+    forecastCache.put(key, forecast, key.expiresAt());
+    return forecast;
+  }
+
+  /** 기상청 API를 호출하여 발표 기준 시간별 예보를 조회합니다. */
+  private HourlyForecast fetchWeather(ForecastKey key) {
+    LocalDate baseDate = key.baseDate();
+    String baseTime = key.baseTime();
+
     // 요청 URL 조합
     UriComponentsBuilder uriBuilder =
         UriComponentsBuilder.fromUriString(weatherApiUrl)
             .queryParam("serviceKey", serviceKey)
             .queryParam("pageNo", 1)
-            .queryParam("numOfRows", 1000)
+            .queryParam("numOfRows", KmaForecastParser.NEAREST_FORECAST_ROWS)
             .queryParam("dataType", "JSON")
             .queryParam("base_date", baseDate.format(DateTimeFormatter.BASIC_ISO_DATE))
             .queryParam("base_time", baseTime)
-            .queryParam("nx", gridCoord.getNx())
-            .queryParam("ny", gridCoord.getNy());
+            .queryParam("nx", key.nx())
+            .queryParam("ny", key.ny());
 
     try {
-      String response =
-          restClient.get().uri(uriBuilder.build(true).toUri()).retrieve().body(String.class);
-
-      if (response == null || response.isBlank()) {
-        log.warn("날씨 API 응답이 비어있습니다.");
-        throw new CustomException(WeatherErrorStatus.EMPTY_RESPONSE);
-      }
+      HourlyForecast forecast =
+          singleFlightRestExecutor.getStream(
+              kmaRestClient,
+              uriBuilder.build(true).toUri(),
+              kmaForecastParser::parseHourlyForecast);
 
-      JsonNode root = objectMapper.readTree(response);
-      JsonNode items = root.path("response").path("body").path("items").path("item");
-
-      if (items.isMissingNode() || !items.isArray() || items.isEmpty()) {
+      if (forecast.isEmpty()) {
         log.warn("날씨 정보가 존재하지 않습니다.");
         throw new CustomException(WeatherErrorStatus.ITEM_NOT_FOUND);
       }
@@ -98,13 +215,21 @@ public class WeatherServiceImpl implements WeatherService {
           "날씨 정보 조회 성공: baseDate={}, baseTime={}, nx={}, ny={}",
           baseDate,
           baseTime,
-          gridCoord.getNx(),
-          gridCoord.getNy());
+          key.nx(),
+          key.ny());
 
-      return parseWeather(items);
+      return forecast;
 
     } catch (CustomException e) {
       throw e;
+    } catch (ResourceAccessException e) {
+      // 응답 스트림 파싱 중 발생한 예외는 ResourceAccessException 으로 감싸져 전달됨
+      if (e.getCause() instanceof JsonProcessingException) {
+        log.error("날씨 JSON 파싱 오류: {}", e.getCause().getMessage(), e);
+        throw new CustomException(WeatherErrorStatus.PARSING_ERROR);
+      }
+      log.error("날씨 정보 조회 실패: nx={}, ny={}", key.nx(), key.ny(), e);
+      throw new CustomException(WeatherErrorStatus.API_REQUEST_FAILED);
     } catch (JsonProcessingException e) {
       log.error("날씨 JSON 파싱 오류: {}", e.getMessage(), e);
       throw new CustomException(WeatherErrorStatus.PARSING_ERROR);
@@ -113,14 +238,50 @@ public class WeatherServiceImpl implements WeatherService {
           "날씨 정보 조회 실패: baseDate={}, baseTime={}, nx={}, ny={}, error={}",
           baseDate,
           baseTime,
-          gridCoord.getNx(),
-          gridCoord.getNy(),
+          key.nx(),
+          key.ny(),
           e.getMessage(),
           e);
       throw new CustomException(WeatherErrorStatus.API_REQUEST_FAILED);
     }
   }
 
+  /** 기상청 API를 호출하여 발표 기준 예보를 예보일별로 요약합니다. */
+  private Map<LocalDate, WeatherResponse> fetchDailyForecasts(ForecastKey key) {
+    UriComponentsBuilder uriBuilder =
+        UriComponentsBuilder.fromUriString(weatherApiUrl)
+            .queryParam("serviceKey", serviceKey)
+            .queryParam("pageNo", 1)
+            .queryParam("numOfRows", KmaForecastParser.DAILY_FORECAST_ROWS)
+            .queryParam("dataType", "JSON")
+            .queryParam("base_date", key.baseDate().format(DateTimeFormatter.BASIC_ISO_DATE))
+            .queryParam("base_time", key.baseTime())
+            .queryParam("nx", key.nx())
+            .queryParam("ny", key.ny());
+
+    try {
+      Map<String, Map<String, String>> dailyValues =
+          singleFlightRestExecutor.getStream(
+              kmaRestClient,
+              uriBuilder.build(true).toUri(),
+              kmaForecastParser::parseDailyForecasts);
+
+      Map<LocalDate, WeatherResponse> forecasts = new LinkedHashMap<>();
+      dailyValues.forEach(
+          (fcstDate, values) ->
+              forecasts.put(
+                  LocalDate.parse(fcstDate, DateTimeFormatter.BASIC_ISO_DATE),
+                  toWeatherResponse(values)));
+      return Collections.unmodifiableMap(forecasts);
+
+    } catch (CustomException e) {
+      throw e;
+    } catch (Exception e) {
+      log.error("일별 날씨 정보 조회 실패: nx={}, ny={}", key.nx(), key.ny(), e);
+      throw new CustomException(WeatherErrorStatus.API_REQUEST_FAILED);
+    }
+  }
+
   /**
    * 위도와 경도를 기상청 격자 좌표로 변환합니다.
    *
@@ -130,48 +291,7 @@ public class WeatherServiceImpl implements WeatherService {
    */
   @Override
   public GridCoord convertToGrid(double longitude, double latitude) {
-    double RE = 6371.00877; // Earth radius (km)
-    double GRID = 5.0; // Grid spacing (km)
-    double SLAT1 = 30.0; // Projection latitude 1 (degree)
-    double SLAT2 = 60.0; // Projection latitude 2 (degree)
-    double OLON = 126.0; // Reference longitude (degree)
-    double OLAT = 38.0; // Reference latitude (degree)
-    double XO = 43; // Reference point X coordinate
-    double YO = 136; // Reference point Y coordinate
-
-    double DEGRAD = Math.PI / 180.0;
-
-    double re = RE / GRID;
-    double slat1 = SLAT1 * DEGRAD;
-    double slat2 = SLAT2 * DEGRAD;
-    double olon = OLON * DEGRAD;
-    double olat = OLAT * DEGRAD;
-
-    double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
-    sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
-
-    double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
-    sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
-
-    double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
-    ro = re * sf / Math.pow(ro, sn);
-
-    double ra = Math.tan(Math.PI * 0.25 + latitude * DEGRAD * 0.5);
-    ra = re * sf / Math.pow(ra, sn);
-
-    double theta = longitude * DEGRAD - olon;
-    if (theta > Math.PI) {
-      theta -= 2.0 * Math.PI;
-    }
-    if (theta < -Math.PI) {
-      theta += 2.0 * Math.PI;
-    }
-    theta *= sn;
-
-    int x = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
-    int y = (int) Math.floor(ro - ra * Math.cos(theta) + YO + 0.5);
-
-    return new GridCoord(x, y);
+    return kmaGridProjection.convertToGrid(longitude, latitude);
   }
 
   /**
@@ -205,27 +325,24 @@ public class WeatherServiceImpl implements WeatherService {
    */
   @Override
   public WeatherResponse parseWeather(JsonNode items) {
-    String temperature = null;
-    String skyStatus = null;
-    String lowestTemperature = null;
-    String highestTemperature = null;
-    String precipitation = null;
-    String precipitationType = null;
-    String weather;
-
+    Map<String, String> values = new HashMap<>();
     for (JsonNode item : items) {
-      String category = item.get("category").asText();
-      String value = item.get("fcstValue").asText();
-
-      switch (category) {
-        case "TMP" -> temperature = value;
-        case "SKY" -> skyStatus = mapSkyStatus(value);
-        case "TMN" -> lowestTemperature = value;
-        case "TMX" -> highestTemperature = value;
-        case "POP" -> precipitation = value;
-        case "PTY" -> precipitationType = mapPrecipitationType(value);
-      }
+      values.put(item.get("category").asText(), item.get("fcstValue").asText());
     }
+    return toWeatherResponse(values);
+  }
+
+  /**
+   * 항목 코드별 예보 값을 WeatherResponse 객체로 변환합니다.
+   *
+   * @param values 항목 코드(TMP, SKY, TMN, TMX, POP, PTY)별 예보 값
+   * @return 날씨 정보 객체
+   */
+  private WeatherResponse toWeatherResponse(Map<String, String> values) {
+    String skyStatus = values.containsKey("SKY") ? mapSkyStatus(values.get("SKY")) : null;
+    String precipitationType =
+        values.containsKey("PTY") ? mapPrecipitationType(values.get("PTY")) : null;
+    String weather;
 
     if (Objects.equals(precipitationType, "없음")) {
       weather = skyStatus;
@@ -234,11 +351,11 @@ public class WeatherServiceImpl implements WeatherService {
     }
 
     return WeatherResponse.builder()
-        .lowestTemperature(lowestTemperature)
-        .highestTemperature(highestTemperature)
-        .temperature(temperature)
+        .lowestTemperature(values.get("TMN"))
+        .highestTemperature(values.get("TMX"))
+        .temperature(values.get("TMP"))
         .weather(weather)
-        .precipitation(precipitation)
+        .precipitation(values.get("POP"))
         .build();
   }
 
@@ -275,4 +392,24 @@ public class WeatherServiceImpl implements WeatherService {
       default -> "알 수 없음";
     };
   }
+
+  /** 예보 캐시 키 (격자 좌표 + 발표 기준 일시) */
+  private record ForecastKey(int nx, int ny, LocalDate baseDate, String baseTime) {
+
+    private LocalDateTime baseDateTime() {
+      return LocalDateTime.of(baseDate, LocalTime.parse(baseTime, BASE_TIME_FORMATTER));
+    }
+
+    /** 다음 발표 예보가 제공되는 시각 (다음 발표 시각 + 10분) */
+    private long expiresAt() {
+      return baseDateTime().plusHours(3).plusMinutes(10).atZone(ZONE_ID).toInstant().toEpochMilli();
+    }
+
+    /** 직전 발표 기준 예보 키 */
+    private ForecastKey previous() {
+      LocalDateTime previous = baseDateTime().minusHours(3);
+      return new ForecastKey(
+          nx, ny, previous.toLocalDate(), previous.toLocalTime().format(BASE_TIME_FORMATTER));
+    }
+  }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.weather.util;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 한 발표 기준 시각의 시간별 예보
+ *
+ * <p>발표 직후 몇 시간의 예보 시각별 TMP, SKY, POP, PTY 값과 가장 이른 예보일의 최저/최고 기온(TMN, TMX)을 담습니다. 발표 기준 시각 동안 캐시해
+ * 두고, 조회할 때마다 조회 시각에 맞는 예보 시각의 값을 꺼냅니다. 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public final class HourlyForecast {
+
+  private static final DateTimeFormatter FORECAST_DATE_TIME_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+  /** 예보 일시(yyyyMMddHHmm) -> 항목 코드별 예보 값 (문자열 순서가 시간 순서와 같음) */
+  private final NavigableMap<String, Map<String, String>> hourlyValues;
+
+  /** 항목 코드(TMN, TMX)별 예보 값 */
+  private final Map<String, String> dailyValues;
+
+  HourlyForecast(
+      NavigableMap<String, Map<String, String>> hourlyValues, Map<String, String> dailyValues) {
+    this.hourlyValues = Collections.unmodifiableNavigableMap(new TreeMap<>(hourlyValues));
+    this.dailyValues = Map.copyOf(dailyValues);
+  }
+
+  public boolean isEmpty() {
+    return hourlyValues.isEmpty() && dailyValues.isEmpty();
+  }
+
+  /**
+   * 조회 시각의 예보 값을 반환합니다.
+   *
+   * <p>조회 시각이 속한 정시 이후의 가장 이른 예보 시각 값을 사용합니다. 모든 예보 시각이 지났으면 마지막 예보 시각의 값을 사용합니다.
+   *
+   * @param dateTime 조회 시각 (한국 시간)
+   * @return 항목 코드(TMP, SKY, POP, PTY, TMN, TMX)별 예보 값
+   */
+  public Map<String, String> valuesAt(LocalDateTime dateTime) {
+    String target = dateTime.truncatedTo(ChronoUnit.HOURS).format(FORECAST_DATE_TIME_FORMATTER);
+    Map.Entry<String, Map<String, String>> entry = hourlyValues.ceilingEntry(target);
+    if (entry == null) {
+      entry = hourlyValues.lastEntry();
+    }
+
+    Map<String, String> values = new HashMap<>(dailyValues);
+    if (entry != null) {
+      values.putAll(entry.getValue());
+    }
+    return values;
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.weather.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yfive.gbjs.domain.weather.exception.WeatherErrorStatus;
+import com.yfive.gbjs.global.error.exception.CustomException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기상청 단기예보 응답 스트림 파서
+ *
+ * <p>응답 전체를 문자열이나 JsonNode 트리로 만들지 않고, item 배열을 순서대로 읽으며 필요한 값만 꺼냅니다. 기상청 응답은 예보 일시 순으로 정렬되어
+ * 있으므로 필요한 값을 모두 찾으면 나머지는 파싱하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KmaForecastParser {
+
+  /** 예보 시각별로 읽는 항목 */
+  private static final Set<String> HOURLY_CATEGORIES = Set.of("TMP", "SKY", "POP", "PTY");
+
+  /** 가장 이른 예보일에서 읽는 항목 (최저/최고 기온은 하루에 한 번씩, 06시와 15시 예보에만 제공됨) */
+  private static final Set<String> DAILY_CATEGORIES = Set.of("TMN", "TMX");
+
+  /**
+   * 가장 가까운 예보와 최저/최고 기온을 모두 받을 수 있는 item 수 (시간당 12개 항목 + 하루 2개). 당일 최저/최고 기온 시각이 지난 발표(08시 이후 TMN,
+   * 17시 이후 TMX)는 다음 날 값을 사용하므로, 가장 먼 경우인 17시 발표의 다음 날 15시 TMX(약 270번째)까지 받을 수 있는 값입니다.
+   */
+  public static final int NEAREST_FORECAST_ROWS = 300;
+
+  /**
+   * 시간별 값을 보관하는 예보 시각 수. 발표 후 다음 발표 예보가 제공될 때까지(3시간 10분) 조회되고, 다음 발표 조회에 실패하면 직전 발표 예보로 3시간 더
+   * 응답하므로 발표 후 7시간(첫 예보 시각은 발표 1시간 후)까지 보관합니다.
+   */
+  static final int HOURLY_FORECAST_HOURS = 7;
+
+  /**
+   * 단기예보 전체 기간을 받을 수 있는 item 수. 가장 긴 23시 발표는 다음 날부터 4일치(96시간 x 12개 항목 + 하루 2개, 약 1,160개)를
+   * 반환하므로 마지막 날이 잘리지 않도록 여유를 둔 값입니다.
+   */
+  public static final int DAILY_FORECAST_ROWS = 1500;
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 발표 후 {@value #HOURLY_FORECAST_HOURS}개 예보 시각의 TMP, SKY, POP, PTY 값과 최저/최고 기온(TMN, TMX)을 읽습니다.
+   *
+   * <p>최저/최고 기온은 가장 이른 예보일의 값을 사용합니다. 당일 값의 예보 시각이 이미 지나 응답에 없으면 다음 날 값을 사용합니다.
+   *
+   * @param body 기상청 응답 본문
+   * @return 시간별 예보 (예보가 없으면 빈 예보)
+   * @throws CustomException 응답이 비어 있거나 기상청 오류 응답인 경우
+   * @throws IOException 응답 본문을 읽거나 파싱하지 못한 경우
+   */
+  public HourlyForecast parseHourlyForecast(InputStream body) throws IOException {
+    NavigableMap<String, Map<String, String>> hourlyValues = new TreeMap<>();
+    Map<String, String> dailyValues = new HashMap<>();
+
+    try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+      if (!moveToItems(parser)) {
+        return new HourlyForecast(hourlyValues, dailyValues);
+      }
+
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        ForecastItem item = readItem(parser);
+        if (item.category == null || item.fcstValue == null) {
+          continue;
+        }
+
+        if (HOURLY_CATEGORIES.contains(item.category)
+            && item.fcstDate != null
+            && item.fcstTime != null) {
+          String dateTime = item.fcstDate + item.fcstTime;
+          Map<String, String> values = hourlyValues.get(dateTime);
+          if (values == null && hourlyValues.size() < HOURLY_FORECAST_HOURS) {
+            values = new HashMap<>();
+            hourlyValues.put(dateTime, values);
+          }
+          if (values != null) {
+            values.putIfAbsent(item.category, item.fcstValue);
+          }
+        } else if (DAILY_CATEGORIES.contains(item.category)) {
+          dailyValues.putIfAbsent(item.category, item.fcstValue);
+        }
+
+        if (dailyValues.size() == DAILY_CATEGORIES.size()
+            && hourlyValues.size() == HOURLY_FORECAST_HOURS
+            && hourlyValues.lastEntry().getValue().size() == HOURLY_CATEGORIES.size()) {
+          break;
+        }
+      }
+    }
+    return new HourlyForecast(hourlyValues, dailyValues);
+  }
+
+  /**
+   * 예보일별 요약 값을 읽습니다.
+   *
+   * <p>TMN, TMX는 그대로 사용하고, POP은 하루 중 최댓값, SKY는 하루 중 가장 흐린 값, PTY는 하루 중 처음 나타난 강수 형태(없으면 0)를 사용합니다.
+   *
+   * @param body 기상청 응답 본문
+   * @return 예보일(yyyyMMdd)별 항목 코드(TMN, TMX, POP, SKY, PTY)와 값 (예보일 순)
+   * @throws CustomException 응답이 비어 있는 경우
+   * @throws IOException 응답 본문을 읽거나 파싱하지 못한 경우
+   */
+  public Map<String, Map<String, String>> parseDailyForecasts(InputStream body)
+      throws IOException {
+    Map<String, Map<String, String>> dailyValues = new LinkedHashMap<>();
+
+    try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+      if (!moveToItems(parser)) {
+        return dailyValues;
+      }
+
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        ForecastItem item = readItem(parser);
+        if (item.category == null || item.fcstValue == null || item.fcstDate == null) {
+          continue;
+        }
+
+        Map<String, String> values =
+            dailyValues.computeIfAbsent(item.fcstDate, date -> new HashMap<>());
+        switch (item.category) {
+          case "TMN", "TMX" -> values.put(item.category, item.fcstValue);
+          case "POP", "SKY" -> values.merge(item.category, item.fcstValue, KmaForecastParser::max);
+          case "PTY" ->
+              values.merge("PTY", item.fcstValue, (prev, next) -> "0".equals(prev) ? next : prev);
+          default -> {}
+        }
+      }
+    }
+    return dailyValues;
+  }
+
+  private static String max(String a, String b) {
+    try {
+      return Integer.parseInt(b) > Integer.parseInt(a) ? b : a;
+    } catch (NumberFormatException e) {
+      return a;
+    }
+  }
+
+  /**
+   * response.header.resultCode 를 확인하고 response.body.items.item 배열의 시작 위치로 이동합니다.
+   *
+   * @return item 배열이 있으면 true
+   */
+  private boolean moveToItems(JsonParser parser) throws IOException {
+    if (parser.nextToken() == null) {
+      log.warn("날씨 API 응답이 비어있습니다.");
+      throw new CustomException(WeatherErrorStatus.EMPTY_RESPONSE);
+    }
+
+    JsonToken token;
+    while ((token = parser.nextToken()) != null) {
+      if (token != JsonToken.FIELD_NAME) {
+        continue;
+      }
+      String fieldName = parser.currentName();
+      JsonToken valueToken = parser.nextToken();
+
+      if ("resultCode".equals(fieldName)) {
+        String resultCode = parser.getText();
+        if (!"00".equals(resultCode)) {
+          log.warn("기상청 API 오류 응답: resultCode={}", resultCode);
+          return false;
+        }
+      } else if ("item".equals(fieldName)) {
+        return valueToken == JsonToken.START_ARRAY;
+      } else if (!"response".equals(fieldName)
+          && !"header".equals(fieldName)
+          && !"body".equals(fieldName)
+          && !"items".equals(fieldName)) {
+        parser.skipChildren();
+      }
+    }
+    return false;
+  }
+
+  /** 현재 위치의 item 객체를 끝까지 읽습니다. */
+  private ForecastItem readItem(JsonParser parser) throws IOException {
+    ForecastItem item = new ForecastItem();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      parser.nextToken();
+      switch (fieldName) {
+        case "category" -> item.category = parser.getText();
+        case "fcstDate" -> item.fcstDate = parser.getText();
+        case "fcstTime" -> item.fcstTime = parser.getText();
+        case "fcstValue" -> item.fcstValue = parser.getText();
+        default -> parser.skipChildren();
+      }
+    }
+    return item;
+  }
+
+  private static class ForecastItem {
+
+    private String category;
+    private String fcstDate;
+    private String fcstTime;
+    private String fcstValue;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.weather.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.domain.seal.entity.Location;
+import com.yfive.gbjs.domain.weather.service.WeatherService.GridCoord;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위경도를 기상청 격자 좌표로 변환하는 람베르트 정각원추도법(LCC) 투영
+ *
+ * <p>좌표와 무관한 투영 상수는 한 번만 계산하고, 좌표마다 필요한 계산만 수행합니다. 경북 시군 대표 지점의 격자 좌표도 미리 계산해 둡니다.
+ */
+@Component
+public class KmaGridProjection {
+
+  private static final double RE = 6371.00877; // Earth radius (km)
+  private static final double GRID = 5.0; // Grid spacing (km)
+  private static final double SLAT1 = 30.0; // Projection latitude 1 (degree)
+  private static final double SLAT2 = 60.0; // Projection latitude 2 (degree)
+  private static final double OLON = 126.0; // Reference longitude (degree)
+  private static final double OLAT = 38.0; // Reference latitude (degree)
+  private static final double XO = 43; // Reference point X coordinate
+  private static final double YO = 136; // Reference point Y coordinate
+
+  private static final double DEGRAD = Math.PI / 180.0;
+  private static final double OLON_RAD = OLON * DEGRAD;
+
+  private static final double SN;
+  private static final double RE_SF;
+  private static final double RO;
+
+  static {
+    double re = RE / GRID;
+    double slat1 = SLAT1 * DEGRAD;
+    double slat2 = SLAT2 * DEGRAD;
+    double olat = OLAT * DEGRAD;
+
+    double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+    sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
+
+    double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+    sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
+
+    double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
+    ro = re * sf / Math.pow(ro, sn);
+
+    SN = sn;
+    RE_SF = re * sf;
+    RO = ro;
+  }
+
+  /** 경북 시군 대표 지점 (시청, 군청 소재지) */
+  private static final List<RepresentativePoint> GYEONGBUK_POINTS =
+      List.of(
+          new RepresentativePoint(Location.GYEONGSAN, 128.7411, 35.8251),
+          new RepresentativePoint(Location.GYEONGJU, 129.2247, 35.8562),
+          new RepresentativePoint(Location.GORYEONG, 128.2629, 35.7261),
+          new RepresentativePoint(Location.GUMI, 128.3446, 36.1195),
+          new RepresentativePoint(Location.GUNWI, 128.5728, 36.2428),
+          new RepresentativePoint(Location.GIMCHEON, 128.1136, 36.1398),
+          new RepresentativePoint(Location.MUNGYEONG, 128.1867, 36.5866),
+          new RepresentativePoint(Location.BONGHWA, 128.7324, 36.8931),
+          new RepresentativePoint(Location.SANGJU, 128.1591, 36.4109),
+          new RepresentativePoint(Location.SEONGJU, 128.2829, 35.9191),
+          new RepresentativePoint(Location.ANDONG, 128.7294, 36.5684),
+          new RepresentativePoint(Location.YEONGDEOK, 129.3655, 36.4150),
+          new RepresentativePoint(Location.YEONGYANG, 129.1124, 36.6667),
+          new RepresentativePoint(Location.YEONGJU, 128.6241, 36.8057),
+          new RepresentativePoint(Location.YEONGCHEON, 128.9386, 35.9733),
+          new RepresentativePoint(Location.YECHEON, 128.4528, 36.6578),
+          new RepresentativePoint(Location.ULLUNG, 130.9057, 37.4844),
+          new RepresentativePoint(Location.ULJIN, 129.4004, 36.9930),
+          new RepresentativePoint(Location.UISEONG, 128.6971, 36.3527),
+          new RepresentativePoint(Location.CHEONGDO, 128.7339, 35.6474),
+          new RepresentativePoint(Location.CHEONGSONG, 129.0571, 36.4359),
+          new RepresentativePoint(Location.CHILGOK, 128.4017, 35.9955),
+          new RepresentativePoint(Location.POHANG, 129.3435, 36.0190));
+
+  /** 경북 시군 대표 지점의 격자 좌표 -> 대표 지점 */
+  private final Map<GridCoord, RepresentativePoint> gyeongbukCells;
+
+  public KmaGridProjection() {
+    Map<GridCoord, RepresentativePoint> cells = new LinkedHashMap<>();
+    for (RepresentativePoint point : GYEONGBUK_POINTS) {
+      cells.putIfAbsent(convertToGrid(point.getLongitude(), point.getLatitude()), point);
+    }
+    this.gyeongbukCells = Collections.unmodifiableMap(cells);
+  }
+
+  /**
+   * 위도와 경도를 기상청 격자 좌표로 변환합니다.
+   *
+   * @param longitude 경도
+   * @param latitude 위도
+   * @return 변환된 격자 좌표 (GridCoord)
+   */
+  public GridCoord convertToGrid(double longitude, double latitude) {
+    double ra = RE_SF / Math.pow(Math.tan(Math.PI * 0.25 + latitude * DEGRAD * 0.5), SN);
+    double theta = normalizeTheta(longitude) * SN;
+
+    int x = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
+    int y = (int) Math.floor(RO - ra * Math.cos(theta) + YO + 0.5);
+
+    return new GridCoord(x, y);
+  }
+
+  /**
+   * 여러 좌표를 한 번에 격자 좌표로 변환합니다. 결과는 호출자가 전달한 배열에 저장되므로 추가 객체를 생성하지 않습니다.
+   *
+   * @param longitudes 경도 배열
+   * @param latitudes 위도 배열 (경도 배열과 같은 길이)
+   * @param nx 격자 X 좌표를 저장할 배열
+   * @param ny 격자 Y 좌표를 저장할 배열
+   */
+  public void convertToGrid(double[] longitudes, double[] latitudes, int[] nx, int[] ny) {
+    if (latitudes.length != longitudes.length
+        || nx.length < longitudes.length
+        || ny.length < longitudes.length) {
+      throw new IllegalArgumentException("좌표 배열과 결과 배열의 길이가 맞지 않습니다.");
+    }
+
+    for (int i = 0; i < longitudes.length; i++) {
+      double ra = RE_SF / Math.pow(Math.tan(Math.PI * 0.25 + latitudes[i] * DEGRAD * 0.5), SN);
+      double theta = normalizeTheta(longitudes[i]) * SN;
+
+      nx[i] = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
+      ny[i] = (int) Math.floor(RO - ra * Math.cos(theta) + YO + 0.5);
+    }
+  }
+
+  /** 경북 시군 대표 지점의 격자 좌표와 대표 지점 */
+  public Map<GridCoord, RepresentativePoint> getGyeongbukCells() {
+    return gyeongbukCells;
+  }
+
+  private static double normalizeTheta(double longitude) {
+    double theta = longitude * DEGRAD - OLON_RAD;
+    if (theta > Math.PI) {
+      theta -= 2.0 * Math.PI;
+    }
+    if (theta < -Math.PI) {
+      theta += 2.0 * Math.PI;
+    }
+    return theta;
+  }
+
+  /** 격자를 대표하는 지점 */
+  @Getter
+  @AllArgsConstructor
+  public static class RepresentativePoint {
+
+    private final Location location;
+    private final double longitude;
+    private final double latitude;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 최대 크기와 항목별 만료 시각을 가진 동시성 메모리 캐시
+ *
+ * <p>{@link ExpiringLruCache}와 달리 전역 잠금 없이 {@link ConcurrentHashMap}으로 조회하므로 요청마다 조회되는 경로에
+ * 사용합니다. 최대 크기를 넘으면 한 스레드만 만료된 항목을 정리하고, 그래도 넘으면 임의의 항목을 제거합니다. (LRU 순서는 보장하지 않음)
+ */
+public class ConcurrentExpiringCache<K, V> {
+
+  private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+  private final int maxSize;
+
+  public ConcurrentExpiringCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /** 만료되지 않은 값을 반환합니다. 없거나 만료된 경우 null을 반환합니다. */
+  public V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt() <= System.currentTimeMillis()) {
+      entries.remove(key, entry);
+      return null;
+    }
+    return entry.value();
+  }
+
+  /**
+   * 값을 저장합니다.
+   *
+   * @param expiresAt 만료 시각 (epoch 밀리초)
+   */
+  public void put(K key, V value, long expiresAt) {
+    entries.put(key, new Entry<>(value, expiresAt));
+    if (entries.size() > maxSize) {
+      evict();
+    }
+  }
+
+  public void remove(K key) {
+    entries.remove(key);
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /** 만료된 항목을 제거하고, 그래도 최대 크기를 넘으면 최대 크기의 90%가 될 때까지 제거합니다. */
+  private void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      long now = System.currentTimeMillis();
+      entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+      int target = maxSize - maxSize / 10;
+      Iterator<K> keys = entries.keySet().iterator();
+      while (entries.size() > target && keys.hasNext()) {
+        keys.next();
+        keys.remove();
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  private record Entry<V>(V value, long expiresAt) {}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최대 크기와 항목별 만료 시각을 가진 메모리 캐시
+ *
+ * <p>최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다. 만료된 항목은 {@link #get(Object)}에서는 조회되지 않지만, 외부 API 장애 시
+ * 대신 사용할 수 있도록 {@link #getStale(Object)}로는 조회할 수 있습니다.
+ */
+public class ExpiringLruCache<K, V> {
+
+  private final Map<K, Entry<V>> entries;
+
+  public ExpiringLruCache(int maxSize) {
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  /** 만료되지 않은 값을 반환합니다. 없거나 만료된 경우 null을 반환합니다. */
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null || entry.expiresAt() <= System.currentTimeMillis()) {
+      return null;
+    }
+    return entry.value();
+  }
+
+  /** 만료 여부와 관계없이 보관 중인 값을 반환합니다. */
+  public synchronized V getStale(K key) {
+    Entry<V> entry = entries.get(key);
+    return entry == null ? null : entry.value();
+  }
+
+  /**
+   * 값을 저장합니다.
+   *
+   * @param expiresAt 만료 시각 (epoch 밀리초)
+   */
+  public synchronized void put(K key, V value, long expiresAt) {
+    entries.put(key, new Entry<>(value, expiresAt));
+  }
+
+  public synchronized void remove(K key) {
+    entries.remove(key);
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private record Entry<V>(V value, long expiresAt) {}
+}
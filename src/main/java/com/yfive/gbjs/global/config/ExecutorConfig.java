@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.yfive.gbjs.global.config.filter.RequestLoggingProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/** 백그라운드 작업용 스레드 풀 설정 */
+@Slf4j
+@Configuration
+public class ExecutorConfig {
+
+  /**
+   * {@code @Scheduled} 작업용 스레드 풀
+   *
+   * <p>기본 스케줄러는 스레드가 하나라서 외부 API를 호출하는 긴 작업(축제 목록, 날씨 미리 받기 등)이 TTS 큐 처리나 블랙리스트 재로딩을 늦춥니다. 작업마다
+   * 독립적으로 실행되도록 여러 스레드를 사용합니다.
+   */
+  @Bean
+  public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:6}") int poolSize) {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("scheduler-");
+    scheduler.setErrorHandler(e -> log.error("스케줄 작업 실패", e));
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.setAwaitTerminationSeconds(30);
+    return scheduler;
+  }
+
+  /** 음성 가이드 사전 생성 워커 (Google TTS 호출 + S3 업로드) */
+  @Bean
+  public ThreadPoolTaskExecutor ttsTaskExecutor(
+      @Value("${tts.queue.worker-count:2}") int workerCount) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(workerCount);
+    executor.setMaxPoolSize(workerCount);
+    executor.setQueueCapacity(workerCount);
+    executor.setThreadNamePrefix("tts-worker-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
+  /**
+   * 외부 API 병렬 호출용 스레드 풀
+   *
+   * <p>작업이 가득 차면 호출한 스레드에서 직접 실행하므로 요청이 거절되지 않습니다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor externalApiExecutor(
+      @Value("${external-api.executor.pool-size:8}") int poolSize,
+      @Value("${external-api.executor.queue-capacity:32}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("external-api-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    return executor;
+  }
+
+  /**
+   * 요청/응답 로그 출력용 스레드
+   *
+   * <p>로그 출력이 요청 처리 시간에 포함되지 않도록 한 스레드에서 차례로 출력합니다. 대기열이 가득 차면 가장 오래된 로그를 버립니다.
+   */
+  @Bean
+  public ThreadPoolTaskExecutor requestLogExecutor(RequestLoggingProperties properties) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(properties.getAsyncQueueCapacity());
+    executor.setThreadNamePrefix("request-log-");
+    executor.setDaemon(true);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardOldestPolicy());
+    return executor;
+  }
+}
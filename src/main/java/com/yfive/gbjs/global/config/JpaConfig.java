@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 설정
+ *
+ * <p>지연 로딩되는 연관 엔티티와 컬렉션은 default_batch_fetch_size 단위로 IN 쿼리로 묶어 조회합니다.
+ *
+ * <p>application.yml 에 같은 속성이 있으면 그 값을 우선 사용합니다. MySQL에서 INSERT 배치가 실제로 한 번에 전송되려면 JDBC URL에
+ * rewriteBatchedStatements=true 가 필요합니다.
+ */
+@Configuration
+public class JpaConfig {
+
+  /** 여러 행을 저장할 때 INSERT/UPDATE 문을 모아서 전송합니다. (IDENTITY 전략 엔티티에는 적용되지 않음) */
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchCustomizer(
+      @Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+    return properties -> {
+      properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+      properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+      properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+    };
+  }
+
+  /** 지연 로딩 시 연관 엔티티를 한 건씩 조회하지 않고 IN 절로 묶어서 조회합니다. (N+1 방지) */
+  @Bean
+  public HibernatePropertiesCustomizer batchFetchCustomizer(
+      @Value("${jpa.default-batch-fetch-size:100}") int batchFetchSize) {
+    return properties ->
+        properties.putIfAbsent(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, batchFetchSize);
+  }
+}
@@ -15,6 +15,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.web.client.RestClient;
+
+import com.yfive.gbjs.global.config.http.HttpClientProperties;
+import com.yfive.gbjs.global.config.http.UpstreamRestClientFactory;
+import com.yfive.gbjs.global.http.ExternalApi;
 
 @Configuration
 public class LLMConfig {
@@ -24,8 +29,16 @@ public class LLMConfig {
 
   @Primary
   @Bean
-  public OpenAiApi openAiApi() {
-    return OpenAiApi.builder().apiKey(openaiApiKey).build();
+  public OpenAiApi openAiApi(
+      RestClient.Builder builder,
+      HttpClientProperties httpClientProperties,
+      UpstreamRestClientFactory upstreamRestClientFactory) {
+    return OpenAiApi.builder()
+        .apiKey(openaiApiKey)
+        .restClientBuilder(
+            upstreamRestClientFactory.configure(
+                builder, httpClientProperties.getOpenai(), ExternalApi.OPENAI, null))
+        .build();
   }
 
   @Bean
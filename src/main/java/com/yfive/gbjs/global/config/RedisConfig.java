@@ -10,7 +10,9 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import lombok.RequiredArgsConstructor;
@@ -42,4 +44,24 @@ public class RedisConfig {
     redisTemplate.setHashValueSerializer(new StringRedisSerializer());
     return redisTemplate;
   }
+
+  /** 키와 값을 직렬화 없이 바이트 그대로 저장하는 템플릿 (토큰 다이제스트 저장용) */
+  @Bean
+  public RedisTemplate<byte[], byte[]> binaryRedisTemplate() {
+    RedisTemplate<byte[], byte[]> redisTemplate = new RedisTemplate<>();
+    redisTemplate.setConnectionFactory(redisConnectionFactory());
+    redisTemplate.setKeySerializer(RedisSerializer.byteArray());
+    redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+    redisTemplate.setHashKeySerializer(RedisSerializer.byteArray());
+    redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+    return redisTemplate;
+  }
+
+  /** Redis Pub/Sub 구독 컨테이너 (서버 간 캐시 동기화 알림 수신) */
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer() {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory());
+    return container;
+  }
 }
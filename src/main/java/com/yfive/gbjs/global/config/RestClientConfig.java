@@ -5,13 +5,64 @@ package com.yfive.gbjs.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestClient;
 
+import com.yfive.gbjs.global.config.http.HttpClientProperties;
+import com.yfive.gbjs.global.config.http.UpstreamRestClientFactory;
+import com.yfive.gbjs.global.http.ExternalApi;
+import com.yfive.gbjs.global.http.resilience.DataPortalErrorDetector;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 API 호출용 RestClient 설정
+ *
+ * <p>외부 API마다 별도의 커넥션 풀과 타임아웃을 가진 RestClient를 등록합니다. 커넥션 풀 대기 시간을 짧게 두어 느린 외부 API 때문에 요청 스레드가 모두
+ * 묶이지 않도록 하고, 외부 API별 서킷 브레이커와 동시 호출 제한을 적용합니다.
+ */
 @Configuration
+@RequiredArgsConstructor
 public class RestClientConfig {
 
+  private final HttpClientProperties httpClientProperties;
+  private final UpstreamRestClientFactory upstreamRestClientFactory;
+
+  @Primary
   @Bean
   public RestClient restClient(RestClient.Builder builder) {
-    return builder.build();
+    return upstreamRestClientFactory.configure(builder, httpClientProperties.getDefaults()).build();
+  }
+
+  /** 한국관광공사 API (관광지, 축제, 오디오 가이드) */
+  @Bean
+  public RestClient ktoRestClient(RestClient.Builder builder) {
+    return upstreamRestClientFactory
+        .configure(
+            builder,
+            httpClientProperties.getKto(),
+            ExternalApi.KTO,
+            DataPortalErrorDetector::isError)
+        .build();
+  }
+
+  /** 기상청 단기예보 API */
+  @Bean
+  public RestClient kmaRestClient(RestClient.Builder builder) {
+    return upstreamRestClientFactory
+        .configure(
+            builder,
+            httpClientProperties.getKma(),
+            ExternalApi.KMA,
+            DataPortalErrorDetector::isError)
+        .build();
+  }
+
+  /** Google TTS API */
+  @Bean
+  public RestClient googleTtsRestClient(RestClient.Builder builder) {
+    return upstreamRestClientFactory
+        .configure(builder, httpClientProperties.getGoogleTts(), ExternalApi.GOOGLE_TTS, null)
+        .build();
   }
 }
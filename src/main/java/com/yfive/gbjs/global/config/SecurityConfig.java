@@ -106,7 +106,7 @@ public class SecurityConfig {
     if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getPrincipal())) {
       Object principal = auth.getPrincipal();
       if (principal instanceof CustomUserDetails) {
-        userId = ((CustomUserDetails) principal).getUser().getId().toString();
+        userId = ((CustomUserDetails) principal).getAuthenticatedUser().userId().toString();
       } else if (principal instanceof OAuth2User) {
         Object idAttr = ((OAuth2User) principal).getAttributes().get("id");
         if (idAttr != null) {
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청/응답 로깅 설정 속성
+ *
+ * <p>application.properties 또는 application.yml에서 request-logging 접두사를 가진 속성들을 관리합니다. 기본값은 요청마다
+ * 추가 비용이 거의 없는 설정입니다.
+ *
+ * @author YFIVE
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "request-logging")
+@Getter
+@Setter
+public class RequestLoggingProperties {
+
+  /** 요청/응답 본문 로깅 여부 (DEBUG 레벨, 켜면 본문을 메모리에 복사해 둠) */
+  private boolean bodyEnabled = false;
+
+  /** 로깅할 본문 최대 길이 (문자) */
+  private int maxBodyLength = 1000;
+
+  /** 요청 헤더를 로깅할 비율 (0.0 ~ 1.0, DEBUG 레벨) */
+  private double headerSampleRate = 0.01;
+
+  /** 로그를 별도 스레드에서 출력할지 여부 */
+  private boolean async = true;
+
+  /** 비동기 로그 대기열 크기 (가득 차면 가장 오래된 로그부터 버림) */
+  private int asyncQueueCapacity = 10000;
+}
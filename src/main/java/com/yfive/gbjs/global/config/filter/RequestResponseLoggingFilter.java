@@ -4,69 +4,201 @@
 package com.yfive.gbjs.global.config.filter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 요청/응답 로깅 필터
+ *
+ * <p>본문 로깅이 꺼져 있으면 요청/응답을 래핑하지 않아 본문을 추가로 복사하지 않습니다. 헤더는 설정한 비율만큼만 로깅하고, 로그 문자열은 요청 스레드에서
+ * 만든 뒤 출력은 별도 스레드에서 합니다. ({@link RequestLoggingProperties})
+ *
+ * <p>비동기 요청은 응답이 비동기 디스패치에서 완료되므로 응답 로깅과 본문 복사를 마지막 비동기 디스패치로 미룹니다. SSE 스트림은 버퍼링하면 이벤트가
+ * 클라이언트로 전송되지 않으므로 본문을 캐시하지 않고 바로 내보냅니다.
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RequestResponseLoggingFilter extends OncePerRequestFilter {
 
+  private static final String TRACE_ID = "traceId";
+
+  /** 비동기 디스패치에서 이어 쓰기 위한 요청 속성 */
+  private static final String TRACE_ID_ATTRIBUTE =
+      RequestResponseLoggingFilter.class.getName() + ".traceId";
+
+  private static final String START_TIME_ATTRIBUTE =
+      RequestResponseLoggingFilter.class.getName() + ".startTime";
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final RequestLoggingProperties properties;
+
+  @Qualifier("requestLogExecutor")
+  private final ThreadPoolTaskExecutor requestLogExecutor;
+
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
-    // 요청 ID 생성 및 MDC에 추가
-    String traceId = UUID.randomUUID().toString().substring(0, 8);
-    MDC.put("traceId", traceId);
+    boolean asyncDispatch = isAsyncDispatch(request);
 
-    // 요청/응답 래핑
-    ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-    ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+    // 요청 ID 생성 및 MDC에 추가 (비동기 디스패치는 최초 요청의 ID 사용)
+    Object savedTraceId = request.getAttribute(TRACE_ID_ATTRIBUTE);
+    String traceId = asyncDispatch && savedTraceId instanceof String id ? id : newTraceId();
+    MDC.put(TRACE_ID, traceId);
 
-    long startTime = System.currentTimeMillis();
+    Object savedStartTime = request.getAttribute(START_TIME_ATTRIBUTE);
+    long startTime =
+        asyncDispatch && savedStartTime instanceof Long time ? time : System.currentTimeMillis();
 
     try {
-      // 요청 로깅
-      logRequest(requestWrapper);
+      HttpServletRequest requestToUse = request;
+      HttpServletResponse responseToUse = response;
+      if (!asyncDispatch) {
+        // 요청 로깅
+        logRequest(request, traceId);
+        request.setAttribute(TRACE_ID_ATTRIBUTE, traceId);
+        request.setAttribute(START_TIME_ATTRIBUTE, startTime);
+
+        // 본문 로깅 시에만 요청/응답 래핑 (SSE 요청은 래핑하지 않음)
+        if (properties.isBodyEnabled() && !isEventStream(request)) {
+          requestToUse = new ContentCachingRequestWrapper(request);
+          responseToUse = new StreamingAwareResponseWrapper(response);
+        }
+      }
+
+      filterChain.doFilter(requestToUse, responseToUse);
 
-      // 필터 체인 실행
-      filterChain.doFilter(requestWrapper, responseWrapper);
+      if (isAsyncStarted(requestToUse)) {
+        // 응답은 비동기 처리가 끝난 뒤의 비동기 디스패치에서 로깅
+        return;
+      }
 
-      // 응답 로깅
       long duration = System.currentTimeMillis() - startTime;
-      logResponse(responseWrapper, duration);
+      logResponse(responseToUse.getStatus(), duration, traceId);
 
-      // 응답 복원 (중요: 응답 내용을 읽은 후 복원해야 함)
-      responseWrapper.copyBodyToResponse();
+      // 비동기 디스패치에서는 최초 요청에서 만든 래퍼가 전달됨
+      ContentCachingResponseWrapper responseWrapper =
+          WebUtils.getNativeResponse(responseToUse, ContentCachingResponseWrapper.class);
+      if (responseWrapper != null) {
+        ContentCachingRequestWrapper requestWrapper =
+            WebUtils.getNativeRequest(requestToUse, ContentCachingRequestWrapper.class);
+        if (requestWrapper != null) {
+          logBodies(requestWrapper, responseWrapper, traceId);
+        }
+
+        // 응답 복원 (중요: 응답 내용을 읽은 후 복원해야 함)
+        responseWrapper.copyBodyToResponse();
+      }
     } finally {
-      MDC.remove("traceId");
+      MDC.remove(TRACE_ID);
     }
   }
 
-  private void logRequest(ContentCachingRequestWrapper request) {
+  /** 비동기 디스패치에서도 실행하여 비동기 요청의 응답을 로깅하고 본문을 복원합니다. */
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  private static boolean isEventStream(HttpServletRequest request) {
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+  }
+
+  private void logRequest(HttpServletRequest request, String traceId) {
     String queryString = request.getQueryString() != null ? "?" + request.getQueryString() : "";
-    log.info(
-        "REQUEST: {} {} {}",
-        request.getMethod(),
-        request.getRequestURI() + queryString,
-        request.getRemoteAddr());
-    log.debug("REQUEST HEADERS: {}", getHeaders(request));
+    String uri = request.getRequestURI() + queryString;
+    String method = request.getMethod();
+    String remoteAddr = request.getRemoteAddr();
+    emit(traceId, () -> log.info("REQUEST: {} {} {}", method, uri, remoteAddr));
+
+    if (log.isDebugEnabled() && sampled(properties.getHeaderSampleRate())) {
+      String headers = getHeaders(request);
+      emit(traceId, () -> log.debug("REQUEST HEADERS: {}", headers));
+    }
+  }
+
+  private void logResponse(int status, long duration, String traceId) {
+    emit(traceId, () -> log.info("RESPONSE: {} ({}ms)", status, duration));
+  }
+
+  private void logBodies(
+      ContentCachingRequestWrapper request,
+      ContentCachingResponseWrapper response,
+      String traceId) {
+    if (!log.isDebugEnabled()) {
+      return;
+    }
+    // 버퍼는 요청이 끝나면 재사용될 수 있으므로 요청 스레드에서 문자열로 만듦
+    String requestBody = truncate(request.getContentAsByteArray());
+    String responseBody = truncate(response.getContentAsByteArray());
+    emit(
+        traceId,
+        () -> {
+          log.debug("REQUEST BODY: {}", requestBody);
+          log.debug("RESPONSE BODY: {}", responseBody);
+        });
+  }
+
+  private String truncate(byte[] body) {
+    String text = new String(body, StandardCharsets.UTF_8);
+    int maxLength = properties.getMaxBodyLength();
+    return text.length() > maxLength ? text.substring(0, maxLength) + "..." : text;
+  }
+
+  /** 로그를 출력합니다. 비동기 출력 시 출력 스레드의 MDC에 traceId를 설정합니다. */
+  private void emit(String traceId, Runnable logging) {
+    if (!properties.isAsync()) {
+      logging.run();
+      return;
+    }
+    requestLogExecutor.execute(
+        () -> {
+          MDC.put(TRACE_ID, traceId);
+          try {
+            logging.run();
+          } finally {
+            MDC.remove(TRACE_ID);
+          }
+        });
   }
 
-  private void logResponse(ContentCachingResponseWrapper response, long duration) {
-    log.info("RESPONSE: {} ({}ms)", response.getStatus(), duration);
+  private static boolean sampled(double rate) {
+    return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+  }
+
+  /** 8자리 16진수 요청 ID (보안 난수가 필요하지 않으므로 ThreadLocalRandom 사용) */
+  private static String newTraceId() {
+    int value = ThreadLocalRandom.current().nextInt();
+    char[] chars = new char[8];
+    for (int i = chars.length - 1; i >= 0; i--) {
+      chars[i] = HEX[value & 0xf];
+      value >>>= 4;
+    }
+    return new String(chars);
   }
 
   private String getHeaders(HttpServletRequest request) {
@@ -85,6 +217,52 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
     return headers.toString();
   }
 
+  /**
+   * 본문을 캐시하는 응답 래퍼
+   *
+   * <p>SSE 스트림처럼 응답을 나누어 보내는 경우, Accept 헤더로 미리 알 수 없었더라도 Content-Type이 text/event-stream이면 캐시하지 않고
+   * 원래 응답으로 바로 씁니다.
+   */
+  private static class StreamingAwareResponseWrapper extends ContentCachingResponseWrapper {
+
+    StreamingAwareResponseWrapper(HttpServletResponse response) {
+      super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      if (isStreaming()) {
+        copyBodyToResponse(false);
+        return getResponse().getOutputStream();
+      }
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      if (isStreaming()) {
+        copyBodyToResponse(false);
+        return getResponse().getWriter();
+      }
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      if (isStreaming()) {
+        copyBodyToResponse(false);
+        getResponse().flushBuffer();
+        return;
+      }
+      super.flushBuffer();
+    }
+
+    private boolean isStreaming() {
+      String contentType = getContentType();
+      return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+  }
+
   @Override
   protected boolean shouldNotFilter(HttpServletRequest request) {
     String path = request.getRequestURI();
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 외부 API HTTP 클라이언트 설정 속성
+ *
+ * <p>application.properties 또는 application.yml에서 http-client 접두사를 가진 속성들을 관리합니다. 외부 API마다 별도의 커넥션
+ * 풀을 사용하므로 한 API가 느려져도 다른 API 호출에는 영향을 주지 않습니다.
+ *
+ * @author YFIVE
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+  /** 기본 설정 (특정 외부 API에 속하지 않는 호출) */
+  private Upstream defaults = new Upstream(20, 2000, 1000, 5000, 30);
+
+  /** 한국관광공사 (관광정보, 오디오 가이드) */
+  private Upstream kto = new Upstream(40, 2000, 1000, 5000, 30);
+
+  /** 기상청 단기예보 */
+  private Upstream kma = new Upstream(20, 2000, 1000, 5000, 30);
+
+  /** Google TTS */
+  private Upstream googleTts = new Upstream(10, 2000, 1000, 15000, 30);
+
+  /** OpenAI (응답 생성 시간이 길어 응답 타임아웃을 길게 둠) */
+  private Upstream openai = new Upstream(10, 2000, 1000, 60000, 30);
+
+  /** 외부 API별 커넥션 풀 및 타임아웃 설정 */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Upstream {
+
+    /** 최대 커넥션 수 (호스트당) */
+    private int maxConnections;
+
+    /** 연결 타임아웃 (밀리초) */
+    private long connectTimeoutMs;
+
+    /** 커넥션 풀에서 커넥션을 얻기까지 대기하는 최대 시간 (밀리초) */
+    private long connectionRequestTimeoutMs;
+
+    /** 응답 타임아웃 (밀리초) */
+    private long responseTimeoutMs;
+
+    /** Keep-Alive 유지 시간 (초) */
+    private long keepAliveSeconds;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.http;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.global.http.ExternalApi;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 외부 API 격리(Bulkhead) 및 서킷 브레이커 설정 속성
+ *
+ * <p>application.properties 또는 application.yml에서 resilience 접두사를 가진 속성들을 관리합니다.
+ *
+ * @author YFIVE
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "resilience")
+@Getter
+@Setter
+public class ResilienceProperties {
+
+  /** 한국관광공사 (관광정보, 오디오 가이드) */
+  private Policy kto = new Policy(30);
+
+  /** 기상청 단기예보 */
+  private Policy kma = new Policy(15);
+
+  /** Google TTS */
+  private Policy googleTts = new Policy(8);
+
+  /** OpenAI */
+  private Policy openai = new Policy(10);
+
+  public Policy get(ExternalApi externalApi) {
+    return switch (externalApi) {
+      case KTO -> kto;
+      case KMA -> kma;
+      case GOOGLE_TTS -> googleTts;
+      case OPENAI -> openai;
+    };
+  }
+
+  /** 외부 API별 동시 호출 제한 및 서킷 브레이커 설정 */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  public static class Policy {
+
+    /** 최대 동시 호출 수 */
+    private int maxConcurrentCalls = 10;
+
+    /** 동시 호출 수 초과 시 대기할 수 있는 최대 요청 수 */
+    private int maxWaitingCalls = 20;
+
+    /** 동시 호출 수 초과 시 최대 대기 시간 (밀리초) */
+    private long maxWaitMs = 500;
+
+    /** 실패율 계산에 사용하는 최근 호출 수 */
+    private int slidingWindowSize = 20;
+
+    /** 실패율을 계산하기 위한 최소 호출 수 */
+    private int minimumCalls = 10;
+
+    /** 서킷을 여는 실패율 (%) */
+    private int failureRateThreshold = 50;
+
+    /** 서킷이 열린 상태를 유지하는 시간 (밀리초) */
+    private long openDurationMs = 30000;
+
+    /** 반열림 상태에서 허용하는 시험 호출 수 */
+    private int halfOpenCalls = 3;
+
+    public Policy(int maxConcurrentCalls) {
+      this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+  }
+}
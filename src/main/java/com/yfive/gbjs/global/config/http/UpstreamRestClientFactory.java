@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.http;
+
+import java.util.function.Predicate;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.yfive.gbjs.global.config.http.HttpClientProperties.Upstream;
+import com.yfive.gbjs.global.http.ExternalApi;
+import com.yfive.gbjs.global.http.resilience.UpstreamGuardInterceptor;
+import com.yfive.gbjs.global.http.resilience.UpstreamGuardRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 API용 RestClient.Builder 구성
+ *
+ * <p>외부 API별 커넥션 풀과 타임아웃, 서킷 브레이커와 동시 호출 제한을 RestClient.Builder에 적용합니다. RestClient를 직접 등록하는 경우와
+ * 라이브러리에 Builder를 넘기는 경우(OpenAI) 모두 같은 설정을 사용하도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamRestClientFactory {
+
+  private final UpstreamGuardRegistry upstreamGuardRegistry;
+
+  /**
+   * 커넥션 풀과 타임아웃만 적용합니다. (특정 외부 API에 속하지 않는 호출)
+   *
+   * @param builder RestClient.Builder
+   * @param upstream 커넥션 풀 및 타임아웃 설정
+   * @return 설정이 적용된 Builder
+   */
+  public RestClient.Builder configure(RestClient.Builder builder, Upstream upstream) {
+    return builder.requestFactory(
+        new HttpComponentsClientHttpRequestFactory(createHttpClient(upstream)));
+  }
+
+  /**
+   * 커넥션 풀과 타임아웃, 외부 API별 서킷 브레이커와 동시 호출 제한을 적용합니다.
+   *
+   * @param builder RestClient.Builder
+   * @param upstream 커넥션 풀 및 타임아웃 설정
+   * @param externalApi 외부 API
+   * @param errorBodyDetector HTTP 200 오류 응답 판별기 (없으면 null)
+   * @return 설정이 적용된 Builder
+   */
+  public RestClient.Builder configure(
+      RestClient.Builder builder,
+      Upstream upstream,
+      ExternalApi externalApi,
+      Predicate<byte[]> errorBodyDetector) {
+    return configure(
+        builder.requestInterceptor(
+            new UpstreamGuardInterceptor(
+                upstreamGuardRegistry.get(externalApi), errorBodyDetector)),
+        upstream);
+  }
+
+  private CloseableHttpClient createHttpClient(Upstream upstream) {
+    TimeValue keepAlive = TimeValue.ofSeconds(upstream.getKeepAliveSeconds());
+
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(upstream.getMaxConnections())
+            .setMaxConnPerRoute(upstream.getMaxConnections())
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(upstream.getConnectTimeoutMs()))
+                    .setSocketTimeout(Timeout.ofMilliseconds(upstream.getResponseTimeoutMs()))
+                    .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                    .build())
+            .build();
+
+    RequestConfig requestConfig =
+        RequestConfig.custom()
+            .setConnectionRequestTimeout(
+                Timeout.ofMilliseconds(upstream.getConnectionRequestTimeoutMs()))
+            .setResponseTimeout(Timeout.ofMilliseconds(upstream.getResponseTimeoutMs()))
+            .build();
+
+    // gzip/deflate 응답 압축은 HttpClient 기본값으로 활성화되어 있음
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(requestConfig)
+        .setKeepAliveStrategy((response, context) -> keepAlive)
+        .evictExpiredConnections()
+        .evictIdleConnections(keepAlive)
+        .build();
+  }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.jwt;
+
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 JWT 클레임 (불변)
+ *
+ * @param subject 사용자 이름
+ * @param type 토큰 타입 (access 또는 refresh)
+ * @param expiresAt 만료 시각 (epoch 밀리초)
+ * @param authorities 권한 목록
+ */
+public record JwtClaims(String subject, String type, long expiresAt, List<String> authorities) {
+
+  /** 남은 유효 시간(초) */
+  public long remainingSeconds() {
+    return (expiresAt - System.currentTimeMillis()) / 1000;
+  }
+}
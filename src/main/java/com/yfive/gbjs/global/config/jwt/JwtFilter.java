@@ -44,12 +44,11 @@ public class JwtFilter extends OncePerRequestFilter {
     try {
       String token = jwtProvider.extractAccessToken(request);
 
-      if (token != null
-          && jwtProvider.validateToken(token)
-          && jwtProvider.validateTokenType(token, JwtProvider.TOKEN_TYPE_ACCESS)) {
+      // 블랙리스트, 서명, 만료, 타입을 한 번의 파싱으로 검증
+      JwtClaims claims = token != null ? jwtProvider.validateAccessToken(token) : null;
+      if (claims != null) {
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
-          String username = jwtProvider.getUsernameFromToken(token);
-          UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+          UserDetails userDetails = userDetailsService.loadUserByUsername(claims.subject());
 
           UsernamePasswordAuthenticationToken authentication =
               new UsernamePasswordAuthenticationToken(
@@ -34,4 +34,7 @@ public class JwtProperties {
 
   /** Refresh Token 유효 기간 (일) */
   private int refreshTokenTtlInDays = 7;
+
+  /** 검증된 토큰 클레임 캐시 최대 크기 */
+  private int claimsCacheSize = 10000;
 }
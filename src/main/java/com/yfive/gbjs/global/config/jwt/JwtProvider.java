@@ -4,6 +4,7 @@
 package com.yfive.gbjs.global.config.jwt;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -22,9 +23,13 @@ import org.springframework.stereotype.Component;
 import com.yfive.gbjs.domain.auth.dto.response.TokenResponse;
 import com.yfive.gbjs.domain.auth.exception.AuthErrorStatus;
 import com.yfive.gbjs.domain.user.exception.UserErrorStatus;
+import com.yfive.gbjs.global.cache.ConcurrentExpiringCache;
 import com.yfive.gbjs.global.error.exception.CustomException;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -51,6 +56,12 @@ public class JwtProvider {
   /** JWT 서명 키 */
   private SecretKey key;
 
+  /** JWT 파서 (불변, 스레드 안전하므로 재사용) */
+  private JwtParser parser;
+
+  /** 검증된 토큰 클레임 캐시 (키: 토큰 SHA-256, 토큰 만료 시각까지 유지, 요청마다 조회되므로 전역 잠금 없는 캐시 사용) */
+  private ConcurrentExpiringCache<String, JwtClaims> claimsCache;
+
   /** 토큰 저장소 */
   private final TokenRepository tokenRepository;
 
@@ -93,6 +104,8 @@ public class JwtProvider {
       log.warn("Base64 디코딩 실패, 일반 텍스트로 처리합니다: {}", e.getMessage());
       this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
     }
+    this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+    this.claimsCache = new ConcurrentExpiringCache<>(jwtProperties.getClaimsCacheSize());
     log.info("JWT key initialized");
   }
 
@@ -184,33 +197,71 @@ public class JwtProvider {
   }
 
   /**
-   * 토큰에서 사용자 이름 추출
+   * 토큰을 한 번만 파싱하여 서명과 만료를 검증하고 클레임을 반환합니다.
+   *
+   * <p>검증된 클레임은 토큰 다이제스트를 키로 토큰 만료 시각까지 캐시하므로, 같은 토큰의 반복 요청은 서명 검증을 다시 하지 않습니다. 블랙리스트는
+   * 확인하지 않습니다.
    *
    * @param token JWT 토큰
-   * @return 사용자 이름
+   * @return 검증된 클레임
+   * @throws JwtException 서명이 잘못되었거나 만료된 경우
+   * @throws IllegalArgumentException 토큰이 비어 있는 경우
    */
-  public String getUsernameFromToken(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(key)
-        .build()
-        .parseClaimsJws(token)
-        .getBody()
-        .getSubject();
+  public JwtClaims parseClaims(String token) {
+    requireToken(token);
+    return parseClaims(token, TokenDigests.digest(token));
+  }
+
+  /**
+   * 이미 계산한 토큰 다이제스트로 클레임 캐시를 조회하고, 없으면 토큰을 파싱합니다.
+   *
+   * @param token JWT 토큰
+   * @param sha256 토큰의 SHA-256 다이제스트
+   * @return 검증된 클레임
+   */
+  private JwtClaims parseClaims(String token, byte[] sha256) {
+    String digest = TokenDigests.encode(sha256);
+    JwtClaims cached = claimsCache.get(digest);
+    if (cached != null) {
+      return cached;
+    }
+
+    Claims body = parser.parseClaimsJws(token).getBody();
+    String authorities = body.get("auth", String.class);
+    JwtClaims claims =
+        new JwtClaims(
+            body.getSubject(),
+            body.get("type", String.class),
+            body.getExpiration().getTime(),
+            authorities == null || authorities.isEmpty()
+                ? List.of()
+                : List.of(authorities.split(",")));
+    claimsCache.put(digest, claims, claims.expiresAt());
+    return claims;
+  }
+
+  /**
+   * Access Token을 검증하고 클레임을 반환합니다. (블랙리스트, 서명, 만료, 타입을 한 번의 파싱으로 확인)
+   *
+   * @param token JWT 토큰
+   * @return 유효한 Access Token이면 클레임, 아니면 null
+   */
+  public JwtClaims validateAccessToken(String token) {
+    JwtClaims claims = validateAndParse(token);
+    if (claims == null || !TOKEN_TYPE_ACCESS.equals(claims.type())) {
+      return null;
+    }
+    return claims;
   }
 
   /**
-   * 토큰에서 토큰 타입 추출
+   * 토큰에서 사용자 이름 추출
    *
    * @param token JWT 토큰
-   * @return 토큰 타입 (access 또는 refresh)
+   * @return 사용자 이름
    */
-  private String getTokenType(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(key)
-        .build()
-        .parseClaimsJws(token)
-        .getBody()
-        .get("type", String.class);
+  public String getUsernameFromToken(String token) {
+    return parseClaims(token).subject();
   }
 
   /**
@@ -222,15 +273,27 @@ public class JwtProvider {
    * @return 유효성 여부
    */
   public boolean validateToken(String token) {
+    return validateAndParse(token) != null;
+  }
+
+  /**
+   * 블랙리스트를 확인한 뒤 토큰을 파싱합니다.
+   *
+   * @param token JWT 토큰
+   * @return 유효하면 클레임, 아니면 null
+   */
+  private JwtClaims validateAndParse(String token) {
     try {
-      // 블랙리스트 확인
-      if (tokenRepository.isBlacklisted(token)) {
+      requireToken(token);
+
+      // 다이제스트는 한 번만 계산해 블랙리스트 확인과 클레임 캐시 조회에 함께 사용
+      byte[] sha256 = TokenDigests.digest(token);
+      if (tokenRepository.isBlacklisted(TokenDigests.truncate(sha256))) {
         log.info("블랙리스트에 등록된 토큰입니다.");
-        return false;
+        return null;
       }
 
-      Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-      return true;
+      return parseClaims(token, sha256);
     } catch (SignatureException | MalformedJwtException e) {
       log.info("잘못된 JWT 서명입니다.");
     } catch (ExpiredJwtException e) {
@@ -240,7 +303,13 @@ public class JwtProvider {
     } catch (IllegalArgumentException e) {
       log.info("JWT 토큰이 잘못되었습니다.");
     }
-    return false;
+    return null;
+  }
+
+  private static void requireToken(String token) {
+    if (token == null || token.isBlank()) {
+      throw new IllegalArgumentException("JWT 토큰이 비어 있습니다.");
+    }
   }
 
   /**
@@ -254,11 +323,11 @@ public class JwtProvider {
    */
   public boolean validateTokenType(String token, String expectedType) {
     try {
-      return expectedType.equals(getTokenType(token));
-    } catch (io.jsonwebtoken.ExpiredJwtException e) {
+      return expectedType.equals(parseClaims(token).type());
+    } catch (ExpiredJwtException e) {
       log.info("만료된 JWT 토큰입니다.");
       return false;
-    } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+    } catch (JwtException | IllegalArgumentException e) {
       log.info("유효하지 않은 JWT 토큰입니다.");
       return false;
     }
@@ -274,14 +343,7 @@ public class JwtProvider {
    */
   public long getExpirationTime(String token) {
     try {
-      Date expiration =
-          Jwts.parserBuilder()
-              .setSigningKey(key)
-              .build()
-              .parseClaimsJws(token)
-              .getBody()
-              .getExpiration();
-      return (expiration.getTime() - System.currentTimeMillis()) / 1000;
+      return parseClaims(token).remainingSeconds();
     } catch (Exception e) {
       return 0;
     }
@@ -311,8 +373,7 @@ public class JwtProvider {
    * @return 일치 여부
    */
   public boolean validateRefreshToken(String username, String refreshToken) {
-    String storedToken = tokenRepository.findRefreshToken(username);
-    return storedToken != null && storedToken.equals(refreshToken);
+    return tokenRepository.matchesRefreshToken(username, refreshToken);
   }
 
   /**
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블랙리스트 토큰의 로컬 사본
+ *
+ * <p>블랙리스트에 등록된 토큰의 다이제스트와 만료 시각을 메모리에 보관합니다. 로컬에 없는 토큰은 Redis를 조회하지 않고 블랙리스트가 아니라고 판단하며, 로컬에
+ * 있을 때만 Redis로 최종 확인합니다.
+ *
+ * <p>서버 시작 시 Redis의 블랙리스트 키를 모두 읽어 오고, 이후에는 어느 서버에서든 블랙리스트에 추가되면 Redis Pub/Sub으로 전달받아 반영합니다. 메시지
+ * 유실에 대비해 주기적으로 다시 읽어 오며, 로딩 전이거나 로딩에 실패한 동안에는 항상 Redis를 조회합니다.
+ *
+ * <p>Pub/Sub 연결이 끊기면 그동안의 추가 알림을 받지 못하므로, 같은 채널로 하트비트를 보내 구독이 살아 있는지 확인합니다. 하트비트가 제한 시간(하트비트
+ * 주기의 3배, 기본 15초) 안에 도착하지 않으면 Redis 직접 조회로 전환하고, 하트비트가 다시 도착하면 블랙리스트를 다시 읽어 온 뒤 로컬 판단을 재개합니다.
+ * 따라서 알림을 놓친 블랙리스트 토큰이 통과될 수 있는 시간은 최대 이 제한 시간입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalBlacklist implements MessageListener {
+
+  /** 블랙리스트 추가 알림 채널 */
+  static final String CHANNEL = "blacklist:events";
+
+  /** 구독 상태 확인용 하트비트 메시지 */
+  static final String HEARTBEAT = "heartbeat";
+
+  /** 하트비트가 이 주기 배수만큼 도착하지 않으면 구독이 끊긴 것으로 판단 */
+  private static final int HEARTBEAT_TIMEOUT_INTERVALS = 3;
+
+  private static final String DELIMITER = "|";
+  private static final int SCAN_BATCH_SIZE = 1000;
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisTemplate<byte[], byte[]> binaryRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  /** 토큰 다이제스트(Base64) -> 만료 시각 (epoch 밀리초) */
+  private final Map<String, Long> entries = new ConcurrentHashMap<>();
+
+  /** Redis에서 블랙리스트를 읽어 와 로컬 판단이 가능한 상태인지 여부 */
+  private volatile boolean ready;
+
+  /** 구독을 시작했는지 여부 */
+  private volatile boolean started;
+
+  /** 하트비트가 제한 시간 안에 도착하지 않아 알림을 놓쳤을 수 있는 상태인지 여부 */
+  private volatile boolean subscriptionLost;
+
+  /** 마지막으로 하트비트를 받은 시각 (epoch 밀리초) */
+  private volatile long lastHeartbeatAt;
+
+  @Value("${jwt.blacklist.local-max-size:100000}")
+  private int maxSize;
+
+  @Value("${jwt.blacklist.heartbeat-interval-ms:5000}")
+  private long heartbeatIntervalMs;
+
+  /** 서버 시작 후 알림 채널을 먼저 구독하고 기존 블랙리스트를 읽어 옵니다. (구독 전 추가분 누락 방지) */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    lastHeartbeatAt = System.currentTimeMillis();
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    started = true;
+    reload();
+  }
+
+  /**
+   * 구독 상태를 확인하고 하트비트를 보냅니다.
+   *
+   * <p>제한 시간 안에 하트비트를 받지 못했으면 로컬 판단을 중단합니다. 끊겼던 구독이 복구되어 하트비트가 다시 도착하면 놓친 알림을 반영하기 위해 다시
+   * 읽어 옵니다.
+   */
+  @Scheduled(fixedDelayString = "${jwt.blacklist.heartbeat-interval-ms:5000}")
+  public void heartbeat() {
+    if (!started) {
+      return;
+    }
+    boolean alive =
+        System.currentTimeMillis() - lastHeartbeatAt
+            <= heartbeatIntervalMs * HEARTBEAT_TIMEOUT_INTERVALS;
+    if (!alive && !subscriptionLost) {
+      subscriptionLost = true;
+      ready = false;
+      log.warn("블랙리스트 알림 구독이 끊긴 것으로 보여 Redis 직접 조회로 전환합니다.");
+    } else if (alive && subscriptionLost) {
+      subscriptionLost = false;
+      log.info("블랙리스트 알림 구독이 복구되어 블랙리스트를 다시 읽어 옵니다.");
+      reload();
+    }
+
+    try {
+      redisTemplate.convertAndSend(CHANNEL, HEARTBEAT);
+    } catch (Exception e) {
+      log.debug("블랙리스트 하트비트 전송 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 블랙리스트를 Redis에서 다시 읽어 옵니다.
+   *
+   * <p>토큰 원문을 키로 쓰던 이전 형식의 키는 남은 만료 시간을 유지한 채 다이제스트 키로 옮깁니다.
+   */
+  @Scheduled(
+      initialDelayString = "${jwt.blacklist.resync-interval-ms:300000}",
+      fixedDelayString = "${jwt.blacklist.resync-interval-ms:300000}")
+  public void reload() {
+    try {
+      int loaded = 0;
+      ScanOptions options =
+          ScanOptions.scanOptions()
+              .match(TokenRepository.BLACKLIST_PREFIX + "*")
+              .count(SCAN_BATCH_SIZE)
+              .build();
+      try (Cursor<byte[]> keys = binaryRedisTemplate.scan(options)) {
+        while (keys.hasNext()) {
+          byte[] key = keys.next();
+          Long ttlMillis = binaryRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+          if (ttlMillis == null || ttlMillis == -2) {
+            continue;
+          }
+          byte[] digest = TokenRepository.blacklistKeySuffix(key);
+          if (digest.length != TokenDigests.TRUNCATED_LENGTH) {
+            digest = migrateLegacyKey(key, digest, ttlMillis);
+          }
+          long expiresAt = ttlMillis < 0 ? Long.MAX_VALUE : System.currentTimeMillis() + ttlMillis;
+          entries.put(TokenDigests.encode(digest), expiresAt);
+          loaded++;
+        }
+      }
+      evictExpired();
+      // 읽는 동안 구독이 끊겼으면 놓친 알림이 있을 수 있으므로 복구 후 다시 읽을 때까지 로컬 판단 보류
+      ready = !subscriptionLost && entries.size() <= maxSize;
+      log.info("블랙리스트 로컬 사본 로딩 완료 - 토큰 수: {}", loaded);
+    } catch (Exception e) {
+      ready = false;
+      log.warn("블랙리스트 로컬 사본 로딩 실패, Redis 직접 조회로 동작합니다: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 토큰이 블랙리스트에 있을 수 있는지 로컬에서 확인합니다.
+   *
+   * @param digest 토큰 다이제스트
+   * @return false면 블랙리스트가 아님이 확실, true면 Redis로 확인 필요
+   */
+  public boolean mightContain(byte[] digest) {
+    if (!ready) {
+      return true;
+    }
+    Long expiresAt = entries.get(TokenDigests.encode(digest));
+    return expiresAt != null && expiresAt > System.currentTimeMillis();
+  }
+
+  /**
+   * 블랙리스트 추가를 로컬에 반영하고 다른 서버에 알립니다.
+   *
+   * @param digest 토큰 다이제스트
+   * @param expiresAt 블랙리스트 만료 시각 (epoch 밀리초)
+   */
+  public void publish(byte[] digest, long expiresAt) {
+    String encoded = TokenDigests.encode(digest);
+    add(encoded, expiresAt);
+    redisTemplate.convertAndSend(CHANNEL, encoded + DELIMITER + expiresAt);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    if (HEARTBEAT.equals(body)) {
+      lastHeartbeatAt = System.currentTimeMillis();
+      return;
+    }
+    int delimiterIndex = body.lastIndexOf(DELIMITER);
+    if (delimiterIndex < 0) {
+      log.warn("블랙리스트 알림 형식 오류: {}", body);
+      return;
+    }
+    try {
+      add(body.substring(0, delimiterIndex), Long.parseLong(body.substring(delimiterIndex + 1)));
+    } catch (NumberFormatException e) {
+      log.warn("블랙리스트 알림 형식 오류: {}", body);
+    }
+  }
+
+  private void add(String digest, long expiresAt) {
+    entries.put(digest, expiresAt);
+    if (entries.size() > maxSize) {
+      evictExpired();
+      if (entries.size() > maxSize) {
+        // 최대 크기를 넘으면 로컬 판단을 중단하고 Redis로 조회 (다음 재로딩에서 다시 판단)
+        ready = false;
+        log.warn("블랙리스트 로컬 사본이 최대 크기({})를 넘어 Redis 직접 조회로 전환합니다.", maxSize);
+      }
+    }
+  }
+
+  private byte[] migrateLegacyKey(byte[] legacyKey, byte[] token, long ttlMillis) {
+    byte[] digest = TokenDigests.truncatedSha256(new String(token, StandardCharsets.UTF_8));
+    byte[] key = TokenRepository.blacklistKey(digest);
+    if (ttlMillis < 0) {
+      binaryRedisTemplate.opsForValue().set(key, TokenRepository.BLACKLISTED);
+    } else {
+      binaryRedisTemplate
+          .opsForValue()
+          .set(key, TokenRepository.BLACKLISTED, ttlMillis, TimeUnit.MILLISECONDS);
+    }
+    binaryRedisTemplate.delete(legacyKey);
+    return digest;
+  }
+
+  private void evictExpired() {
+    long now = System.currentTimeMillis();
+    entries.values().removeIf(expiresAt -> expiresAt <= now);
+  }
+}
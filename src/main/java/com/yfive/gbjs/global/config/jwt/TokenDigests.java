@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/** 토큰 원문 대신 캐시 키, 블랙리스트 키 등에 사용하는 토큰 다이제스트 */
+public final class TokenDigests {
+
+  /** Redis 저장용 다이제스트 길이 (SHA-256 앞 128비트) */
+  public static final int TRUNCATED_LENGTH = 16;
+
+  private TokenDigests() {}
+
+  /**
+   * 토큰의 SHA-256 다이제스트를 URL-safe Base64(패딩 없음)로 반환합니다.
+   *
+   * @param token 토큰 원문
+   * @return 43자 다이제스트
+   */
+  public static String sha256(String token) {
+    return encode(digest(token));
+  }
+
+  /**
+   * 토큰의 SHA-256 다이제스트를 반환합니다. 한 요청에서 캐시 키와 블랙리스트 키를 모두 만들 때 한 번만 계산하고 {@link #truncate(byte[])}로
+   * 블랙리스트 키를 만듭니다.
+   *
+   * @param token 토큰 원문
+   * @return 32바이트 다이제스트
+   */
+  public static byte[] digest(String token) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+
+  /**
+   * 토큰의 SHA-256 다이제스트 앞 16바이트를 반환합니다. Redis 키/값처럼 크기가 중요한 곳에 사용합니다.
+   *
+   * @param token 토큰 원문
+   * @return 16바이트 다이제스트
+   */
+  public static byte[] truncatedSha256(String token) {
+    return truncate(digest(token));
+  }
+
+  /**
+   * SHA-256 다이제스트의 앞 16바이트를 반환합니다.
+   *
+   * @param sha256 {@link #digest(String)}의 결과
+   * @return 16바이트 다이제스트
+   */
+  public static byte[] truncate(byte[] sha256) {
+    return Arrays.copyOf(sha256, TRUNCATED_LENGTH);
+  }
+
+  /**
+   * 다이제스트를 URL-safe Base64(패딩 없음) 문자열로 변환합니다.
+   *
+   * @param digest 다이제스트
+   * @return Base64 문자열
+   */
+  public static String encode(byte[] digest) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+  }
+}
@@ -3,6 +3,9 @@
  */
 package com.yfive.gbjs.global.config.jwt;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.redis.core.RedisTemplate;
@@ -15,7 +18,7 @@ import lombok.extern.slf4j.Slf4j;
  * 토큰 관리를 위한 저장소
  *
  * <p>Redis를 사용하여 Refresh Token 및 블랙리스트 토큰을 관리합니다. Refresh Token은 사용자별로 저장되며, 블랙리스트는 로그아웃된 토큰을
- * 관리합니다.
+ * 관리합니다. 토큰 원문 대신 16바이트 다이제스트({@link TokenDigests#truncatedSha256})를 바이트 그대로 저장합니다.
  *
  * @author YFIVE
  * @since 1.0.0
@@ -25,41 +28,77 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class TokenRepository {
 
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisTemplate<byte[], byte[]> binaryRedisTemplate;
   private final JwtProperties jwtProperties;
+  private final LocalBlacklist localBlacklist;
 
   /** Refresh Token Redis 키 접두사 */
   private static final String REFRESH_TOKEN_PREFIX = "refresh:";
 
   /** 블랙리스트 Redis 키 접두사 */
-  private static final String BLACKLIST_PREFIX = "blacklist:";
+  static final String BLACKLIST_PREFIX = "blacklist:";
+
+  private static final byte[] BLACKLIST_PREFIX_BYTES =
+      BLACKLIST_PREFIX.getBytes(StandardCharsets.UTF_8);
+
+  /** 블랙리스트 값 (키 존재 여부만 사용) */
+  static final byte[] BLACKLISTED = {1};
+
+  /** 토큰 다이제스트로 블랙리스트 Redis 키를 만듭니다. */
+  static byte[] blacklistKey(byte[] digest) {
+    byte[] key =
+        Arrays.copyOf(BLACKLIST_PREFIX_BYTES, BLACKLIST_PREFIX_BYTES.length + digest.length);
+    System.arraycopy(digest, 0, key, BLACKLIST_PREFIX_BYTES.length, digest.length);
+    return key;
+  }
+
+  /** 블랙리스트 Redis 키에서 키 접두사를 제외한 부분(다이제스트 또는 이전 형식의 토큰 원문)을 꺼냅니다. */
+  static byte[] blacklistKeySuffix(byte[] key) {
+    return Arrays.copyOfRange(key, BLACKLIST_PREFIX_BYTES.length, key.length);
+  }
+
+  private static byte[] refreshTokenKey(String username) {
+    return (REFRESH_TOKEN_PREFIX + username).getBytes(StandardCharsets.UTF_8);
+  }
 
   /**
    * Refresh Token을 Redis에 저장합니다.
    *
-   * <p>사용자 이름을 키로 사용하여 Refresh Token을 저장하며, 설정된 유효 기간 동안 유지됩니다.
+   * <p>사용자 이름을 키로 사용하여 Refresh Token의 다이제스트를 저장하며, 설정된 유효 기간 동안 유지됩니다.
    *
    * @param username 사용자 이름
    * @param refreshToken Refresh Token
    */
   public void saveRefreshToken(String username, String refreshToken) {
-    String key = REFRESH_TOKEN_PREFIX + username;
-    redisTemplate
+    binaryRedisTemplate
         .opsForValue()
-        .set(key, refreshToken, jwtProperties.getRefreshTokenTtlInDays(), TimeUnit.DAYS);
+        .set(
+            refreshTokenKey(username),
+            TokenDigests.truncatedSha256(refreshToken),
+            jwtProperties.getRefreshTokenTtlInDays(),
+            TimeUnit.DAYS);
     log.debug("Refresh Token saved for user: {}", username);
   }
 
   /**
-   * 사용자의 Refresh Token을 조회합니다.
+   * 사용자의 Refresh Token이 저장된 토큰과 일치하는지 확인합니다.
+   *
+   * <p>다이제스트 저장 이전에 원문으로 저장된 토큰도 만료될 때까지 비교할 수 있습니다.
    *
    * @param username 사용자 이름
-   * @return Refresh Token 또는 null
+   * @param refreshToken 비교할 Refresh Token
+   * @return 일치 여부
    */
-  public String findRefreshToken(String username) {
-    String key = REFRESH_TOKEN_PREFIX + username;
-    Object token = redisTemplate.opsForValue().get(key);
-    return token != null ? token.toString() : null;
+  public boolean matchesRefreshToken(String username, String refreshToken) {
+    byte[] stored = binaryRedisTemplate.opsForValue().get(refreshTokenKey(username));
+    if (stored == null) {
+      return false;
+    }
+    byte[] expected =
+        stored.length == TokenDigests.TRUNCATED_LENGTH
+            ? TokenDigests.truncatedSha256(refreshToken)
+            : refreshToken.getBytes(StandardCharsets.UTF_8);
+    return MessageDigest.isEqual(stored, expected);
   }
 
   /**
@@ -70,35 +109,50 @@ public class TokenRepository {
    * @param username 사용자 이름
    */
   public void deleteRefreshToken(String username) {
-    String key = REFRESH_TOKEN_PREFIX + username;
-    redisTemplate.delete(key);
+    binaryRedisTemplate.delete(refreshTokenKey(username));
     log.debug("Refresh Token deleted for user: {}", username);
   }
 
   /**
    * Access Token을 블랙리스트에 추가합니다.
    *
-   * <p>로그아웃된 Access Token을 블랙리스트에 추가하여 더 이상 사용할 수 없게 합니다. 토큰은 원래 만료 시간까지만 블랙리스트에 유지됩니다.
+   * <p>로그아웃된 Access Token을 블랙리스트에 추가하여 더 이상 사용할 수 없게 합니다. 토큰은 원래 만료 시간까지만 블랙리스트에 유지됩니다. 모든
+   * 서버의 블랙리스트 로컬 사본에도 반영됩니다.
    *
    * @param token Access Token
    * @param expiration 만료 시간(초)
    */
   public void addToBlacklist(String token, long expiration) {
-    String key = BLACKLIST_PREFIX + token;
-    redisTemplate.opsForValue().set(key, "blacklisted", expiration, TimeUnit.SECONDS);
-    log.debug("Token added to blacklist: {}", token);
+    byte[] digest = TokenDigests.truncatedSha256(token);
+    binaryRedisTemplate
+        .opsForValue()
+        .set(blacklistKey(digest), BLACKLISTED, expiration, TimeUnit.SECONDS);
+    localBlacklist.publish(digest, System.currentTimeMillis() + expiration * 1000);
+    log.debug("Token added to blacklist: {}", TokenDigests.encode(digest));
   }
 
   /**
    * 토큰이 블랙리스트에 있는지 확인합니다.
    *
-   * <p>토큰 검증 시 호출되어 해당 토큰이 로그아웃되었는지 확인합니다.
+   * <p>토큰 검증 시 호출되어 해당 토큰이 로그아웃되었는지 확인합니다. 로컬 사본에 없는 토큰은 Redis를 조회하지 않습니다.
    *
    * @param token 확인할 토큰
    * @return 블랙리스트에 있으면 true, 없으면 false
    */
   public boolean isBlacklisted(String token) {
-    String key = BLACKLIST_PREFIX + token;
-    return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    return isBlacklisted(TokenDigests.truncatedSha256(token));
+  }
+
+  /**
+   * 토큰 다이제스트가 블랙리스트에 있는지 확인합니다. 이미 다이제스트를 계산한 경우 다시 해시하지 않도록 사용합니다.
+   *
+   * @param digest 토큰 다이제스트 ({@link TokenDigests#TRUNCATED_LENGTH}바이트)
+   * @return 블랙리스트에 있으면 true, 없으면 false
+   */
+  public boolean isBlacklisted(byte[] digest) {
+    if (!localBlacklist.mightContain(digest)) {
+      return false;
+    }
+    return Boolean.TRUE.equals(binaryRedisTemplate.hasKey(blacklistKey(digest)));
   }
 }
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 서비스에서 호출하는 외부 API */
+@Getter
+@AllArgsConstructor
+public enum ExternalApi {
+  KTO("한국관광공사"),
+  KMA("기상청"),
+  GOOGLE_TTS("Google TTS"),
+  OPENAI("OpenAI");
+
+  private final String description;
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동일한 외부 API 요청을 하나로 합쳐 실행하는 클래스
+ *
+ * <p>같은 URI로 동시에 들어온 GET 요청은 먼저 들어온 요청 하나만 외부 API를 호출하고, 나머지 요청은 그 결과(파싱된 객체)를 함께 사용합니다. 공유되는
+ * 결과는 여러 스레드가 함께 읽으므로 호출 측에서 수정해서는 안 됩니다.
+ */
+@Slf4j
+@Component
+public class SingleFlightRestExecutor {
+
+  /** 정규화된 URI별 진행 중인 요청 */
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * GET 요청을 실행하고 응답 본문을 파싱한 결과를 반환합니다.
+   *
+   * <p>같은 URI에 대해서는 항상 같은 RestClient와 같은 방식으로 파싱해야 합니다.
+   *
+   * @param restClient 외부 API에 해당하는 RestClient
+   * @param uri 요청 URI
+   * @param parser 응답 본문 파서
+   * @return 파싱 결과
+   * @throws IOException 응답 본문 파싱 실패 시
+   */
+  public <T> T get(RestClient restClient, URI uri, ResponseParser<T> parser) throws IOException {
+    return execute(
+        uri, () -> parser.parse(restClient.get().uri(uri).retrieve().body(String.class)));
+  }
+
+  /**
+   * GET 요청을 실행하고 응답 본문을 문자열로 읽지 않고 스트림으로 파싱한 결과를 반환합니다.
+   *
+   * <p>파서가 필요한 값만 읽고 중단할 수 있어 큰 응답에서 메모리와 파싱 비용을 줄입니다. 같은 URI에 대해서는 항상 같은 RestClient와 같은 방식으로
+   * 파싱해야 합니다.
+   *
+   * @param restClient 외부 API에 해당하는 RestClient
+   * @param uri 요청 URI
+   * @param parser 응답 본문 스트림 파서
+   * @return 파싱 결과
+   * @throws IOException 응답 본문 파싱 실패 시
+   */
+  public <T> T getStream(RestClient restClient, URI uri, StreamParser<T> parser)
+      throws IOException {
+    return execute(
+        uri,
+        () ->
+            restClient
+                .get()
+                .uri(uri)
+                .exchange(
+                    (request, response) -> {
+                      if (response.getStatusCode().isError()) {
+                        throw new RestClientResponseException(
+                            "외부 API 오류 응답",
+                            response.getStatusCode(),
+                            response.getStatusText(),
+                            response.getHeaders(),
+                            null,
+                            null);
+                      }
+                      return parser.parse(response.getBody());
+                    }));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T execute(URI uri, Call<T> call) throws IOException {
+    String key = normalize(uri);
+
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+    if (existing != null) {
+      log.debug("진행 중인 외부 API 요청 결과 공유: {}", uri.getPath());
+      return (T) await(existing);
+    }
+
+    try {
+      T result = call.execute();
+      future.complete(result);
+      return result;
+    } catch (Throwable e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  private Object await(CompletableFuture<Object> future) throws IOException {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /** 쿼리 파라미터 순서와 호스트 대소문자에 관계없이 같은 요청이 같은 키를 갖도록 정규화합니다. */
+  private String normalize(URI uri) {
+    UriComponents components = UriComponentsBuilder.fromUri(uri).build(true);
+    MultiValueMap<String, String> queryParams = components.getQueryParams();
+
+    StringBuilder key =
+        new StringBuilder()
+            .append(components.getScheme())
+            .append("://")
+            .append(components.getHost() != null ? components.getHost().toLowerCase() : "")
+            .append(':')
+            .append(components.getPort())
+            .append(components.getPath());
+
+    Map<String, List<String>> sortedParams = new TreeMap<>(queryParams);
+    char separator = '?';
+    for (Map.Entry<String, List<String>> param : sortedParams.entrySet()) {
+      for (String value : param.getValue()) {
+        key.append(separator).append(param.getKey()).append('=').append(value);
+        separator = '&';
+      }
+    }
+    return key.toString();
+  }
+
+  /** 외부 API 응답 본문 파서 */
+  @FunctionalInterface
+  public interface ResponseParser<T> {
+
+    T parse(String body) throws JsonProcessingException;
+  }
+
+  /** 외부 API 응답 본문 스트림 파서 */
+  @FunctionalInterface
+  public interface StreamParser<T> {
+
+    T parse(InputStream body) throws IOException;
+  }
+
+  @FunctionalInterface
+  private interface Call<T> {
+
+    T execute() throws IOException;
+  }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.yfive.gbjs.global.error.exception.model.BaseErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum UpstreamErrorStatus implements BaseErrorCode {
+  UPSTREAM_UNAVAILABLE(
+      "UPSTREAM001", "외부 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+  UPSTREAM_BUSY("UPSTREAM002", "외부 서비스 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+
+  private final String code;
+  private final String message;
+  private final HttpStatus status;
+}
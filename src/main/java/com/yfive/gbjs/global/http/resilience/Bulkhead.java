@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.yfive.gbjs.global.config.http.ResilienceProperties.Policy;
+
+/**
+ * 외부 API 동시 호출 수를 제한하는 Bulkhead
+ *
+ * <p>동시 호출 수가 가득 차면 제한된 수의 요청만 짧게 대기시키고, 나머지는 즉시 거절합니다.
+ */
+public class Bulkhead {
+
+  private final int maxConcurrentCalls;
+  private final int maxWaitingCalls;
+  private final long maxWaitMs;
+  private final Semaphore semaphore;
+  private final AtomicInteger waitingCalls = new AtomicInteger();
+
+  public Bulkhead(Policy policy) {
+    this.maxConcurrentCalls = policy.getMaxConcurrentCalls();
+    this.maxWaitingCalls = policy.getMaxWaitingCalls();
+    this.maxWaitMs = policy.getMaxWaitMs();
+    this.semaphore = new Semaphore(maxConcurrentCalls, true);
+  }
+
+  public boolean tryAcquire() {
+    if (semaphore.tryAcquire()) {
+      return true;
+    }
+    if (waitingCalls.incrementAndGet() > maxWaitingCalls) {
+      waitingCalls.decrementAndGet();
+      return false;
+    }
+    try {
+      return semaphore.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      waitingCalls.decrementAndGet();
+    }
+  }
+
+  public void release() {
+    semaphore.release();
+  }
+
+  public int getActiveCalls() {
+    return maxConcurrentCalls - semaphore.availablePermits();
+  }
+
+  public int getWaitingCalls() {
+    return waitingCalls.get();
+  }
+}
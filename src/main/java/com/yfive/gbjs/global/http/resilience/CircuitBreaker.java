@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import com.yfive.gbjs.global.config.http.ResilienceProperties.Policy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 호출 결과를 기준으로 외부 API 호출을 차단하는 서킷 브레이커
+ *
+ * <p>최근 호출의 실패율이 임계치를 넘으면 서킷을 열어 일정 시간 동안 호출을 즉시 거절하고, 이후 반열림 상태에서 일부 호출만 허용해 복구 여부를 확인합니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final String name;
+  private final int minimumCalls;
+  private final int failureRateThreshold;
+  private final long openDurationMs;
+  private final int halfOpenCalls;
+
+  /** 최근 호출 결과 (true: 실패) */
+  private final boolean[] outcomes;
+
+  private int index;
+  private int recordedCalls;
+  private int failedCalls;
+
+  private State state = State.CLOSED;
+  private long openedAt;
+  private int halfOpenPermits;
+  private int halfOpenSuccesses;
+
+  public CircuitBreaker(String name, Policy policy) {
+    this.name = name;
+    this.minimumCalls = policy.getMinimumCalls();
+    this.failureRateThreshold = policy.getFailureRateThreshold();
+    this.openDurationMs = policy.getOpenDurationMs();
+    this.halfOpenCalls = policy.getHalfOpenCalls();
+    this.outcomes = new boolean[policy.getSlidingWindowSize()];
+  }
+
+  /**
+   * 호출 허용 여부를 반환합니다.
+   *
+   * <p>허용된 호출은 반드시 {@link #onSuccess()}, {@link #onFailure()}, {@link #releasePermission()} 중 하나로
+   * 결과를 기록해야 합니다.
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN) {
+      if (System.currentTimeMillis() - openedAt < openDurationMs) {
+        return false;
+      }
+      transitionTo(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenPermits == 0) {
+        return false;
+      }
+      halfOpenPermits--;
+    }
+    return true;
+  }
+
+  /** 호출하지 않고 반환한 허용을 되돌립니다. */
+  public synchronized void releasePermission() {
+    if (state == State.HALF_OPEN) {
+      halfOpenPermits++;
+    }
+  }
+
+  public synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      if (++halfOpenSuccesses >= halfOpenCalls) {
+        transitionTo(State.CLOSED);
+      }
+      return;
+    }
+    if (state == State.CLOSED) {
+      record(false);
+    }
+  }
+
+  public synchronized void onFailure() {
+    if (state == State.HALF_OPEN) {
+      transitionTo(State.OPEN);
+      return;
+    }
+    if (state == State.CLOSED) {
+      record(true);
+      if (recordedCalls >= minimumCalls && getFailureRate() >= failureRateThreshold) {
+        transitionTo(State.OPEN);
+      }
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  /** 최근 호출의 실패율 (%) */
+  public synchronized int getFailureRate() {
+    return recordedCalls == 0 ? 0 : failedCalls * 100 / recordedCalls;
+  }
+
+  private void record(boolean failure) {
+    if (recordedCalls == outcomes.length) {
+      if (outcomes[index]) {
+        failedCalls--;
+      }
+    } else {
+      recordedCalls++;
+    }
+    outcomes[index] = failure;
+    if (failure) {
+      failedCalls++;
+    }
+    index = (index + 1) % outcomes.length;
+  }
+
+  private void transitionTo(State next) {
+    log.warn("서킷 상태 변경 - {}: {} -> {} (실패율 {}%)", name, state, next, getFailureRate());
+    state = next;
+    switch (next) {
+      case OPEN -> openedAt = System.currentTimeMillis();
+      case HALF_OPEN -> {
+        halfOpenPermits = halfOpenCalls;
+        halfOpenSuccesses = 0;
+      }
+      case CLOSED -> {
+        index = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+      }
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 공공데이터포털 API(한국관광공사, 기상청)의 오류 응답 판별
+ *
+ * <p>공공데이터포털 API는 장애나 호출 한도 초과도 HTTP 200으로 응답하고 본문의 resultCode 또는 OpenAPI_ServiceResponse(XML)로
+ * 오류를 알립니다. 응답 본문 앞부분만 보고 판별하며, 데이터 없음(03)은 오류로 보지 않습니다.
+ */
+public final class DataPortalErrorDetector {
+
+  /** 판별에 사용하는 응답 본문 앞부분 크기 (resultCode는 헤더에 있어 본문 앞쪽에 위치) */
+  public static final int PEEK_BYTES = 512;
+
+  /** 정상 응답 코드 (한국관광공사 0000, 기상청 00, 데이터 없음 03) */
+  private static final Set<String> SUCCESS_CODES = Set.of("0000", "00", "03");
+
+  private static final Pattern JSON_RESULT_CODE =
+      Pattern.compile("\"resultCode\"\\s*:\\s*\"?(\\w+)\"?");
+  private static final Pattern XML_RESULT_CODE =
+      Pattern.compile("<resultCode>\\s*(\\w+)\\s*</resultCode>");
+
+  private DataPortalErrorDetector() {}
+
+  /**
+   * 응답 본문 앞부분이 오류 응답인지 판별합니다.
+   *
+   * @param head 응답 본문 앞부분
+   * @return 오류 응답이면 true
+   */
+  public static boolean isError(byte[] head) {
+    String text = new String(head, StandardCharsets.UTF_8).stripLeading();
+    if (text.isEmpty()) {
+      return false;
+    }
+    if (text.startsWith("<")) {
+      if (text.contains("<OpenAPI_ServiceResponse")) {
+        return true;
+      }
+      return isErrorCode(XML_RESULT_CODE.matcher(text));
+    }
+    return isErrorCode(JSON_RESULT_CODE.matcher(text));
+  }
+
+  private static boolean isErrorCode(Matcher matcher) {
+    return matcher.find() && !SUCCESS_CODES.contains(matcher.group(1));
+  }
+}
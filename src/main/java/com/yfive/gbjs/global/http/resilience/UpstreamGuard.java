@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import com.yfive.gbjs.global.config.http.ResilienceProperties.Policy;
+import com.yfive.gbjs.global.error.exception.CustomException;
+import com.yfive.gbjs.global.http.ExternalApi;
+import com.yfive.gbjs.global.http.exception.UpstreamErrorStatus;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/** 외부 API 하나에 대한 서킷 브레이커와 Bulkhead */
+@Slf4j
+@Getter
+public class UpstreamGuard {
+
+  private final ExternalApi externalApi;
+  private final CircuitBreaker circuitBreaker;
+  private final Bulkhead bulkhead;
+
+  public UpstreamGuard(ExternalApi externalApi, Policy policy) {
+    this.externalApi = externalApi;
+    this.circuitBreaker = new CircuitBreaker(externalApi.name(), policy);
+    this.bulkhead = new Bulkhead(policy);
+  }
+
+  /**
+   * 외부 API 호출 권한을 얻습니다.
+   *
+   * <p>서킷이 열려 있거나 동시 호출 수가 가득 찬 경우 대기하지 않고 예외를 던집니다. 권한을 얻은 호출은 결과를 기록한 뒤 {@link #release()}를 호출해야
+   * 합니다.
+   *
+   * @throws CustomException 서킷이 열려 있거나 동시 호출 수를 초과한 경우
+   */
+  public void acquire() {
+    if (!circuitBreaker.tryAcquirePermission()) {
+      log.debug("서킷이 열려 있어 외부 API 호출 거절: {}", externalApi);
+      throw new CustomException(UpstreamErrorStatus.UPSTREAM_UNAVAILABLE);
+    }
+    if (!bulkhead.tryAcquire()) {
+      circuitBreaker.releasePermission();
+      log.warn("동시 호출 수 초과로 외부 API 호출 거절: {}", externalApi);
+      throw new CustomException(UpstreamErrorStatus.UPSTREAM_BUSY);
+    }
+  }
+
+  public void release() {
+    bulkhead.release();
+  }
+
+  public void onSuccess() {
+    circuitBreaker.onSuccess();
+  }
+
+  public void onFailure() {
+    circuitBreaker.onFailure();
+  }
+
+  /** 서킷이 열려 있지 않은지 여부 (캐시된 데이터를 대신 사용할지 판단할 때 사용) */
+  public boolean isAvailable() {
+    return circuitBreaker.getState() != CircuitBreaker.State.OPEN;
+  }
+}
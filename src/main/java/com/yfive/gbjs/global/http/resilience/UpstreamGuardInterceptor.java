@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RestClient 요청에 UpstreamGuard를 적용하는 인터셉터
+ *
+ * <p>응답 본문을 모두 읽고 응답이 닫힐 때까지 동시 호출 수에 포함합니다. 연결 실패, 타임아웃, 5xx 및 429 응답을 실패로 기록합니다. 오류 본문 판별기가
+ * 있으면 HTTP 200이라도 본문 앞부분이 오류 응답인 경우 실패로 기록합니다.
+ */
+public class UpstreamGuardInterceptor implements ClientHttpRequestInterceptor {
+
+  private final UpstreamGuard upstreamGuard;
+
+  /** 2xx 응답 본문 앞부분으로 오류 여부를 판별 (없으면 상태 코드만 확인) */
+  private final Predicate<byte[]> errorBodyDetector;
+
+  public UpstreamGuardInterceptor(
+      UpstreamGuard upstreamGuard, Predicate<byte[]> errorBodyDetector) {
+    this.upstreamGuard = upstreamGuard;
+    this.errorBodyDetector = errorBodyDetector;
+  }
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    upstreamGuard.acquire();
+
+    ClientHttpResponse response;
+    try {
+      response = execution.execute(request, body);
+    } catch (IOException | RuntimeException e) {
+      upstreamGuard.onFailure();
+      upstreamGuard.release();
+      throw e;
+    }
+
+    // 상태 코드나 본문을 읽다 실패해도 동시 호출 수가 반환되도록 응답을 먼저 감쌈
+    GuardedResponse guardedResponse = new GuardedResponse(response);
+    try {
+      if (isFailure(guardedResponse)) {
+        upstreamGuard.onFailure();
+      } else {
+        upstreamGuard.onSuccess();
+      }
+    } catch (IOException | RuntimeException e) {
+      upstreamGuard.onFailure();
+      guardedResponse.close();
+      throw e;
+    }
+    return guardedResponse;
+  }
+
+  private boolean isFailure(GuardedResponse response) throws IOException {
+    HttpStatusCode statusCode = response.getStatusCode();
+    if (statusCode.is5xxServerError()
+        || statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+      return true;
+    }
+    return errorBodyDetector != null
+        && statusCode.is2xxSuccessful()
+        && errorBodyDetector.test(response.peek(DataPortalErrorDetector.PEEK_BYTES));
+  }
+
+  /** 응답이 닫힐 때 동시 호출 수를 반환하는 ClientHttpResponse */
+  @RequiredArgsConstructor
+  private class GuardedResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    private BufferedInputStream body;
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return body != null ? body : delegate.getBody();
+    }
+
+    /** 본문 앞부분을 읽고, 이후 {@link #getBody()}에서 처음부터 다시 읽을 수 있게 합니다. */
+    byte[] peek(int length) throws IOException {
+      if (body == null) {
+        body = new BufferedInputStream(delegate.getBody(), length);
+      }
+      body.mark(length);
+      byte[] head = body.readNBytes(length);
+      body.reset();
+      return head;
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        if (released.compareAndSet(false, true)) {
+          upstreamGuard.release();
+        }
+      }
+    }
+  }
+}
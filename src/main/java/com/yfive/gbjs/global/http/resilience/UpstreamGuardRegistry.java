@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.global.config.http.ResilienceProperties;
+import com.yfive.gbjs.global.http.ExternalApi;
+
+/** 외부 API별 UpstreamGuard 저장소 */
+@Component
+public class UpstreamGuardRegistry {
+
+  private final Map<ExternalApi, UpstreamGuard> guards = new EnumMap<>(ExternalApi.class);
+
+  public UpstreamGuardRegistry(ResilienceProperties resilienceProperties) {
+    for (ExternalApi externalApi : ExternalApi.values()) {
+      guards.put(
+          externalApi, new UpstreamGuard(externalApi, resilienceProperties.get(externalApi)));
+    }
+  }
+
+  public UpstreamGuard get(ExternalApi externalApi) {
+    return guards.get(externalApi);
+  }
+
+  public Map<ExternalApi, UpstreamGuard> getAll() {
+    return Collections.unmodifiableMap(guards);
+  }
+}
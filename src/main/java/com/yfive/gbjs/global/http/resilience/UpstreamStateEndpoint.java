@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.yfive.gbjs.global.http.ExternalApi;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 API별 서킷 및 동시 호출 상태를 조회하는 Actuator 엔드포인트
+ *
+ * <p>/actuator/upstreams 로 조회하며, management.endpoints.web.exposure.include 에 upstreams 를 추가해야
+ * 노출됩니다.
+ */
+@Component
+@Endpoint(id = "upstreams")
+@RequiredArgsConstructor
+public class UpstreamStateEndpoint {
+
+  private final UpstreamGuardRegistry upstreamGuardRegistry;
+
+  @ReadOperation
+  public Map<ExternalApi, Map<String, Object>> upstreams() {
+    Map<ExternalApi, Map<String, Object>> result = new LinkedHashMap<>();
+    upstreamGuardRegistry
+        .getAll()
+        .forEach(
+            (externalApi, guard) -> {
+              Map<String, Object> state = new LinkedHashMap<>();
+              state.put("state", guard.getCircuitBreaker().getState());
+              state.put("failureRate", guard.getCircuitBreaker().getFailureRate());
+              state.put("activeCalls", guard.getBulkhead().getActiveCalls());
+              state.put("waitingCalls", guard.getBulkhead().getWaitingCalls());
+              result.put(externalApi, state);
+            });
+    return result;
+  }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.security;
+
+import com.yfive.gbjs.domain.tts.entity.TtsSetting;
+import com.yfive.gbjs.domain.user.entity.Role;
+import com.yfive.gbjs.domain.user.entity.User;
+
+/**
+ * 인증된 사용자의 요약 정보
+ *
+ * <p>서비스에서 자주 쓰는 값만 담아, 사용자 엔티티를 다시 조회하지 않고 사용할 수 있도록 합니다.
+ *
+ * @param userId 사용자 식별자
+ * @param username 사용자 이름 (이메일)
+ * @param role 권한
+ * @param ttsSetting 음성 타입
+ */
+public record AuthenticatedUser(Long userId, String username, Role role, TtsSetting ttsSetting) {
+
+  public static AuthenticatedUser from(User user) {
+    return new AuthenticatedUser(
+        user.getId(), user.getUsername(), user.getRole(), user.getTtsSetting());
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.security;
+
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import com.yfive.gbjs.domain.user.exception.UserErrorStatus;
+import com.yfive.gbjs.global.error.exception.CustomException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 요청의 인증 사용자 조회
+ *
+ * <p>JWT 인증 시 필터가 넣어 둔 {@link CustomUserDetails}에서 사용자 정보를 꺼내므로 DB를 조회하지 않습니다. 그 외 인증 방식(OAuth2 등)은
+ * 사용자 정보 캐시를 거쳐 한 번만 조회하고, 요청이 끝날 때까지 결과를 재사용합니다. 사용자 엔티티를 수정해야 할 때만 {@code
+ * UserService.getCurrentUser()}를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUser {
+
+  private final UserDetailsService userDetailsService;
+
+  private AuthenticatedUser resolved;
+
+  /** 현재 사용자 식별자를 반환합니다. */
+  public Long getId() {
+    return get().userId();
+  }
+
+  /** 현재 사용자 요약 정보를 반환합니다. */
+  public AuthenticatedUser get() {
+    if (resolved == null) {
+      resolved = resolve();
+    }
+    return resolved;
+  }
+
+  private AuthenticatedUser resolve() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    if (authentication == null || !authentication.isAuthenticated()) {
+      log.error("인증 실패 - 인증 정보 없음");
+      throw new CustomException(UserErrorStatus.UNAUTHORIZED);
+    }
+
+    Object principal = authentication.getPrincipal();
+    if (principal instanceof CustomUserDetails userDetails) {
+      return userDetails.getAuthenticatedUser();
+    }
+
+    String username = extractUsername(principal);
+    if (username == null || username.isBlank()) {
+      log.error("인증 실패 - 추출된 username이 null 또는 빈 문자열");
+      throw new CustomException(UserErrorStatus.UNAUTHORIZED);
+    }
+
+    try {
+      UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+      return ((CustomUserDetails) userDetails).getAuthenticatedUser();
+    } catch (UsernameNotFoundException e) {
+      log.error("사용자 찾기 실패 - username: {}", maskEmail(username));
+      throw new CustomException(UserErrorStatus.USER_NOT_FOUND);
+    }
+  }
+
+  private String extractUsername(Object principal) {
+    try {
+      if (principal instanceof OAuth2User oauthUser) {
+        Object email = oauthUser.getAttribute("email");
+        if (email != null) {
+          return (String) email;
+        }
+        Map<String, Object> kakaoAccount = oauthUser.getAttribute("kakao_account");
+        if (kakaoAccount != null && kakaoAccount.containsKey("email")) {
+          return (String) kakaoAccount.get("email");
+        }
+        return null;
+      } else if (principal instanceof String str) {
+        return str;
+      } else if (principal instanceof UserDetails userDetails) {
+        return userDetails.getUsername();
+      }
+    } catch (Exception e) {
+      log.error("인증 정보 추출 중 오류", e);
+      throw new CustomException(UserErrorStatus.UNAUTHORIZED);
+    }
+    log.error("인증 실패 - Principal 타입 알 수 없음: {}", principal.getClass());
+    throw new CustomException(UserErrorStatus.UNAUTHORIZED);
+  }
+
+  static String maskEmail(String email) {
+    if (email == null || !email.contains("@")) {
+      return "***";
+    }
+
+    String[] parts = email.split("@");
+    String localPart = parts[0];
+    String domain = parts[1];
+
+    if (localPart.length() <= 2) {
+      return "***@" + domain;
+    }
+
+    return localPart.substring(0, 2) + "***@" + domain;
+  }
+}
@@ -14,28 +14,30 @@ import com.yfive.gbjs.domain.user.entity.User;
 
 import lombok.Getter;
 
+/**
+ * 인증 사용자 정보
+ *
+ * <p>{@link PrincipalCache}에 캐시되어 여러 요청이 공유하므로 사용자 엔티티를 참조하지 않고 생성 시점의 값만 불변으로 보관합니다.
+ */
 @Getter
 public class CustomUserDetails implements UserDetails {
 
-  private final User user;
+  private final AuthenticatedUser authenticatedUser;
+  private final String password;
 
   public CustomUserDetails(User user) {
-    this.user = user;
+    this.authenticatedUser = AuthenticatedUser.from(user);
+    this.password = user.getPassword();
   }
 
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
-    return List.of(new SimpleGrantedAuthority(user.getRole().name()));
-  }
-
-  @Override
-  public String getPassword() {
-    return user.getPassword();
+    return List.of(new SimpleGrantedAuthority(authenticatedUser.role().name()));
   }
 
   @Override
   public String getUsername() {
-    return user.getUsername();
+    return authenticatedUser.username();
   }
 
   @Override
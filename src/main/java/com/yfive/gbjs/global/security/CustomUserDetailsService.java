@@ -18,13 +18,21 @@ import lombok.RequiredArgsConstructor;
 public class CustomUserDetailsService implements UserDetailsService {
 
   private final UserRepository userRepository;
+  private final PrincipalCache principalCache;
 
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    CustomUserDetails cached = principalCache.get(username);
+    if (cached != null) {
+      return cached;
+    }
+
     User user =
         userRepository
             .findByUsername(username)
             .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
-    return new CustomUserDetails(user);
+    CustomUserDetails userDetails = new CustomUserDetails(user);
+    principalCache.put(username, userDetails);
+    return userDetails;
   }
 }
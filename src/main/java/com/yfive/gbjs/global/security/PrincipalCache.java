@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.security;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yfive.gbjs.global.cache.ConcurrentExpiringCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 사용자 정보 캐시
+ *
+ * <p>요청마다 users 테이블을 조회하지 않도록 username별 {@link CustomUserDetails}를 짧은 시간 보관합니다. 사용자 정보가 바뀌면 {@link
+ * #evict(String)}로 모든 서버의 캐시에서 제거합니다. (Redis Pub/Sub)
+ *
+ * <p>캐시된 객체는 여러 요청이 동시에 공유하므로 사용자 엔티티가 아닌 불변 요약 정보({@link AuthenticatedUser})만 담은 {@link
+ * CustomUserDetails}를 보관합니다. 요청마다 조회되므로 전역 잠금이 없는 {@link ConcurrentExpiringCache}를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache implements MessageListener {
+
+  /** 사용자 정보 캐시 제거 알림 채널 */
+  static final String CHANNEL = "principal:evict";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Value("${security.principal-cache.ttl-ms:60000}")
+  private long ttlMillis;
+
+  @Value("${security.principal-cache.max-size:10000}")
+  private int maxSize;
+
+  private ConcurrentExpiringCache<String, CustomUserDetails> cache;
+
+  @PostConstruct
+  void init() {
+    cache = new ConcurrentExpiringCache<>(maxSize);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void subscribe() {
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /** 캐시된 사용자 정보를 반환합니다. 없거나 만료된 경우 null을 반환합니다. */
+  public CustomUserDetails get(String username) {
+    return cache.get(username);
+  }
+
+  public void put(String username, CustomUserDetails userDetails) {
+    cache.put(username, userDetails, System.currentTimeMillis() + ttlMillis);
+  }
+
+  /**
+   * 사용자 정보를 모든 서버의 캐시에서 제거합니다.
+   *
+   * <p>트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전에 다른 요청이 이전 정보를 다시 캐시하지 않도록 합니다.
+   *
+   * @param username 사용자 이름
+   */
+  public void evict(String username) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              evictAll(username);
+            }
+          });
+    } else {
+      evictAll(username);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    cache.remove(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  private void evictAll(String username) {
+    cache.remove(username);
+    try {
+      redisTemplate.convertAndSend(CHANNEL, username);
+    } catch (Exception e) {
+      // 다른 서버의 캐시는 TTL 이후 갱신됨
+      log.warn("사용자 정보 캐시 제거 알림 실패: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.course.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yfive.gbjs.domain.course.exception.CourseErrorStatus;
+import com.yfive.gbjs.global.error.exception.CustomException;
+
+class CourseCursorTest {
+
+  private static String encodeRaw(String raw) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("인코딩한 커서는 같은 생성 시각과 ID로 해석된다")
+  void encode_decode_roundTrip() {
+    CourseCursor cursor = new CourseCursor(LocalDateTime.of(2025, 9, 1, 12, 0, 30, 123456000), 42L);
+
+    String encoded = cursor.encode();
+
+    assertThat(encoded).doesNotContain("=", "+", "/");
+    assertThat(CourseCursor.decode(encoded)).isEqualTo(cursor);
+  }
+
+  @Test
+  @DisplayName("첫 페이지용 커서도 그대로 해석된다")
+  void firstPageCursors_roundTrip() {
+    assertThat(CourseCursor.decode(CourseCursor.LATEST_FIRST.encode()))
+        .isEqualTo(CourseCursor.LATEST_FIRST);
+    assertThat(CourseCursor.decode(CourseCursor.OLDEST_FIRST.encode()))
+        .isEqualTo(CourseCursor.OLDEST_FIRST);
+  }
+
+  @Test
+  @DisplayName("Base64가 아닌 커서는 잘못된 커서 예외가 발생한다")
+  void decode_notBase64_throws() {
+    assertInvalid("not a cursor!");
+  }
+
+  @Test
+  @DisplayName("구분자가 없는 커서는 잘못된 커서 예외가 발생한다")
+  void decode_withoutDelimiter_throws() {
+    assertInvalid(encodeRaw("2025-09-01T12:00"));
+  }
+
+  @Test
+  @DisplayName("시각이나 ID 형식이 틀린 커서는 잘못된 커서 예외가 발생한다")
+  void decode_malformedParts_throws() {
+    assertInvalid(encodeRaw("yesterday|42"));
+    assertInvalid(encodeRaw("2025-09-01T12:00|abc"));
+  }
+
+  private static void assertInvalid(String cursor) {
+    assertThatThrownBy(() -> CourseCursor.decode(cursor))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorCode())
+        .isEqualTo(CourseErrorStatus._INVALID_CURSOR);
+  }
+}
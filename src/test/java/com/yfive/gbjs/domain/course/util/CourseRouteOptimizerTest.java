@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.course.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.yfive.gbjs.domain.course.util.CourseRouteOptimizer.DailyRoute;
+import com.yfive.gbjs.domain.seal.cache.SealSpotPool;
+import com.yfive.gbjs.domain.seal.cache.SealSpotSummary;
+import com.yfive.gbjs.domain.seal.entity.Location;
+
+class CourseRouteOptimizerTest {
+
+  /** 같은 경도 위에 불규칙한 간격으로 놓인 관광지 (최적 경로는 위도 순서대로 방문) */
+  private static final double[] LATITUDES = {36.00, 36.01, 36.02, 36.04, 36.07};
+
+  private final SealSpotPool sealSpotPool = mock(SealSpotPool.class);
+  private final CourseRouteOptimizer optimizer = new CourseRouteOptimizer(sealSpotPool);
+
+  private List<SealSpotSummary> spots;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(optimizer, "twoOptMaxPasses", 20);
+
+    SealSpotSummary[] summaries = new SealSpotSummary[LATITUDES.length];
+    for (int i = 0; i < LATITUDES.length; i++) {
+      summaries[i] =
+          new SealSpotSummary(
+              (long) i + 1, null, "spot" + i, null, Location.GYEONGJU, null, LATITUDES[i], 129.0);
+    }
+    spots = List.of(summaries);
+    given(sealSpotPool.get(Location.GYEONGJU)).willReturn(spots);
+  }
+
+  @Test
+  @DisplayName("출발지와 무관하게 2-opt로 최단 열린 경로를 찾는다")
+  void planDailyRoute_findsShortestOpenPath() {
+    double shortest =
+        SpotDistanceMatrix.haversineKm(LATITUDES[0], 129.0, LATITUDES[LATITUDES.length - 1], 129.0);
+
+    for (long seed = 0; seed < 20; seed++) {
+      DailyRoute route =
+          optimizer.planDailyRoute(
+              Location.GYEONGJU, LATITUDES.length, new BitSet(), new SplittableRandom(seed));
+
+      assertThat(route.spots()).containsExactlyInAnyOrderElementsOf(spots);
+      assertThat(route.distanceKm()).isCloseTo(shortest, within(1e-6));
+    }
+  }
+
+  @Test
+  @DisplayName("같은 시드면 같은 동선을 만든다")
+  void planDailyRoute_sameSeed_sameRoute() {
+    DailyRoute first =
+        optimizer.planDailyRoute(Location.GYEONGJU, 3, new BitSet(), new SplittableRandom(42));
+    DailyRoute second =
+        optimizer.planDailyRoute(Location.GYEONGJU, 3, new BitSet(), new SplittableRandom(42));
+
+    assertThat(second.spots()).containsExactlyElementsOf(first.spots());
+    assertThat(second.distanceKm()).isEqualTo(first.distanceKm());
+  }
+
+  @Test
+  @DisplayName("이전 일차에서 선택한 관광지는 제외하고, 선택한 관광지를 기록한다")
+  void planDailyRoute_skipsUsedSpots() {
+    BitSet used = new BitSet();
+    used.set(0);
+    used.set(1);
+
+    DailyRoute route =
+        optimizer.planDailyRoute(Location.GYEONGJU, 5, used, new SplittableRandom(1));
+
+    assertThat(route.spots()).containsExactlyInAnyOrder(spots.get(2), spots.get(3), spots.get(4));
+    assertThat(used.cardinality()).isEqualTo(LATITUDES.length);
+  }
+
+  @Test
+  @DisplayName("모든 관광지를 이미 선택했으면 처음부터 다시 선택한다")
+  void planDailyRoute_allUsed_startsOver() {
+    BitSet used = new BitSet();
+    used.set(0, LATITUDES.length);
+
+    DailyRoute route =
+        optimizer.planDailyRoute(Location.GYEONGJU, 2, used, new SplittableRandom(1));
+
+    assertThat(route.spots()).hasSize(2);
+    assertThat(used.cardinality()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("지역에 관광지가 없으면 빈 동선을 반환한다")
+  void planDailyRoute_emptyPool() {
+    given(sealSpotPool.get(Location.ANDONG)).willReturn(List.of());
+
+    DailyRoute route =
+        optimizer.planDailyRoute(Location.ANDONG, 5, new BitSet(), new SplittableRandom(1));
+
+    assertThat(route.spots()).isEmpty();
+    assertThat(route.distanceKm()).isZero();
+  }
+}
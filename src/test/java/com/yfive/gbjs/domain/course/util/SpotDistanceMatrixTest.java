@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.course.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yfive.gbjs.domain.seal.cache.SealSpotSummary;
+import com.yfive.gbjs.domain.seal.entity.Location;
+
+class SpotDistanceMatrixTest {
+
+  private static SealSpotSummary spot(long id, Double latitude, Double longitude) {
+    return new SealSpotSummary(
+        id, id, "spot" + id, null, Location.GYEONGJU, null, latitude, longitude);
+  }
+
+  @Test
+  @DisplayName("좌표가 없는 관광지는 행렬에서 제외된다")
+  void excludesSpotsWithoutCoordinates() {
+    SpotDistanceMatrix matrix =
+        new SpotDistanceMatrix(
+            List.of(spot(1, 35.8, 129.2), spot(2, null, 129.3), spot(3, 35.9, null)));
+
+    assertThat(matrix.size()).isEqualTo(1);
+    assertThat(matrix.spot(0).id()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("행렬의 거리는 대칭이고 Haversine 거리와 같다")
+  void distances_matchHaversine() {
+    List<SealSpotSummary> spots =
+        List.of(spot(1, 35.84, 129.21), spot(2, 36.57, 128.73), spot(3, 36.02, 129.34));
+    SpotDistanceMatrix matrix = new SpotDistanceMatrix(spots);
+
+    for (int i = 0; i < spots.size(); i++) {
+      assertThat(matrix.distance(i, i)).isZero();
+      for (int j = 0; j < spots.size(); j++) {
+        double expected =
+            SpotDistanceMatrix.haversineKm(
+                spots.get(i).latitude(),
+                spots.get(i).longitude(),
+                spots.get(j).latitude(),
+                spots.get(j).longitude());
+        assertThat(matrix.distance(i, j)).isCloseTo(expected, within(1e-9));
+        assertThat(matrix.distance(i, j)).isEqualTo(matrix.distance(j, i));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("위도 1도는 약 111.19km이다")
+  void haversine_oneDegreeOfLatitude() {
+    assertThat(SpotDistanceMatrix.haversineKm(36, 129, 37, 129)).isCloseTo(111.19, within(0.01));
+  }
+
+  @Test
+  @DisplayName("같은 목록 인스턴스로 만든 행렬인지 참조로 비교한다")
+  void isBuiltFrom_comparesReference() {
+    List<SealSpotSummary> spots = List.of(spot(1, 35.8, 129.2));
+    SpotDistanceMatrix matrix = new SpotDistanceMatrix(spots);
+
+    assertThat(matrix.isBuiltFrom(spots)).isTrue();
+    assertThat(matrix.isBuiltFrom(new ArrayList<>(spots))).isFalse();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.festival.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yfive.gbjs.domain.festival.dto.response.FestivalResponse;
+
+class FestivalIntervalIndexTest {
+
+  private static final LocalDate BASE_DATE = LocalDate.of(2025, 9, 1);
+
+  private static FestivalResponse festival(String id, LocalDate startDate, LocalDate endDate) {
+    return FestivalResponse.builder().festivalId(id).startDate(startDate).endDate(endDate).build();
+  }
+
+  private static FestivalResponse festival(String id, int startOffset, int endOffset) {
+    return festival(id, BASE_DATE.plusDays(startOffset), BASE_DATE.plusDays(endOffset));
+  }
+
+  @Test
+  @DisplayName("기간과 하루라도 겹치는 축제를 시작일 순으로 반환한다")
+  void findOverlapping_returnsOverlappingInStartOrder() {
+    FestivalIntervalIndex index =
+        new FestivalIntervalIndex(
+            List.of(
+                festival("late", 20, 25),
+                festival("long", 0, 30),
+                festival("before", 0, 4),
+                festival("edge", 9, 9),
+                festival("inside", 6, 8)));
+
+    List<FestivalResponse> result =
+        index.findOverlapping(BASE_DATE.plusDays(5), BASE_DATE.plusDays(9));
+
+    assertThat(result)
+        .extracting(FestivalResponse::getFestivalId)
+        .containsExactly("long", "inside", "edge");
+  }
+
+  @Test
+  @DisplayName("시작일이나 종료일이 없는 축제는 인덱스에 포함하지 않는다")
+  void constructor_skipsFestivalsWithoutDates() {
+    FestivalIntervalIndex index =
+        new FestivalIntervalIndex(
+            List.of(
+                festival("ok", 0, 1),
+                festival("noStart", null, BASE_DATE),
+                festival("noEnd", BASE_DATE, null)));
+
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.findOverlapping(BASE_DATE, BASE_DATE))
+        .extracting(FestivalResponse::getFestivalId)
+        .containsExactly("ok");
+  }
+
+  @Test
+  @DisplayName("빈 인덱스는 빈 목록을 반환한다")
+  void empty_returnsEmptyList() {
+    assertThat(FestivalIntervalIndex.EMPTY.findOverlapping(BASE_DATE, BASE_DATE)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("모든 축제를 확인한 결과와 같은 축제를 반환한다")
+  void findOverlapping_matchesLinearScan() {
+    Random random = new Random(42);
+    List<FestivalResponse> festivals = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      int start = random.nextInt(365);
+      festivals.add(festival("f" + i, start, start + random.nextInt(30)));
+    }
+    FestivalIntervalIndex index = new FestivalIntervalIndex(festivals);
+
+    for (int i = 0; i < 100; i++) {
+      LocalDate from = BASE_DATE.plusDays(random.nextInt(400) - 20);
+      LocalDate to = from.plusDays(random.nextInt(20));
+      List<String> expected =
+          festivals.stream()
+              .filter(f -> !f.getStartDate().isAfter(to) && !f.getEndDate().isBefore(from))
+              .map(FestivalResponse::getFestivalId)
+              .toList();
+
+      assertThat(index.findOverlapping(from, to))
+          .extracting(FestivalResponse::getFestivalId)
+          .containsExactlyInAnyOrderElementsOf(expected);
+    }
+  }
+}
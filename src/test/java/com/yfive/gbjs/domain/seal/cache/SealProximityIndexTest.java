@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yfive.gbjs.domain.seal.cache.SealProximityIndex.Recommendation;
+import com.yfive.gbjs.domain.seal.entity.Location;
+import com.yfive.gbjs.domain.seal.entity.Rarity;
+import com.yfive.gbjs.domain.seal.entity.Seal;
+import com.yfive.gbjs.domain.seal.entity.SealSpot;
+import com.yfive.gbjs.domain.seal.repository.SealRepository;
+
+class SealProximityIndexTest {
+
+  private static final double BASE_LATITUDE = 36.0;
+  private static final double BASE_LONGITUDE = 129.0;
+
+  private final SealSpotPool sealSpotPool = mock(SealSpotPool.class);
+  private final SealRepository sealRepository = mock(SealRepository.class);
+  private final SealProximityIndex index = new SealProximityIndex(sealSpotPool, sealRepository);
+
+  private final List<SealSpotSummary> spots = new ArrayList<>();
+  private final List<Seal> seals = new ArrayList<>();
+
+  /** 띠부씰 ID와 씰 관광지 ID를 같게 하여 좌표에 띠부씰 하나를 추가합니다. */
+  private void addSeal(long id, double latitude, double longitude, Rarity rarity) {
+    spots.add(
+        new SealSpotSummary(
+            id, null, "spot" + id, null, Location.GYEONGJU, null, latitude, longitude));
+    seals.add(
+        Seal.builder()
+            .id(id)
+            .rarity(rarity)
+            .location(Location.GYEONGJU)
+            .sealSpot(SealSpot.builder().id(id).build())
+            .build());
+  }
+
+  private List<Recommendation> recommend(Set<Long> collected, int limit) {
+    given(sealSpotPool.getAll()).willReturn(Map.of(Location.GYEONGJU, List.copyOf(spots)));
+    given(sealRepository.findAll()).willReturn(List.copyOf(seals));
+    return index.recommend(BASE_LATITUDE, BASE_LONGITUDE, collected, limit);
+  }
+
+  @Test
+  @DisplayName("띠부씰이 없으면 빈 목록을 반환한다")
+  void recommend_noSeals() {
+    assertThat(recommend(Set.of(), 5)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("수집한 띠부씰은 추천하지 않고, 가까울수록 점수가 높다")
+  void recommend_excludesCollectedAndPrefersNearer() {
+    // 묶음 가산점이 붙지 않도록 약 5.5km 간격으로 배치
+    for (long id = 1; id <= 5; id++) {
+      addSeal(id, BASE_LATITUDE + id * 0.05, BASE_LONGITUDE, Rarity.BLUE);
+    }
+
+    List<Recommendation> recommendations = recommend(Set.of(1L), 3);
+
+    assertThat(recommendations).extracting(Recommendation::sealId).containsExactly(2L, 3L, 4L);
+  }
+
+  @Test
+  @DisplayName("같은 거리라면 희귀도가 높은 띠부씰의 점수가 높다")
+  void recommend_prefersRarerSeal() {
+    addSeal(1, BASE_LATITUDE + 0.01, BASE_LONGITUDE, Rarity.BLUE);
+    addSeal(2, BASE_LATITUDE - 0.01, BASE_LONGITUDE, Rarity.RED);
+
+    List<Recommendation> recommendations = recommend(Set.of(), 2);
+
+    assertThat(recommendations).extracting(Recommendation::sealId).containsExactly(2L, 1L);
+  }
+
+  @Test
+  @DisplayName("주변 띠부씰을 많이 모은 사용자도 더 먼 곳의 미수집 띠부씰을 추천받는다")
+  void recommend_heavyCollector_stillGetsCandidates() {
+    int collectedCount = SealProximityIndex.MAX_CANDIDATES * 2;
+    Set<Long> collected = new HashSet<>();
+    for (long id = 1; id <= collectedCount + 10; id++) {
+      addSeal(id, BASE_LATITUDE + id * 0.001, BASE_LONGITUDE, Rarity.BLUE);
+      if (id <= collectedCount) {
+        collected.add(id);
+      }
+    }
+
+    List<Recommendation> recommendations = recommend(collected, 5);
+
+    assertThat(recommendations).hasSize(5);
+    assertThat(recommendations).allMatch(r -> r.sealId() > collectedCount);
+  }
+
+  @Test
+  @DisplayName("가까운 묶음을 모두 모았으면 이웃으로 연결되지 않은 먼 묶음에서 추천한다")
+  void recommend_disconnectedCluster_restartsFromNearestUnseen() {
+    // 이웃 수보다 많은 띠부씰로 이루어진 두 묶음은 서로 이웃으로 연결되지 않음
+    int clusterSize = SealProximityIndex.NEIGHBOUR_COUNT + 2;
+    Set<Long> collected = new HashSet<>();
+    for (long id = 1; id <= clusterSize; id++) {
+      addSeal(id, BASE_LATITUDE + id * 0.001, BASE_LONGITUDE, Rarity.BLUE);
+      collected.add(id);
+    }
+    for (long id = clusterSize + 1; id <= clusterSize * 2; id++) {
+      addSeal(id, BASE_LATITUDE + 1 + id * 0.001, BASE_LONGITUDE, Rarity.BLUE);
+    }
+
+    List<Recommendation> recommendations = recommend(collected, 3);
+
+    assertThat(recommendations)
+        .extracting(Recommendation::sealId)
+        .containsExactly((long) clusterSize + 1, (long) clusterSize + 2, (long) clusterSize + 3);
+  }
+}
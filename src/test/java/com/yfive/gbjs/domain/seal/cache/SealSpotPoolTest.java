@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yfive.gbjs.domain.seal.entity.Location;
+import com.yfive.gbjs.domain.seal.entity.SealSpot;
+import com.yfive.gbjs.domain.seal.repository.SealSpotRepository;
+
+class SealSpotPoolTest {
+
+  private final SealSpotRepository sealSpotRepository = mock(SealSpotRepository.class);
+  private final SealSpotPool pool = new SealSpotPool(sealSpotRepository);
+
+  private static SealSpot sealSpot(long id, Location location) {
+    return SealSpot.builder()
+        .id(id)
+        .name("spot" + id)
+        .location(location)
+        .latitude(36.0)
+        .longitude(129.0)
+        .build();
+  }
+
+  @Test
+  @DisplayName("처음 조회할 때 한 번만 읽고 지역별로 ID 오름차순 정렬한다")
+  void get_loadsOnceAndGroupsByLocation() {
+    given(sealSpotRepository.findAll())
+        .willReturn(
+            List.of(
+                sealSpot(3, Location.GYEONGJU),
+                sealSpot(1, Location.GYEONGJU),
+                sealSpot(2, Location.ANDONG)));
+
+    assertThat(pool.get(Location.GYEONGJU)).extracting(SealSpotSummary::id).containsExactly(1L, 3L);
+    assertThat(pool.get(Location.ANDONG)).extracting(SealSpotSummary::id).containsExactly(2L);
+    assertThat(pool.get(Location.GUMI)).isEmpty();
+    verify(sealSpotRepository, times(1)).findAll();
+  }
+
+  @Test
+  @DisplayName("무효화하면 다음 조회에서 다시 읽는다")
+  void invalidate_reloadsOnNextGet() {
+    given(sealSpotRepository.findAll()).willReturn(List.of(sealSpot(1, Location.GYEONGJU)));
+    pool.get(Location.GYEONGJU);
+
+    pool.invalidate();
+    pool.get(Location.GYEONGJU);
+
+    verify(sealSpotRepository, times(2)).findAll();
+  }
+
+  @Test
+  @DisplayName("갱신 후 내용이 바뀌지 않은 지역은 같은 목록 인스턴스를 유지한다")
+  void refresh_keepsUnchangedInstances() {
+    given(sealSpotRepository.findAll())
+        .willReturn(List.of(sealSpot(1, Location.GYEONGJU), sealSpot(2, Location.ANDONG)))
+        .willReturn(
+            List.of(
+                sealSpot(1, Location.GYEONGJU),
+                sealSpot(2, Location.ANDONG),
+                sealSpot(3, Location.ANDONG)));
+    List<SealSpotSummary> gyeongju = pool.get(Location.GYEONGJU);
+    List<SealSpotSummary> andong = pool.get(Location.ANDONG);
+
+    pool.refresh();
+
+    assertThat(pool.get(Location.GYEONGJU)).isSameAs(gyeongju);
+    assertThat(pool.get(Location.ANDONG)).isNotSameAs(andong).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("읽는 도중 무효화되면 읽은 목록은 이번 조회에만 쓰고 풀에 게시하지 않는다")
+  void invalidateDuringRefresh_doesNotPublishStaleSnapshot() {
+    List<SealSpot> stale = List.of(sealSpot(1, Location.GYEONGJU));
+    List<SealSpot> fresh = List.of(sealSpot(1, Location.GYEONGJU), sealSpot(2, Location.GYEONGJU));
+    AtomicInteger calls = new AtomicInteger();
+    given(sealSpotRepository.findAll())
+        .willAnswer(
+            invocation -> {
+              if (calls.incrementAndGet() == 1) {
+                // 변경 트랜잭션이 읽기 도중 커밋됨
+                pool.invalidate();
+                return stale;
+              }
+              return fresh;
+            });
+
+    assertThat(pool.get(Location.GYEONGJU)).hasSize(1);
+    assertThat(pool.get(Location.GYEONGJU)).hasSize(2);
+    verify(sealSpotRepository, times(2)).findAll();
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.seal.geofence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yfive.gbjs.domain.seal.cache.SealSpotPool;
+import com.yfive.gbjs.domain.seal.dto.response.GeofenceResponse.GeofenceEventDTO;
+import com.yfive.gbjs.domain.seal.entity.Location;
+import com.yfive.gbjs.domain.seal.repository.SealRepository;
+import com.yfive.gbjs.domain.seal.repository.SealRepository.SealFenceRow;
+
+class GeofenceSessionTest {
+
+  /** 위도 0.001도 (약 111m) */
+  private static final double LAT_STEP = 0.001;
+
+  private final SealSpotPool sealSpotPool = mock(SealSpotPool.class);
+  private final SealRepository sealRepository = mock(SealRepository.class);
+  private final SealGeofenceIndex index = new SealGeofenceIndex(sealSpotPool, sealRepository);
+
+  private final GeofenceSession session = new GeofenceSession("session", 1L, null);
+
+  private record FenceRow(Long sealId, Location location, String latitude, String longitude)
+      implements SealFenceRow {
+
+    @Override
+    public Long getSealId() {
+      return sealId;
+    }
+
+    @Override
+    public Location getLocation() {
+      return location;
+    }
+
+    @Override
+    public String getLatitude() {
+      return latitude;
+    }
+
+    @Override
+    public String getLongitude() {
+      return longitude;
+    }
+  }
+
+  private static FenceRow fence(long sealId, Location location, double lat, double lon) {
+    return new FenceRow(sealId, location, String.valueOf(lat), String.valueOf(lon));
+  }
+
+  private SealGeofenceIndex.Snapshot snapshot(SealFenceRow... rows) {
+    // 풀 인스턴스가 바뀌면 인덱스를 다시 만듦
+    given(sealSpotPool.getAll()).willReturn(Map.of(Location.GYEONGJU, List.of()));
+    given(sealRepository.findAllFenceRows()).willReturn(List.of(rows));
+    return index.current();
+  }
+
+  @Test
+  @DisplayName("반경에 들어가면 ENTER, 머무르는 동안은 이벤트 없음, 벗어나면 EXIT")
+  void update_enterStayExit() {
+    SealGeofenceIndex.Snapshot current = snapshot(fence(1, Location.GYEONGJU, 36.0, 129.0));
+
+    assertThat(session.update(current, 36.0 + 10 * LAT_STEP, 129.0)).isEmpty();
+
+    List<GeofenceEventDTO> entered = session.update(current, 36.0 + 3 * LAT_STEP, 129.0);
+    assertThat(entered).hasSize(1);
+    assertThat(entered.get(0).getType()).isEqualTo(GeofenceEventType.ENTER);
+    assertThat(entered.get(0).getSealId()).isEqualTo(1L);
+    assertThat((double) entered.get(0).getDistance()).isCloseTo(334, within(2.0));
+
+    assertThat(session.update(current, 36.0 + 2 * LAT_STEP, 129.0)).isEmpty();
+
+    List<GeofenceEventDTO> exited = session.update(current, 36.0 + 6 * LAT_STEP, 129.0);
+    assertThat(exited)
+        .extracting(GeofenceEventDTO::getType)
+        .containsExactly(GeofenceEventType.EXIT);
+  }
+
+  @Test
+  @DisplayName("지오펜스 중심과 다른 격자 칸에 있어도 반경 안이면 ENTER")
+  void update_enterFromNeighbourCell() {
+    // 격자 칸 경계(위도 36.02) 바로 아래의 지오펜스에 경계 위쪽에서 접근
+    SealGeofenceIndex.Snapshot current = snapshot(fence(1, Location.GYEONGJU, 36.019, 129.0));
+
+    List<GeofenceEventDTO> events = session.update(current, 36.0215, 129.0);
+
+    assertThat(events)
+        .extracting(GeofenceEventDTO::getType)
+        .containsExactly(GeofenceEventType.ENTER);
+  }
+
+  @Test
+  @DisplayName("울릉군 띠부씰은 2km 반경을 사용한다")
+  void update_ullungRadius() {
+    SealGeofenceIndex.Snapshot current = snapshot(fence(1, Location.ULLUNG, 37.5, 130.9));
+
+    assertThat(session.update(current, 37.5 + 15 * LAT_STEP, 130.9))
+        .extracting(GeofenceEventDTO::getType)
+        .containsExactly(GeofenceEventType.ENTER);
+    assertThat(session.update(current, 37.5 + 25 * LAT_STEP, 130.9))
+        .extracting(GeofenceEventDTO::getType)
+        .containsExactly(GeofenceEventType.EXIT);
+  }
+
+  @Test
+  @DisplayName("인덱스가 다시 만들어지며 사라진 지오펜스는 거리 없이 EXIT")
+  void update_fenceRemovedFromIndex() {
+    SealGeofenceIndex.Snapshot before = snapshot(fence(1, Location.GYEONGJU, 36.0, 129.0));
+    session.update(before, 36.0, 129.0);
+
+    SealGeofenceIndex.Snapshot after = snapshot(fence(2, Location.GYEONGJU, 35.0, 128.0));
+    List<GeofenceEventDTO> events = session.update(after, 36.0, 129.0);
+
+    assertThat(after).isNotSameAs(before);
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).getType()).isEqualTo(GeofenceEventType.EXIT);
+    assertThat(events.get(0).getSealId()).isEqualTo(1L);
+    assertThat(events.get(0).getDistance()).isNull();
+  }
+}
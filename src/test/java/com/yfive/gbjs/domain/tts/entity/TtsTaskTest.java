@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.tts.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TtsTaskTest {
+
+  private static final Duration BACKOFF = Duration.ofSeconds(30);
+  private static final Duration COOLDOWN = Duration.ofMinutes(60);
+
+  private TtsTask newTask() {
+    return TtsTask.builder().audioGuideId(1L).ttsSetting(TtsSetting.FEMALE_A).build();
+  }
+
+  @Test
+  @DisplayName("최대 시도 전 실패는 백오프 후 대기 상태로 돌아간다")
+  void markFailed_beforeMaxAttempts_retriesWithBackoff() {
+    TtsTask task = newTask();
+    task.markProcessing();
+    task.markProcessing();
+
+    LocalDateTime before = LocalDateTime.now();
+    task.markFailed(3, BACKOFF, COOLDOWN);
+
+    assertThat(task.getStatus()).isEqualTo(TtsTaskStatus.PENDING);
+    // 두 번째 시도 실패 -> 30초 * 2
+    assertThat(task.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(60));
+    assertThat(task.getNextAttemptAt()).isBefore(before.plusSeconds(61));
+  }
+
+  @Test
+  @DisplayName("최대 시도 후 실패는 실패 상태가 되고 대기 시간이 지나면 다시 등록된다")
+  void markFailed_atMaxAttempts_requeuesAfterCooldown() {
+    TtsTask task = newTask();
+    task.markProcessing();
+    task.markFailed(1, BACKOFF, COOLDOWN);
+
+    assertThat(task.getStatus()).isEqualTo(TtsTaskStatus.FAILED);
+    assertThat(task.needsRequeue(LocalDateTime.now())).isFalse();
+    assertThat(task.needsRequeue(LocalDateTime.now().plus(COOLDOWN).plusSeconds(1))).isTrue();
+
+    task.requeue();
+    assertThat(task.getStatus()).isEqualTo(TtsTaskStatus.PENDING);
+    assertThat(task.getAttempts()).isZero();
+    assertThat(task.getNextAttemptAt()).isNull();
+  }
+
+  @Test
+  @DisplayName("완료된 작업은 음성 파일이 없으면 다시 등록 대상이다")
+  void needsRequeue_doneTask() {
+    TtsTask task = newTask();
+    task.markProcessing();
+    task.markDone();
+
+    assertThat(task.needsRequeue(LocalDateTime.now())).isTrue();
+  }
+
+  @Test
+  @DisplayName("대기 중이거나 처리 중인 작업은 다시 등록하지 않는다")
+  void needsRequeue_activeTask() {
+    TtsTask task = newTask();
+    assertThat(task.needsRequeue(LocalDateTime.now())).isFalse();
+
+    task.markProcessing();
+    assertThat(task.needsRequeue(LocalDateTime.now())).isFalse();
+  }
+
+  @Test
+  @DisplayName("제출하지 못한 작업은 시도 횟수를 되돌려 대기 상태가 된다")
+  void release_restoresAttempt() {
+    TtsTask task = newTask();
+    task.markProcessing();
+    task.release();
+
+    assertThat(task.getStatus()).isEqualTo(TtsTaskStatus.PENDING);
+    assertThat(task.getAttempts()).isZero();
+  }
+}
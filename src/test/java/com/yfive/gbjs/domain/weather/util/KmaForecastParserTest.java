@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.weather.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yfive.gbjs.global.error.exception.CustomException;
+
+class KmaForecastParserTest {
+
+  private static final List<String> HOURLY_CATEGORIES =
+      List.of("TMP", "UUU", "VVV", "VEC", "WSD", "SKY", "PTY", "POP", "WAV", "PCP", "REH", "SNO");
+
+  private final KmaForecastParser parser = new KmaForecastParser(new ObjectMapper());
+
+  /**
+   * 기상청 응답과 같은 순서(예보 일시 순, TMN은 06시, TMX는 15시)로 item을 만듭니다.
+   *
+   * @param startDate 첫 예보일 (yyyyMMdd, 같은 달 안에서만 사용)
+   * @param startHour 첫 예보 시각
+   * @param hours 예보 시간 수
+   */
+  private static List<String> items(int startDate, int startHour, int hours) {
+    List<String> items = new ArrayList<>();
+    for (int i = 0; i < hours; i++) {
+      int date = startDate + (startHour + i) / 24;
+      int hour = (startHour + i) % 24;
+      String time = String.format("%02d00", hour);
+      for (String category : HOURLY_CATEGORIES) {
+        items.add(item(category, date, time, valueOf(category, date, hour)));
+      }
+      if (hour == 6) {
+        items.add(item("TMN", date, time, "-" + (date % 100)));
+      }
+      if (hour == 15) {
+        items.add(item("TMX", date, time, String.valueOf(date % 100 + 20)));
+      }
+    }
+    return items;
+  }
+
+  private static String valueOf(String category, int date, int hour) {
+    return switch (category) {
+      case "TMP" -> String.valueOf(hour);
+      case "SKY" -> hour < 12 ? "1" : "4";
+      case "POP" -> String.valueOf(hour * 2);
+      case "PTY" -> hour == 18 ? "1" : "0";
+      default -> "0";
+    };
+  }
+
+  private static String item(String category, int date, String time, String value) {
+    return String.format(
+        "{\"baseDate\":\"20250101\",\"category\":\"%s\",\"fcstDate\":\"%d\",\"fcstTime\":\"%s\","
+            + "\"fcstValue\":\"%s\",\"nx\":60,\"ny\":127}",
+        category, date, time, value);
+  }
+
+  private static InputStream response(String resultCode, List<String> items) {
+    String json =
+        "{\"response\":{\"header\":{\"resultCode\":\""
+            + resultCode
+            + "\",\"resultMsg\":\"NORMAL_SERVICE\"},\"body\":{\"dataType\":\"JSON\","
+            + "\"items\":{\"item\":["
+            + String.join(",", items)
+            + "]},\"pageNo\":1,\"numOfRows\":300,\"totalCount\":"
+            + items.size()
+            + "}}}";
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private Map<String, String> valuesAt(List<String> items, LocalDateTime dateTime)
+      throws IOException {
+    return parser.parseHourlyForecast(response("00", items)).valuesAt(dateTime);
+  }
+
+  @Test
+  @DisplayName("가장 가까운 예보 시각의 값과 당일 최저/최고 기온을 읽는다")
+  void parseHourlyForecast_earlyBaseTime() throws IOException {
+    // 02시 발표: 03시부터 예보, 02시 10분에 조회
+    Map<String, String> values =
+        valuesAt(items(20250110, 3, 25), LocalDateTime.of(2025, 1, 10, 2, 10));
+
+    assertThat(values)
+        .containsEntry("TMP", "3")
+        .containsEntry("SKY", "1")
+        .containsEntry("POP", "6")
+        .containsEntry("PTY", "0")
+        .containsEntry("TMN", "-10")
+        .containsEntry("TMX", "30");
+  }
+
+  @Test
+  @DisplayName("당일 최저 기온 시각이 지난 발표는 다음 날 최저 기온을 사용한다")
+  void parseHourlyForecast_afterMorning() throws IOException {
+    // 08시 발표: 09시부터 예보, 당일 TMN 없음
+    Map<String, String> values =
+        valuesAt(items(20250110, 9, 24), LocalDateTime.of(2025, 1, 10, 8, 30));
+
+    assertThat(values).containsEntry("TMP", "9").containsEntry("TMX", "30");
+    assertThat(values).containsEntry("TMN", "-11");
+  }
+
+  @Test
+  @DisplayName("당일 최고 기온 시각이 지난 발표는 다음 날 최저/최고 기온을 사용한다")
+  void parseHourlyForecast_afterAfternoon() throws IOException {
+    // 17시 발표: 18시부터 예보, 300행 안에 다음 날 15시 TMX가 포함되어야 함
+    List<String> items = items(20250110, 18, 30);
+    List<String> firstPage = items.subList(0, KmaForecastParser.NEAREST_FORECAST_ROWS);
+
+    Map<String, String> values = valuesAt(firstPage, LocalDateTime.of(2025, 1, 10, 18, 0));
+
+    assertThat(values)
+        .containsEntry("TMP", "18")
+        .containsEntry("PTY", "1")
+        .containsEntry("TMN", "-11")
+        .containsEntry("TMX", "31");
+  }
+
+  @Test
+  @DisplayName("발표 후 시간이 지나면 조회 시각이 속한 정시의 예보를 사용한다")
+  void parseHourlyForecast_laterInBaseSlot() throws IOException {
+    // 02시 발표를 다음 발표 직전인 05시 05분(발표 3시간 후)에 조회
+    Map<String, String> values =
+        valuesAt(items(20250110, 3, 25), LocalDateTime.of(2025, 1, 10, 5, 5));
+
+    assertThat(values)
+        .containsEntry("TMP", "5")
+        .containsEntry("POP", "10")
+        .containsEntry("TMN", "-10")
+        .containsEntry("TMX", "30");
+  }
+
+  @Test
+  @DisplayName("보관한 예보 시각이 모두 지났으면 마지막 예보 시각의 값을 사용한다")
+  void parseHourlyForecast_afterLastHour() throws IOException {
+    Map<String, String> values =
+        valuesAt(items(20250110, 3, 25), LocalDateTime.of(2025, 1, 10, 20, 0));
+
+    assertThat(values)
+        .containsEntry("TMP", String.valueOf(3 + KmaForecastParser.HOURLY_FORECAST_HOURS - 1));
+  }
+
+  @Test
+  @DisplayName("기상청 오류 응답이면 빈 예보를 반환한다")
+  void parseHourlyForecast_errorResult() throws IOException {
+    assertThat(parser.parseHourlyForecast(response("03", List.of())).isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("응답이 비어 있으면 예외가 발생한다")
+  void parseHourlyForecast_emptyBody() {
+    assertThatThrownBy(() -> parser.parseHourlyForecast(new ByteArrayInputStream(new byte[0])))
+        .isInstanceOf(CustomException.class);
+  }
+
+  @Test
+  @DisplayName("예보일별로 최저/최고 기온, 최대 강수확률, 가장 흐린 하늘, 첫 강수 형태를 요약한다")
+  void parseDailyForecasts() throws IOException {
+    Map<String, Map<String, String>> daily =
+        parser.parseDailyForecasts(response("00", items(20250110, 0, 48)));
+
+    assertThat(daily.keySet()).containsExactly("20250110", "20250111");
+    assertThat(daily.get("20250110"))
+        .containsEntry("TMN", "-10")
+        .containsEntry("TMX", "30")
+        .containsEntry("POP", "46")
+        .containsEntry("SKY", "4")
+        .containsEntry("PTY", "1");
+    assertThat(daily.get("20250111")).containsEntry("TMN", "-11").containsEntry("TMX", "31");
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.domain.weather.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yfive.gbjs.domain.seal.entity.Location;
+import com.yfive.gbjs.domain.weather.service.WeatherService.GridCoord;
+
+class KmaGridProjectionTest {
+
+  private final KmaGridProjection projection = new KmaGridProjection();
+
+  @Test
+  @DisplayName("기상청 격자 좌표와 같은 값으로 변환한다")
+  void convertToGrid_matchesKmaGrid() {
+    // 기준점
+    assertThat(projection.convertToGrid(126.0, 38.0)).isEqualTo(new GridCoord(43, 136));
+    // 서울, 포항, 울릉
+    assertThat(projection.convertToGrid(126.978, 37.5665)).isEqualTo(new GridCoord(60, 127));
+    assertThat(projection.convertToGrid(129.3435, 36.0190)).isEqualTo(new GridCoord(102, 94));
+    assertThat(projection.convertToGrid(130.9057, 37.4844)).isEqualTo(new GridCoord(127, 127));
+  }
+
+  @Test
+  @DisplayName("여러 좌표를 한 번에 변환한 결과는 하나씩 변환한 결과와 같다")
+  void convertToGrid_batchMatchesSingle() {
+    double[] longitudes = {126.978, 129.3435, 130.9057, 128.6971};
+    double[] latitudes = {37.5665, 36.0190, 37.4844, 36.3527};
+    int[] nx = new int[longitudes.length];
+    int[] ny = new int[longitudes.length];
+
+    projection.convertToGrid(longitudes, latitudes, nx, ny);
+
+    for (int i = 0; i < longitudes.length; i++) {
+      assertThat(new GridCoord(nx[i], ny[i]))
+          .isEqualTo(projection.convertToGrid(longitudes[i], latitudes[i]));
+    }
+  }
+
+  @Test
+  @DisplayName("좌표 배열과 결과 배열의 길이가 맞지 않으면 예외가 발생한다")
+  void convertToGrid_lengthMismatch() {
+    assertThatThrownBy(
+            () -> projection.convertToGrid(new double[2], new double[1], new int[2], new int[2]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("경북 시군 대표 지점의 격자 좌표를 미리 계산해 둔다")
+  void gyeongbukCells_precomputed() {
+    assertThat(projection.getGyeongbukCells().get(new GridCoord(102, 94)).getLocation())
+        .isEqualTo(Location.POHANG);
+    assertThat(projection.getGyeongbukCells().get(new GridCoord(127, 127)).getLocation())
+        .isEqualTo(Location.ULLUNG);
+  }
+}
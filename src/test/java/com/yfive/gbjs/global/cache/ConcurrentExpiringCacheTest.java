@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentExpiringCacheTest {
+
+  private static final long FUTURE = Long.MAX_VALUE;
+
+  @Test
+  @DisplayName("만료 전에는 값을 반환하고 만료 후에는 null을 반환하며 항목을 제거한다")
+  void get_respectsExpiry() {
+    ConcurrentExpiringCache<String, String> cache = new ConcurrentExpiringCache<>(10);
+    cache.put("live", "value", FUTURE);
+    cache.put("expired", "value", System.currentTimeMillis() - 1);
+
+    assertThat(cache.get("live")).isEqualTo("value");
+    assertThat(cache.get("expired")).isNull();
+    assertThat(cache.get("missing")).isNull();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 만료된 항목부터 제거한다")
+  void put_overMaxSize_evictsExpiredFirst() {
+    ConcurrentExpiringCache<Integer, Integer> cache = new ConcurrentExpiringCache<>(10);
+    for (int i = 0; i < 5; i++) {
+      cache.put(i, i, System.currentTimeMillis() - 1);
+    }
+    for (int i = 5; i < 11; i++) {
+      cache.put(i, i, FUTURE);
+    }
+
+    assertThat(cache.size()).isEqualTo(6);
+    for (int i = 5; i < 11; i++) {
+      assertThat(cache.get(i)).isEqualTo(i);
+    }
+  }
+
+  @Test
+  @DisplayName("만료된 항목이 없어도 최대 크기를 넘지 않는다")
+  void put_overMaxSize_staysBounded() {
+    ConcurrentExpiringCache<Integer, Integer> cache = new ConcurrentExpiringCache<>(100);
+    for (int i = 0; i < 1000; i++) {
+      cache.put(i, i, FUTURE);
+      assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.FilterChain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class RequestResponseLoggingFilterTest {
+
+  private final RequestLoggingProperties properties = new RequestLoggingProperties();
+  private final RequestResponseLoggingFilter filter =
+      new RequestResponseLoggingFilter(properties, mock(ThreadPoolTaskExecutor.class));
+
+  private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @BeforeEach
+  void setUp() {
+    properties.setBodyEnabled(true);
+    properties.setAsync(false);
+  }
+
+  @Test
+  @DisplayName("본문 로깅 시 응답 본문을 캐시했다가 요청이 끝나면 원래 응답으로 복원한다")
+  void bodyEnabled_copiesCachedBody() throws Exception {
+    FilterChain chain =
+        (req, res) -> {
+          res.getOutputStream().write("hello".getBytes(StandardCharsets.UTF_8));
+          assertThat(response.getContentAsString()).isEmpty();
+        };
+
+    filter.doFilter(request, response, chain);
+
+    assertThat(response.getContentAsString()).isEqualTo("hello");
+  }
+
+  @Test
+  @DisplayName("Accept 헤더 없이도 SSE 응답은 캐시하지 않고 바로 내보낸다")
+  void bodyEnabled_streamsEventStream() throws Exception {
+    FilterChain chain =
+        (req, res) -> {
+          res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+          res.getOutputStream().write("data: a\n\n".getBytes(StandardCharsets.UTF_8));
+          res.flushBuffer();
+          assertThat(response.getContentAsString()).isEqualTo("data: a\n\n");
+        };
+
+    filter.doFilter(request, response, chain);
+
+    assertThat(response.getContentAsString()).isEqualTo("data: a\n\n");
+  }
+
+  @Test
+  @DisplayName("SSE 요청은 래핑하지 않는다")
+  void eventStreamRequest_notWrapped() throws Exception {
+    request.addHeader("Accept", MediaType.TEXT_EVENT_STREAM_VALUE);
+    FilterChain chain =
+        (req, res) -> {
+          assertThat(req).isSameAs(request);
+          assertThat(res).isSameAs(response);
+        };
+
+    filter.doFilter(request, response, chain);
+  }
+
+  @Test
+  @DisplayName("본문 로깅이 꺼져 있으면 래핑하지 않는다")
+  void bodyDisabled_notWrapped() throws Exception {
+    properties.setBodyEnabled(false);
+    FilterChain chain = (req, res) -> assertThat(res).isSameAs(response);
+
+    filter.doFilter(request, response, chain);
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@SuppressWarnings("unchecked")
+class LocalBlacklistTest {
+
+  private static final long TTL_MILLIS = 60_000;
+
+  private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+  private final RedisTemplate<byte[], byte[]> binaryRedisTemplate = mock(RedisTemplate.class);
+  private final ValueOperations<byte[], byte[]> valueOperations = mock(ValueOperations.class);
+  private final LocalBlacklist localBlacklist =
+      new LocalBlacklist(
+          redisTemplate, binaryRedisTemplate, mock(RedisMessageListenerContainer.class));
+
+  private final byte[] blacklisted = TokenDigests.truncatedSha256("blacklisted");
+  private final byte[] other = TokenDigests.truncatedSha256("other");
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(localBlacklist, "maxSize", 100);
+    ReflectionTestUtils.setField(localBlacklist, "heartbeatIntervalMs", 5000L);
+    given(binaryRedisTemplate.opsForValue()).willReturn(valueOperations);
+    given(binaryRedisTemplate.getExpire(any(), eq(TimeUnit.MILLISECONDS))).willReturn(TTL_MILLIS);
+  }
+
+  /** 다음 SCAN 호출이 주어진 키를 순회하는 커서를 반환하도록 합니다. */
+  private void givenKeys(byte[]... keys) {
+    Iterator<byte[]> iterator = Arrays.asList(keys).iterator();
+    Cursor<byte[]> cursor = mock(Cursor.class);
+    given(cursor.hasNext()).willAnswer(invocation -> iterator.hasNext());
+    given(cursor.next()).willAnswer(invocation -> iterator.next());
+    willReturn(cursor).given(binaryRedisTemplate).scan(any(ScanOptions.class));
+  }
+
+  private static DefaultMessage message(String body) {
+    return new DefaultMessage(
+        LocalBlacklist.CHANNEL.getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("로딩 전에는 모든 토큰을 Redis로 확인한다")
+  void mightContain_beforeLoad() {
+    assertThat(localBlacklist.mightContain(other)).isTrue();
+  }
+
+  @Test
+  @DisplayName("로딩 후에는 블랙리스트에 있는 토큰만 Redis로 확인한다")
+  void reload_loadsDigestKeys() {
+    givenKeys(TokenRepository.blacklistKey(blacklisted));
+
+    localBlacklist.reload();
+
+    assertThat(localBlacklist.mightContain(blacklisted)).isTrue();
+    assertThat(localBlacklist.mightContain(other)).isFalse();
+  }
+
+  @Test
+  @DisplayName("토큰 원문을 키로 쓰던 이전 형식의 키는 남은 만료 시간으로 다이제스트 키로 옮긴다")
+  void reload_migratesLegacyKey() {
+    String token = "legacy.access.token";
+    byte[] legacyKey =
+        (TokenRepository.BLACKLIST_PREFIX + token).getBytes(StandardCharsets.UTF_8);
+    byte[] digest = TokenDigests.truncatedSha256(token);
+    givenKeys(legacyKey);
+
+    localBlacklist.reload();
+
+    verify(valueOperations)
+        .set(
+            TokenRepository.blacklistKey(digest),
+            TokenRepository.BLACKLISTED,
+            TTL_MILLIS,
+            TimeUnit.MILLISECONDS);
+    verify(binaryRedisTemplate).delete(legacyKey);
+    assertThat(localBlacklist.mightContain(digest)).isTrue();
+  }
+
+  @Test
+  @DisplayName("다른 서버의 블랙리스트 추가 알림을 로컬에 반영한다")
+  void onMessage_addsDigest() {
+    givenKeys();
+    localBlacklist.reload();
+
+    long expiresAt = System.currentTimeMillis() + TTL_MILLIS;
+    localBlacklist.onMessage(message(TokenDigests.encode(blacklisted) + "|" + expiresAt), null);
+
+    assertThat(localBlacklist.mightContain(blacklisted)).isTrue();
+    assertThat(localBlacklist.mightContain(other)).isFalse();
+  }
+
+  @Test
+  @DisplayName("블랙리스트에 추가하면 로컬에 반영하고 다른 서버에 알린다")
+  void publish_addsAndNotifies() {
+    givenKeys();
+    localBlacklist.reload();
+    long expiresAt = System.currentTimeMillis() + TTL_MILLIS;
+
+    localBlacklist.publish(blacklisted, expiresAt);
+
+    assertThat(localBlacklist.mightContain(blacklisted)).isTrue();
+    verify(redisTemplate)
+        .convertAndSend(LocalBlacklist.CHANNEL, TokenDigests.encode(blacklisted) + "|" + expiresAt);
+  }
+
+  @Test
+  @DisplayName("하트비트가 끊기면 Redis로 확인하고, 다시 도착하면 블랙리스트를 다시 읽어 온다")
+  void heartbeat_lostAndRecovered() {
+    givenKeys();
+    localBlacklist.start();
+    assertThat(localBlacklist.mightContain(other)).isFalse();
+
+    // 제한 시간(주기의 3배) 동안 하트비트를 받지 못함
+    ReflectionTestUtils.setField(
+        localBlacklist, "lastHeartbeatAt", System.currentTimeMillis() - 20_000);
+    localBlacklist.heartbeat();
+    assertThat(localBlacklist.mightContain(other)).isTrue();
+
+    // 끊긴 동안 추가된 토큰은 다시 읽을 때 반영됨
+    givenKeys(TokenRepository.blacklistKey(blacklisted));
+    localBlacklist.onMessage(message(LocalBlacklist.HEARTBEAT), null);
+    localBlacklist.heartbeat();
+
+    verify(binaryRedisTemplate, times(2)).scan(any(ScanOptions.class));
+    assertThat(localBlacklist.mightContain(blacklisted)).isTrue();
+    assertThat(localBlacklist.mightContain(other)).isFalse();
+  }
+
+  @Test
+  @DisplayName("하트비트가 제때 도착하면 다시 읽지 않는다")
+  void heartbeat_alive() {
+    givenKeys();
+    localBlacklist.start();
+
+    localBlacklist.onMessage(message(LocalBlacklist.HEARTBEAT), null);
+    localBlacklist.heartbeat();
+
+    verify(binaryRedisTemplate, times(1)).scan(any(ScanOptions.class));
+    verify(redisTemplate).convertAndSend(LocalBlacklist.CHANNEL, LocalBlacklist.HEARTBEAT);
+    assertThat(localBlacklist.mightContain(other)).isFalse();
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenDigestsTest {
+
+  private static final String TOKEN = "header.payload.signature";
+
+  @Test
+  @DisplayName("SHA-256 다이제스트는 알려진 값과 같다")
+  void digest_knownValue() {
+    // SHA-256("abc")의 URL-safe Base64
+    assertThat(TokenDigests.sha256("abc"))
+        .isEqualTo("ungWv48Bz-pBQUDeXa4iI7ADYaOWF3qctBD_YfIAFa0");
+  }
+
+  @Test
+  @DisplayName("Base64 다이제스트는 패딩 없는 URL-safe 43자 문자열이다")
+  void sha256_isUrlSafeWithoutPadding() {
+    String digest = TokenDigests.sha256(TOKEN);
+
+    assertThat(digest).hasSize(43).doesNotContain("=", "+", "/");
+  }
+
+  @Test
+  @DisplayName("잘린 다이제스트는 전체 다이제스트의 앞 16바이트다")
+  void truncatedSha256_isPrefixOfDigest() {
+    byte[] full = TokenDigests.digest(TOKEN);
+    byte[] truncated = TokenDigests.truncatedSha256(TOKEN);
+
+    assertThat(full).hasSize(32);
+    assertThat(truncated).hasSize(TokenDigests.TRUNCATED_LENGTH);
+    assertThat(truncated).isEqualTo(Arrays.copyOf(full, TokenDigests.TRUNCATED_LENGTH));
+    assertThat(TokenDigests.truncate(full)).isEqualTo(truncated);
+  }
+
+  @Test
+  @DisplayName("다른 토큰은 다른 다이제스트를 갖는다")
+  void digest_differsPerToken() {
+    assertThat(TokenDigests.sha256(TOKEN)).isNotEqualTo(TokenDigests.sha256(TOKEN + "x"));
+  }
+}
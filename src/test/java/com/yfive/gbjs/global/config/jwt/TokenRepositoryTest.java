@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.config.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@SuppressWarnings("unchecked")
+class TokenRepositoryTest {
+
+  private static final String USERNAME = "user";
+  private static final byte[] REFRESH_TOKEN_KEY = "refresh:user".getBytes(StandardCharsets.UTF_8);
+  private static final String REFRESH_TOKEN = "refresh.token.value";
+
+  private final RedisTemplate<byte[], byte[]> binaryRedisTemplate = mock(RedisTemplate.class);
+  private final ValueOperations<byte[], byte[]> valueOperations = mock(ValueOperations.class);
+  private final JwtProperties jwtProperties = mock(JwtProperties.class);
+  private final LocalBlacklist localBlacklist = mock(LocalBlacklist.class);
+  private final TokenRepository tokenRepository =
+      new TokenRepository(binaryRedisTemplate, jwtProperties, localBlacklist);
+
+  @BeforeEach
+  void setUp() {
+    given(binaryRedisTemplate.opsForValue()).willReturn(valueOperations);
+  }
+
+  @Test
+  @DisplayName("Refresh Token은 원문 대신 16바이트 다이제스트로 저장한다")
+  void saveRefreshToken_storesDigest() {
+    given(jwtProperties.getRefreshTokenTtlInDays()).willReturn(14);
+
+    tokenRepository.saveRefreshToken(USERNAME, REFRESH_TOKEN);
+
+    verify(valueOperations)
+        .set(REFRESH_TOKEN_KEY, TokenDigests.truncatedSha256(REFRESH_TOKEN), 14L, TimeUnit.DAYS);
+  }
+
+  @Test
+  @DisplayName("다이제스트로 저장된 Refresh Token과 비교한다")
+  void matchesRefreshToken_digest() {
+    given(valueOperations.get(REFRESH_TOKEN_KEY))
+        .willReturn(TokenDigests.truncatedSha256(REFRESH_TOKEN));
+
+    assertThat(tokenRepository.matchesRefreshToken(USERNAME, REFRESH_TOKEN)).isTrue();
+    assertThat(tokenRepository.matchesRefreshToken(USERNAME, "other.token")).isFalse();
+  }
+
+  @Test
+  @DisplayName("원문으로 저장된 이전 형식의 Refresh Token과도 비교한다")
+  void matchesRefreshToken_legacyRawToken() {
+    given(valueOperations.get(REFRESH_TOKEN_KEY))
+        .willReturn(REFRESH_TOKEN.getBytes(StandardCharsets.UTF_8));
+
+    assertThat(tokenRepository.matchesRefreshToken(USERNAME, REFRESH_TOKEN)).isTrue();
+    assertThat(tokenRepository.matchesRefreshToken(USERNAME, "other.token")).isFalse();
+  }
+
+  @Test
+  @DisplayName("저장된 Refresh Token이 없으면 일치하지 않는다")
+  void matchesRefreshToken_missing() {
+    assertThat(tokenRepository.matchesRefreshToken(USERNAME, REFRESH_TOKEN)).isFalse();
+  }
+
+  @Test
+  @DisplayName("로컬 사본에 없는 토큰은 Redis를 조회하지 않는다")
+  void isBlacklisted_skipsRedisWhenNotInLocalCopy() {
+    given(localBlacklist.mightContain(any())).willReturn(false);
+
+    assertThat(tokenRepository.isBlacklisted("access.token")).isFalse();
+    verify(binaryRedisTemplate, never()).hasKey(any());
+  }
+
+  @Test
+  @DisplayName("로컬 사본에 있는 토큰은 다이제스트 키로 Redis에서 확인한다")
+  void isBlacklisted_checksDigestKey() {
+    byte[] digest = TokenDigests.truncatedSha256("access.token");
+    given(localBlacklist.mightContain(any())).willReturn(true);
+    given(binaryRedisTemplate.hasKey(TokenRepository.blacklistKey(digest))).willReturn(true);
+
+    assertThat(tokenRepository.isBlacklisted("access.token")).isTrue();
+  }
+
+  @Test
+  @DisplayName("블랙리스트에 추가하면 다이제스트 키로 저장하고 로컬 사본에 알린다")
+  void addToBlacklist_storesDigestKey() {
+    byte[] digest = TokenDigests.truncatedSha256("access.token");
+
+    tokenRepository.addToBlacklist("access.token", 60);
+
+    verify(valueOperations)
+        .set(
+            TokenRepository.blacklistKey(digest),
+            TokenRepository.BLACKLISTED,
+            60L,
+            TimeUnit.SECONDS);
+    verify(localBlacklist).publish(aryEq(digest), anyLong());
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yfive.gbjs.global.config.http.ResilienceProperties.Policy;
+
+class BulkheadTest {
+
+  private Bulkhead newBulkhead(int maxConcurrentCalls, int maxWaitingCalls) {
+    Policy policy = new Policy(maxConcurrentCalls);
+    policy.setMaxWaitingCalls(maxWaitingCalls);
+    policy.setMaxWaitMs(10);
+    return new Bulkhead(policy);
+  }
+
+  @Test
+  @DisplayName("동시 호출 수까지는 허용하고 초과하면 대기 후 거절한다")
+  void rejectsWhenFull() {
+    Bulkhead bulkhead = newBulkhead(2, 1);
+
+    assertThat(bulkhead.tryAcquire()).isTrue();
+    assertThat(bulkhead.tryAcquire()).isTrue();
+    assertThat(bulkhead.getActiveCalls()).isEqualTo(2);
+
+    assertThat(bulkhead.tryAcquire()).isFalse();
+    assertThat(bulkhead.getWaitingCalls()).isZero();
+  }
+
+  @Test
+  @DisplayName("반환된 자리는 다시 사용할 수 있다")
+  void releaseFreesPermit() {
+    Bulkhead bulkhead = newBulkhead(1, 0);
+
+    assertThat(bulkhead.tryAcquire()).isTrue();
+    assertThat(bulkhead.tryAcquire()).isFalse();
+
+    bulkhead.release();
+
+    assertThat(bulkhead.getActiveCalls()).isZero();
+    assertThat(bulkhead.tryAcquire()).isTrue();
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.yfive.gbjs.global.config.http.ResilienceProperties.Policy;
+
+class CircuitBreakerTest {
+
+  private CircuitBreaker newCircuitBreaker(long openDurationMs) {
+    Policy policy = new Policy();
+    policy.setSlidingWindowSize(10);
+    policy.setMinimumCalls(4);
+    policy.setFailureRateThreshold(50);
+    policy.setOpenDurationMs(openDurationMs);
+    policy.setHalfOpenCalls(2);
+    return new CircuitBreaker("test", policy);
+  }
+
+  @Test
+  @DisplayName("최소 호출 수 전에는 실패해도 서킷이 열리지 않는다")
+  void staysClosedBelowMinimumCalls() {
+    CircuitBreaker circuitBreaker = newCircuitBreaker(60000);
+
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+  }
+
+  @Test
+  @DisplayName("실패율이 임계치를 넘으면 서킷이 열리고 호출을 거절한다")
+  void opensWhenFailureRateExceedsThreshold() {
+    CircuitBreaker circuitBreaker = newCircuitBreaker(60000);
+
+    circuitBreaker.onSuccess();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+  }
+
+  @Test
+  @DisplayName("열린 시간이 지나면 반열림 상태에서 정해진 수만큼만 허용하고, 모두 성공하면 닫힌다")
+  void halfOpenClosesAfterSuccessfulTrialCalls() {
+    CircuitBreaker circuitBreaker = newCircuitBreaker(0);
+    for (int i = 0; i < 4; i++) {
+      circuitBreaker.onFailure();
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+    circuitBreaker.onSuccess();
+    circuitBreaker.onSuccess();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(circuitBreaker.getFailureRate()).isZero();
+  }
+
+  @Test
+  @DisplayName("반열림 상태에서 실패하면 다시 열린다")
+  void halfOpenReopensOnFailure() {
+    CircuitBreaker circuitBreaker = newCircuitBreaker(0);
+    for (int i = 0; i < 4; i++) {
+      circuitBreaker.onFailure();
+    }
+    circuitBreaker.tryAcquirePermission();
+
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  @DisplayName("오래된 호출 결과는 슬라이딩 윈도우에서 밀려난다")
+  void slidingWindowForgetsOldOutcomes() {
+    CircuitBreaker circuitBreaker = newCircuitBreaker(60000);
+    circuitBreaker.onFailure();
+    for (int i = 0; i < 10; i++) {
+      circuitBreaker.onSuccess();
+    }
+
+    assertThat(circuitBreaker.getFailureRate()).isZero();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+}
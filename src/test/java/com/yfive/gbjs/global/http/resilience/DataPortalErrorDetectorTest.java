@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DataPortalErrorDetectorTest {
+
+  private boolean isError(String body) {
+    return DataPortalErrorDetector.isError(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("정상 응답과 데이터 없음 응답은 오류가 아니다")
+  void successCodes() {
+    String ok = "{\"response\":{\"header\":{\"resultCode\":\"0000\",\"resultMsg\":\"OK\"}}}";
+    assertThat(isError(ok)).isFalse();
+    assertThat(isError("{\"response\":{\"header\":{\"resultCode\":\"00\"}}}")).isFalse();
+    assertThat(isError("{\"response\":{\"header\":{\"resultCode\":\"03\"}}}")).isFalse();
+  }
+
+  @Test
+  @DisplayName("HTTP 200이라도 resultCode가 오류 코드면 오류다")
+  void jsonErrorCode() {
+    assertThat(isError("{\"resultCode\":\"22\",\"resultMsg\":\"LIMITED_NUMBER_OF_REQUESTS\"}"))
+        .isTrue();
+    assertThat(isError("{\"response\":{\"header\":{\"resultCode\":\"05\"}}}")).isTrue();
+  }
+
+  @Test
+  @DisplayName("게이트웨이 XML 오류 응답은 오류다")
+  void xmlGatewayError() {
+    String body =
+        "<OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg>"
+            + "<returnReasonCode>22</returnReasonCode></cmmMsgHeader></OpenAPI_ServiceResponse>";
+    assertThat(isError(body)).isTrue();
+    assertThat(isError("<response><header><resultCode>01</resultCode></header></response>"))
+        .isTrue();
+    assertThat(isError("<response><header><resultCode>00</resultCode></header></response>"))
+        .isFalse();
+  }
+
+  @Test
+  @DisplayName("resultCode가 없거나 본문이 비어 있으면 오류로 보지 않는다")
+  void unknownBody() {
+    assertThat(isError("")).isFalse();
+    assertThat(isError("{\"items\":[]}")).isFalse();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 YFIVE
+ */
+package com.yfive.gbjs.global.http.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.yfive.gbjs.global.config.http.ResilienceProperties.Policy;
+import com.yfive.gbjs.global.http.ExternalApi;
+
+class UpstreamGuardInterceptorTest {
+
+  private UpstreamGuard upstreamGuard;
+  private UpstreamGuardInterceptor interceptor;
+  private ClientHttpRequestExecution execution;
+  private ClientHttpResponse response;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    Policy policy = new Policy(1);
+    policy.setMinimumCalls(1);
+    policy.setFailureRateThreshold(100);
+    upstreamGuard = new UpstreamGuard(ExternalApi.KTO, policy);
+    interceptor = new UpstreamGuardInterceptor(upstreamGuard, DataPortalErrorDetector::isError);
+    execution = mock(ClientHttpRequestExecution.class);
+    response = mock(ClientHttpResponse.class);
+    when(execution.execute(any(), any())).thenReturn(response);
+  }
+
+  @Test
+  @DisplayName("상태 코드를 읽다 실패해도 동시 호출 수를 반환한다")
+  void releasesPermitWhenStatusFails() throws IOException {
+    when(response.getStatusCode()).thenThrow(new IOException("connection reset"));
+
+    assertThatThrownBy(
+            () -> interceptor.intercept(mock(HttpRequest.class), new byte[0], execution))
+        .isInstanceOf(IOException.class);
+
+    assertThat(upstreamGuard.getBulkhead().getActiveCalls()).isZero();
+    assertThat(upstreamGuard.getCircuitBreaker().getFailureRate()).isEqualTo(100);
+    verify(response).close();
+  }
+
+  @Test
+  @DisplayName("HTTP 200 오류 본문은 실패로 기록하고, 본문은 처음부터 다시 읽을 수 있다")
+  void countsErrorBodyAsFailure() throws IOException {
+    String body = "{\"resultCode\":\"22\",\"resultMsg\":\"LIMITED\"}";
+    when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+    when(response.getBody())
+        .thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+    ClientHttpResponse guarded =
+        interceptor.intercept(mock(HttpRequest.class), new byte[0], execution);
+
+    assertThat(upstreamGuard.getCircuitBreaker().getState())
+        .isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(new String(guarded.getBody().readAllBytes(), StandardCharsets.UTF_8))
+        .isEqualTo(body);
+
+    guarded.close();
+    assertThat(upstreamGuard.getBulkhead().getActiveCalls()).isZero();
+  }
+
+  @Test
+  @DisplayName("정상 응답은 성공으로 기록하고 응답이 닫힐 때 동시 호출 수를 반환한다")
+  void recordsSuccess() throws IOException {
+    when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+    when(response.getBody())
+        .thenReturn(
+            new ByteArrayInputStream(
+                "{\"response\":{\"header\":{\"resultCode\":\"0000\"}}}"
+                    .getBytes(StandardCharsets.UTF_8)));
+
+    ClientHttpResponse guarded =
+        interceptor.intercept(mock(HttpRequest.class), new byte[0], execution);
+
+    assertThat(upstreamGuard.getBulkhead().getActiveCalls()).isEqualTo(1);
+    assertThat(upstreamGuard.getCircuitBreaker().getState())
+        .isEqualTo(CircuitBreaker.State.CLOSED);
+
+    guarded.close();
+    assertThat(upstreamGuard.getBulkhead().getActiveCalls()).isZero();
+  }
+}